@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the plain executable jar against the layered jar with an AppCDS archive
+# and the fast-startup profile (the way the Docker image runs it), then prints both side by side.
+#   benchmarks/compare-startup.sh
+#   RUNS=10 PROFILES= benchmarks/compare-startup.sh    # against the database from DB_* instead of in-memory H2
+# Needs the app built: ./mvnw package -DskipTests
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${JAR:-$(ls "$ROOT"/target/*-exec.jar | head -n 1)}"
+PORT="${PORT:-8080}"
+PROFILES="${PROFILES-loadtest}"
+RUNS="${RUNS:-5}"
+TARGET="$ROOT/benchmarks/target"
+EXTRACTED="$TARGET/startup-extracted"
+RESULTS="${RESULTS:-$TARGET/startup-$(date +%Y%m%d-%H%M%S).jsonl}"
+
+mkdir -p "$TARGET"
+"$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" compile
+
+# Same steps as the Dockerfile: extract, then one training run that writes the class archive
+rm -rf "$EXTRACTED"
+java -Djarmode=tools -jar "$JAR" extract --destination "$EXTRACTED"
+APP_JAR="$EXTRACTED/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$EXTRACTED/application.jsa" -Dspring.context.exit=onRefresh \
+  -jar "$APP_JAR" --spring.profiles.active=loadtest > "$TARGET/startup-training.log" 2>&1
+
+measure() {
+  local label="$1"; shift
+  "$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" exec:java \
+    -Dexec.mainClass=com.wesports.benchmarks.load.StartupBenchmark \
+    -Dexec.args="--label=$label --runs=$RUNS --url=http://localhost:$PORT/actuator/health --results=$RESULTS \
+      --log=$TARGET/startup-$label.log -- $* --server.port=$PORT"
+}
+
+measure baseline java -jar "$JAR" --spring.profiles.active="$PROFILES"
+measure fast-startup java -XX:SharedArchiveFile="$EXTRACTED/application.jsa" -jar "$APP_JAR" \
+  --spring.profiles.active="${PROFILES:+$PROFILES,}fast-startup"
+
+"$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" exec:java \
+  -Dexec.mainClass=com.wesports.benchmarks.load.StartupBenchmark -Dexec.args="--mode=compare --results=$RESULTS"
@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# Runs the login, /api/player/me and registration load scenarios against the same jar twice,
+# once on platform threads and once with the virtual-threads profile, then prints both side by side.
+#
+# Needs a Java 21 runtime, the app built and installed with ./mvnw -Pjava21 install -DskipTests, the usual DB_* / JWT_SECRET
+# variables for the app (use a scratch database: registration creates users) and an existing
+# account for login and /me:
+#   BENCH_EMAIL=player@example.com BENCH_PASSWORD=... benchmarks/compare-thread-models.sh
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${JAR:-$(ls "$ROOT"/target/*-exec.jar | head -n 1)}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+CONCURRENCY="${CONCURRENCY:-200}"
+DURATION="${DURATION:-PT60S}"
+RESULTS="${RESULTS:-$ROOT/benchmarks/target/thread-models-$(date +%Y%m%d-%H%M%S).jsonl}"
+: "${BENCH_EMAIL:?set BENCH_EMAIL to an existing account}"
+: "${BENCH_PASSWORD:?set BENCH_PASSWORD}"
+
+"$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" -Djava.version=21 compile
+
+run_mode() {
+  local label="$1"; shift
+  java "$@" -jar "$JAR" > "$ROOT/benchmarks/target/app-$label.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+  until curl -fs "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+  for scenario in login me register; do
+    "$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" exec:java -Dexec.args="--scenario=$scenario --label=$label \
+      --base-url=$BASE_URL --concurrency=$CONCURRENCY --duration=$DURATION --results=$RESULTS \
+      --email=$BENCH_EMAIL --password=$BENCH_PASSWORD"
+  done
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+mkdir -p "$ROOT/benchmarks/target"
+run_mode platform
+run_mode virtual -Dspring.profiles.active=virtual-threads
+
+"$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" exec:java -Dexec.args="--mode=compare --results=$RESULTS"
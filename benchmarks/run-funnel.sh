@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Starts the app with the loadtest profile (in-memory H2, OTPs captured instead of mailed), drives the
+# registration/onboarding funnel at an open arrival rate and stops the app again.
+#   benchmarks/run-funnel.sh                               # 10 new users/s for 60s
+#   RATE=50 DURATION=PT120S benchmarks/run-funnel.sh --arrivals=uniform
+# Extra args go to FunnelLoadGenerator. Needs the app built and installed: ./mvnw install -DskipTests
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${JAR:-$(ls "$ROOT"/target/*-exec.jar | head -n 1)}"
+PORT="${PORT:-8080}"
+PROFILES="${PROFILES:-loadtest}"   # e.g. loadtest,virtual-threads
+RATE="${RATE:-10}"
+DURATION="${DURATION:-PT60S}"
+LABEL="${LABEL:-$(git -C "$ROOT" rev-parse --short HEAD)}"
+TARGET="$ROOT/benchmarks/target"
+
+mkdir -p "$TARGET"
+"$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" compile
+
+java ${JAVA_OPTS:-} -jar "$JAR" --spring.profiles.active="$PROFILES" --server.port="$PORT" > "$TARGET/app-funnel.log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+until curl -fs "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+"$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" exec:java \
+  -Dexec.mainClass=com.wesports.benchmarks.load.FunnelLoadGenerator \
+  -Dexec.args="--base-url=http://localhost:$PORT --rate=$RATE --duration=$DURATION --label=$LABEL \
+    --results=$TARGET/funnel-results.jsonl --histograms=$TARGET/funnel-histograms $*"
@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# Builds and runs the JMH suites, storing the JSON result under benchmarks/results/ named after
+# the date and commit, and compares it with BASELINE (default: the previous result file) if any.
+#   benchmarks/run-jmh.sh                        # all suites
+#   benchmarks/run-jmh.sh AccessTokenBenchmark   # extra args are passed to JMH (include regex, -f, -wi, ...)
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RESULTS_DIR="$ROOT/benchmarks/results"
+mkdir -p "$RESULTS_DIR"
+
+"$ROOT/mvnw" -q -f "$ROOT/pom.xml" install -DskipTests
+"$ROOT/mvnw" -q -f "$ROOT/benchmarks/pom.xml" package
+
+PREVIOUS="$(ls -1 "$RESULTS_DIR"/*.json 2>/dev/null | sort | tail -n 1 || true)"
+CURRENT="$RESULTS_DIR/$(date +%Y%m%d-%H%M%S)-$(git -C "$ROOT" rev-parse --short HEAD).json"
+
+(cd "$ROOT/benchmarks" && java -jar target/benchmarks.jar -rf json -rff "$CURRENT" "$@")
+
+BASELINE="${BASELINE:-$PREVIOUS}"
+if [[ -n "$BASELINE" ]]; then
+  java -cp "$ROOT/benchmarks/target/benchmarks.jar" com.wesports.benchmarks.jmh.JmhResultComparison "$BASELINE" "$CURRENT"
+fi
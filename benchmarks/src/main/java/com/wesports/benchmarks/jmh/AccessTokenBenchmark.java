@@ -0,0 +1,57 @@
+package com.wesports.benchmarks.jmh;
+
+import com.wesports.backend.infrastructure.security.AccessTokenService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token issue and validation (HS256 sign / verify and claims parsing), done on every login
+ * and on every authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenBenchmark {
+
+    private AccessTokenService accessTokenService;
+    private String userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        accessTokenService = new AccessTokenService(Fixtures.JWT_SECRET, Duration.ofMinutes(15));
+        userId = UUID.randomUUID().toString();
+        token = accessTokenService.generateAccessToken(userId, Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String generate() {
+        return accessTokenService.generateAccessToken(userId, Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public Claims validate() {
+        return accessTokenService.validateAccessToken(token);
+    }
+
+    @Benchmark
+    public String extractUserId() {
+        return accessTokenService.extractUserId(token);
+    }
+}
@@ -0,0 +1,60 @@
+package com.wesports.benchmarks.jmh;
+
+import com.wesports.backend.domain.valueobject.Email;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email.of: trim, lower-case and regex validation, run for every login, registration and import row
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    private String valid;
+    private String mixedCase;
+    private String invalid;
+
+    @Setup
+    public void setUp() {
+        valid = Fixtures.EMAIL;
+        mixedCase = "  Jane.Doe+Scouting@Example.COM ";
+        invalid = "jane.doe@@example";
+    }
+
+    @Benchmark
+    public Email valid() {
+        return Email.of(valid);
+    }
+
+    @Benchmark
+    public Email normalized() {
+        return Email.of(mixedCase);
+    }
+
+    /**
+     * Rejection path: validation failure plus exception construction
+     */
+    @Benchmark
+    public Object invalid() {
+        try {
+            return Email.of(invalid);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
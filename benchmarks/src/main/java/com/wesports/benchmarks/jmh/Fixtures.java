@@ -0,0 +1,65 @@
+package com.wesports.benchmarks.jmh;
+
+import com.wesports.backend.application.dto.PlayerProfileResponse;
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.Gender;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import com.wesports.backend.domain.valueobject.RegistrationStep;
+import com.wesports.backend.domain.valueobject.UserRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representative domain objects and settings shared by the suites
+ */
+final class Fixtures {
+
+    /** 32 random bytes, base64: the minimum key size for HS256 */
+    static final String JWT_SECRET = "q0m3vJb1ZB8sC4Gx2f5yKQeWmT7uN9aLrS6dHpVcXoI=";
+
+    static final String EMAIL = "jane.doe@example.com";
+
+    private Fixtures() {
+    }
+
+    static User user() {
+        User user = new User("Jane", "Doe", Email.of(EMAIL), Gender.FEMALE, LocalDate.of(2007, 4, 12));
+        user.setNationality("FR");
+        user.setLieuDeResidence("Lyon, France");
+        user.setLanguages(List.of("fr", "en"));
+        user.setUserRole(UserRole.PLAYER);
+        user.setRegistrationStep(RegistrationStep.ONBOARDING);
+        user.setEmailVerified(true);
+        user.setVersion(3L);
+        return user;
+    }
+
+    static Player player(User user) {
+        Player player = new Player(user.getId());
+        player.updateProfile("https://cdn.example.com/p/jane.jpg", 168f, 58f);
+        player.updatePosition(Position.ST);
+        player.updateCategory(Category.U17);
+        player.updatePreferredFoot(PreferredFoot.RIGHT);
+        player.setVersion(2L);
+        return player;
+    }
+
+    /** A complete /api/player/me payload, every field set */
+    static PlayerProfileResponse playerProfile() {
+        User user = user();
+        return PlayerProfileResponse.success(
+            user.getId().getValue(), "Jane", "Doe", EMAIL, "FEMALE", LocalDate.of(2007, 4, 12),
+            UUID.fromString("22b0ab26-4d66-4379-9eee-5a4bd7768f88"), List.of("WESPORT", "GOOGLE"),
+            LocalDateTime.of(2025, 3, 1, 9, 30, 12), LocalDateTime.of(2025, 6, 14, 18, 2, 45), "PLAYER",
+            "FR", "Lyon, France", List.of("fr", "en"), true, "https://cdn.example.com/p/jane.jpg",
+            168f, 58f, UUID.fromString("6c0f8a3e-2b1d-4e57-9a64-0d3c7f5b8e21"), "ST", "U17",
+            true, true, true, true);
+    }
+}
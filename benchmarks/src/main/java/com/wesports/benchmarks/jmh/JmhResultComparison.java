@@ -0,0 +1,84 @@
+package com.wesports.benchmarks.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark
+ * A change is flagged when the scores differ by more than both error margins combined;
+ * exits with status 1 when any benchmark got slower by that criterion, so CI can gate on it.
+ *
+ * Usage: java -cp target/benchmarks.jar com.wesports.benchmarks.jmh.JmhResultComparison baseline.json current.json
+ */
+public final class JmhResultComparison {
+
+    private JmhResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: JmhResultComparison <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> current = read(Path.of(args[1]));
+
+        boolean regressed = false;
+        System.out.printf("%-80s %14s %14s %9s  %s%n", "benchmark", "baseline", "current", "change", "");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue().get("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey()) ? baseline.get(entry.getKey()).get("primaryMetric") : null;
+            String unit = now.get("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-80s %14s %14s %9s  new%n", entry.getKey(), "-", format(now.get("score").asDouble(), unit), "");
+                continue;
+            }
+            double oldScore = before.get("score").asDouble();
+            double newScore = now.get("score").asDouble();
+            double change = (newScore - oldScore) / oldScore * 100;
+            double noise = error(before) + error(now);
+            // Time-per-operation modes: higher is slower; throughput modes: lower is slower
+            boolean higherIsWorse = !unit.startsWith("ops/");
+            boolean significant = Math.abs(newScore - oldScore) > noise;
+            boolean worse = significant && (higherIsWorse ? newScore > oldScore : newScore < oldScore);
+            regressed |= worse;
+            System.out.printf("%-80s %14s %14s %+8.1f%%  %s%n", entry.getKey(), format(oldScore, unit),
+                format(newScore, unit), change, !significant ? "" : worse ? "SLOWER" : "faster");
+        }
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            results.put(key(run), run);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        String benchmark = run.get("benchmark").asText().replace("com.wesports.benchmarks.jmh.", "");
+        Map<String, String> params = new LinkedHashMap<>();
+        if (run.has("params")) {
+            run.get("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        }
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.3f %s", score, unit);
+    }
+}
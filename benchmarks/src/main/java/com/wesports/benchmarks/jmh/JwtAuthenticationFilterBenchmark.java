@@ -0,0 +1,106 @@
+package com.wesports.benchmarks.jmh;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.UserRepository;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.security.AccessTokenService;
+import com.wesports.backend.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter on a mock request and an empty chain: token extraction, validation,
+ * user lookup (in-memory stub, no database) and SecurityContext population
+ * filterLogLevel=INFO measures the filter with its per-request logging enabled, as deployed today.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+    @Param({"WARN", "INFO"})
+    public String filterLogLevel;
+
+    private JwtAuthenticationFilter filter;
+    private String bearerHeader;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(JwtAuthenticationFilter.class)).setLevel(Level.toLevel(filterLogLevel));
+
+        User user = Fixtures.user();
+        AccessTokenService accessTokenService = new AccessTokenService(Fixtures.JWT_SECRET, Duration.ofMinutes(15));
+        filter = new JwtAuthenticationFilter(accessTokenService, userRepositoryReturning(user));
+        bearerHeader = "Bearer " + accessTokenService.generateAccessToken(user.getId(), Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/me");
+        request.addHeader("Authorization", bearerHeader);
+        return filterAndReset(request);
+    }
+
+    @Benchmark
+    public Authentication excludedPath() throws ServletException, IOException {
+        return filterAndReset(new MockHttpServletRequest("POST", "/api/auth/login"));
+    }
+
+    @Benchmark
+    public Authentication missingToken() throws ServletException, IOException {
+        return filterAndReset(new MockHttpServletRequest("GET", "/api/player/me"));
+    }
+
+    private Authentication filterAndReset(MockHttpServletRequest request) throws ServletException, IOException {
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), EMPTY_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Stub that answers findById with the fixture user; the filter calls nothing else
+     */
+    private static UserRepository userRepositoryReturning(User user) {
+        return (UserRepository) Proxy.newProxyInstance(
+            UserRepository.class.getClassLoader(),
+            new Class<?>[] {UserRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findById")) {
+                    return user.getId().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,68 @@
+package com.wesports.benchmarks.jmh;
+
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.infrastructure.persistence.entity.PlayerEntity;
+import com.wesports.backend.infrastructure.persistence.entity.UserEntity;
+import com.wesports.backend.infrastructure.persistence.mapper.PlayerMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain/entity mapping done on every repository read and write of users and players
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+    private final PlayerMapper playerMapper = new PlayerMapper();
+
+    private User user;
+    private UserEntity userEntity;
+    private Player player;
+    private PlayerEntity playerEntity;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user();
+        userEntity = userMapper.toEntity(user);
+        player = Fixtures.player(user);
+        playerEntity = playerMapper.toEntity(player);
+    }
+
+    @Benchmark
+    public UserEntity userToEntity() {
+        return userMapper.toEntity(user);
+    }
+
+    @Benchmark
+    public User userToDomain() {
+        return userMapper.toDomain(userEntity);
+    }
+
+    @Benchmark
+    public PlayerEntity playerToEntity() {
+        return playerMapper.toEntity(player);
+    }
+
+    @Benchmark
+    public Player playerToDomain() {
+        return playerMapper.toDomain(playerEntity);
+    }
+}
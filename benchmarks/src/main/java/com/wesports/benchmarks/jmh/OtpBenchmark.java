@@ -0,0 +1,57 @@
+package com.wesports.benchmarks.jmh;
+
+import com.wesports.backend.domain.model.OTP;
+import com.wesports.backend.domain.valueobject.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OTP creation (random code generation) and verification of a stored OTP, as in register/start and verify-otp
+ * Verification builds the OTP as it is loaded from the database, since verify() consumes an attempt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OtpBenchmark {
+
+    private UserId userId;
+    private UUID otpId;
+    private LocalDateTime createdAt;
+
+    @Setup
+    public void setUp() {
+        userId = UserId.of(UUID.randomUUID());
+        otpId = UUID.randomUUID();
+        createdAt = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public OTP generate() {
+        return new OTP(userId, "REGISTRATION", "en");
+    }
+
+    @Benchmark
+    public boolean verifyCorrectCode() {
+        return new OTP(otpId, userId, "482913", createdAt, 0, "REGISTRATION", "en").verify("482913");
+    }
+
+    @Benchmark
+    public boolean verifyWrongCode() {
+        return new OTP(otpId, userId, "482913", createdAt, 0, "REGISTRATION", "en").verify("000000");
+    }
+}
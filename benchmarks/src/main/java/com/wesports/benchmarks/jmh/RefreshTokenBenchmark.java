@@ -0,0 +1,68 @@
+package com.wesports.benchmarks.jmh;
+
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.security.RefreshTokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh token operations against the in-memory store, with the store pre-filled to a realistic size
+ * Issued tokens are revoked in the same invocation so the store does not grow during the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenBenchmark {
+
+    private static final int ACTIVE_SESSIONS = 100_000;
+
+    private RefreshTokenService refreshTokenService;
+    private UserId userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        refreshTokenService = new RefreshTokenService();
+        for (int i = 0; i < ACTIVE_SESSIONS; i++) {
+            refreshTokenService.generateRefreshToken(UserId.of(UUID.randomUUID()), "user" + i + "@example.com");
+        }
+        userId = UserId.of(UUID.randomUUID());
+        token = refreshTokenService.generateRefreshToken(userId, Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String generateAndRevoke() {
+        String issued = refreshTokenService.generateRefreshToken(userId, Fixtures.EMAIL);
+        refreshTokenService.revokeRefreshToken(issued);
+        return issued;
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return refreshTokenService.validateRefreshToken(token);
+    }
+
+    @Benchmark
+    public String extractUserId() {
+        return refreshTokenService.extractUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public boolean validateUnknown() {
+        return refreshTokenService.validateRefreshToken("unknown-token");
+    }
+}
@@ -0,0 +1,507 @@
+package com.wesports.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the whole sign-up funnel: new users arrive at a fixed rate (Poisson
+ * or evenly spaced) whatever the response times, and each one walks registration, onboarding,
+ * /api/player/me, refresh and logout. A journey stops at its first failed step. With
+ * --onboarding=batched the three onboarding steps are replaced by one POST /api/onboarding/submit.
+ * Reports per-step latency percentiles, an error breakdown per step and, read back from the app,
+ * the JDBC statements each step issued. Meant for an app started with the loadtest profile (H2,
+ * OTPs captured in memory); see benchmarks/run-funnel.sh.
+ *
+ * Run: ./mvnw -f benchmarks/pom.xml compile exec:java -Dexec.mainClass=com.wesports.benchmarks.load.FunnelLoadGenerator \
+ *        -Dexec.args="--rate=20 --duration=PT60S"
+ */
+public final class FunnelLoadGenerator {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String PASSWORD = "LoadTest1!";
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private FunnelLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        double rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+        boolean poisson = !"uniform".equals(options.getOrDefault("arrivals", "poisson"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        Duration drain = Duration.parse(options.getOrDefault("drain", "PT60S"));
+        Duration requestTimeout = Duration.parse(options.getOrDefault("request-timeout", "PT30S"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "2000"));
+        String label = options.getOrDefault("label", "unlabelled");
+        Path results = Path.of(options.getOrDefault("results", "target/funnel-results.jsonl"));
+        Path histograms = Path.of(options.getOrDefault("histograms", "target/funnel-histograms")).resolve(label);
+        boolean batched = "batched".equals(options.getOrDefault("onboarding", "steps"));
+        List<Step> steps = Step.journey(batched);
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        Funnel funnel = new Funnel(client, baseUrl, requestTimeout, steps);
+        funnel.resetServerStatements();
+
+        Stats stats = new Stats(steps);
+        run(funnel, stats, rate, poisson, warmup, duration, drain, maxInFlight);
+        Map<String, JsonNode> statements = funnel.serverStatements();
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("timestamp", Instant.now().toString());
+        line.put("label", label);
+        line.put("arrivals", poisson ? "poisson" : "uniform");
+        line.put("onboarding", batched ? "batched" : "steps");
+        line.put("ratePerSecond", rate);
+        line.put("durationSeconds", duration.toSeconds());
+        line.putAll(stats.journeySummary(duration));
+        line.put("steps", stats.stepSummaries(statements));
+
+        print(stats, line, statements);
+        writeHistograms(stats, histograms);
+        String json = JSON.writeValueAsString(line);
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        Files.writeString(results, json + System.lineSeparator(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Dispatches journeys at their scheduled arrival times; a late dispatcher never delays the
+     * schedule, and journey latency is measured from the scheduled arrival (no coordinated omission)
+     */
+    private static void run(Funnel funnel, Stats stats, double rate, boolean poisson, Duration warmup,
+                            Duration duration, Duration drain, int maxInFlight) throws InterruptedException {
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "funnel-journey-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger inFlight = new AtomicInteger();
+        SplittableRandom random = new SplittableRandom(42);
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        long arrival = start;
+        while (arrival < stopAt) {
+            long wait = arrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = arrival >= measureFrom;
+            if (inFlight.get() >= maxInFlight) {
+                if (measured) {
+                    stats.dropped.increment();
+                }
+            } else {
+                long scheduled = arrival;
+                inFlight.incrementAndGet();
+                if (measured) {
+                    stats.arrived.increment();
+                }
+                executor.execute(() -> {
+                    try {
+                        funnel.journey(scheduled, measured ? stats : null);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            double gap = poisson ? -Math.log(1 - random.nextDouble()) * meanGapNanos : meanGapNanos;
+            arrival += Math.max(1, (long) gap);
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(drain.toMillis(), TimeUnit.MILLISECONDS)) {
+            System.err.println(inFlight.get() + " journeys still running after " + drain + ", reporting without them");
+        }
+    }
+
+    private static void print(Stats stats, Map<String, Object> line, Map<String, JsonNode> statements) {
+        System.out.printf("%-16s %8s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+            "step", "ok", "errors", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms", "stmt/req", "stmt max");
+        for (Step step : stats.steps.keySet()) {
+            StepStats s = stats.steps.get(step);
+            Histogram h = s.latency;
+            JsonNode db = statements.get(step.label);
+            System.out.printf("%-16s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9s %9s%n",
+                step.label, s.ok.sum(), s.errorCount(),
+                millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()),
+                db == null ? "n/a" : db.get("mean").asText(), db == null ? "n/a" : db.get("max").asText());
+        }
+        System.out.println();
+        System.out.printf("journeys: %s arrived, %s completed, %s dropped (max in flight), %.1f completed/s, " +
+                "p50 %.2f ms, p99 %.2f ms%n",
+            line.get("journeysArrived"), line.get("journeysCompleted"), line.get("journeysDropped"),
+            (Double) line.get("completedPerSecond"),
+            millis(stats.journey.getValueAtPercentile(50)), millis(stats.journey.getValueAtPercentile(99)));
+        for (Step step : stats.steps.keySet()) {
+            stats.steps.get(step).errors.forEach((reason, count) ->
+                System.out.printf("  %-16s %6d  %s%n", step.label, count.sum(), reason));
+        }
+    }
+
+    /**
+     * One HdrHistogram percentile distribution per step (values in milliseconds), plottable as-is
+     */
+    private static void writeHistograms(Stats stats, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Step step : stats.steps.keySet()) {
+            write(stats.steps.get(step).latency, directory.resolve(step.label + ".hgrm"));
+        }
+        write(stats.journey, directory.resolve("journey.hgrm"));
+        System.out.println("Histograms written to " + directory);
+    }
+
+    private static void write(Histogram histogram, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 1e6);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    enum Step {
+        REGISTER_START("register-start"),
+        VERIFY_OTP("verify-otp"),
+        SETUP_PASSWORD("setup-password"),
+        SELECT_ROLE("select-role"),
+        PROFILE_FORM("profile-form"),
+        GENDER("gender"),
+        CATEGORIES("categories"),
+        POSITION("position"),
+        ONBOARDING("onboarding"),
+        ME("me"),
+        REFRESH("refresh"),
+        LOGOUT("logout");
+
+        /** Also sent as X-Load-Step, under which the app counts the step's JDBC statements */
+        private final String label;
+
+        Step(String label) {
+            this.label = label;
+        }
+
+        /**
+         * The steps one journey walks: the three onboarding steps, or the single batched submission
+         */
+        static List<Step> journey(boolean batchedOnboarding) {
+            List<Step> steps = new ArrayList<>(List.of(values()));
+            if (batchedOnboarding) {
+                steps.removeAll(List.of(GENDER, CATEGORIES, POSITION));
+            } else {
+                steps.remove(ONBOARDING);
+            }
+            return List.copyOf(steps);
+        }
+    }
+
+    /**
+     * Builds and checks each step's request; the tokens a journey collects feed the later steps
+     */
+    private static final class Funnel {
+        private final HttpClient client;
+        private final String baseUrl;
+        private final Duration requestTimeout;
+        private final List<Step> steps;
+        private final String runId = Long.toString(System.currentTimeMillis(), 36);
+        private final AtomicLong sequence = new AtomicLong();
+
+        private Funnel(HttpClient client, String baseUrl, Duration requestTimeout, List<Step> steps) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.requestTimeout = requestTimeout;
+            this.steps = steps;
+        }
+
+        /**
+         * Runs one user through every step; stats is null for warm-up journeys
+         */
+        private void journey(long scheduledNanos, Stats stats) {
+            Journey journey = new Journey("funnel-" + runId + "-" + sequence.incrementAndGet() + "@example.com");
+            for (Step step : steps) {
+                long begin = System.nanoTime();
+                String error;
+                try {
+                    error = execute(step, journey, stats != null);
+                } catch (IOException e) {
+                    error = e.getClass().getSimpleName();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (stats == null) {
+                    if (error != null) {
+                        return;
+                    }
+                    continue;
+                }
+                StepStats stepStats = stats.steps.get(step);
+                stepStats.latency.recordValue(Math.min(System.nanoTime() - begin, HIGHEST_TRACKABLE_NANOS));
+                if (error != null) {
+                    stepStats.errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+                    return;
+                }
+                stepStats.ok.increment();
+            }
+            if (stats != null) {
+                stats.completed.increment();
+                stats.journey.recordValue(Math.min(System.nanoTime() - scheduledNanos, HIGHEST_TRACKABLE_NANOS));
+            }
+        }
+
+        /**
+         * Sends the step and returns null on success, otherwise a short reason for the error breakdown
+         */
+        private String execute(Step step, Journey journey, boolean tagged) throws IOException, InterruptedException {
+            HttpRequest.Builder request = switch (step) {
+                case REGISTER_START -> post("/api/auth/register/start",
+                    Map.of("email", journey.email, "language", "en"));
+                case VERIFY_OTP -> {
+                    String otp = capturedOtp(journey.email);
+                    if (otp == null) {
+                        yield null;
+                    }
+                    yield post("/api/auth/register/verify-otp", Map.of("email", journey.email, "otp", otp));
+                }
+                case SETUP_PASSWORD -> post("/api/auth/register/setup-password", Map.of(
+                    "registrationToken", journey.registrationToken, "password", PASSWORD, "confirmPassword", PASSWORD));
+                case SELECT_ROLE -> bearer(post("/api/auth/register/select-role", Map.of("role", "PLAYER")),
+                    journey.accessToken);
+                case PROFILE_FORM -> bearer(post("/api/auth/register/profile-form", Map.of(
+                    "firstName", "Load", "lastName", "Tester", "birthDate", "2009-05-17", "nationality", "MA",
+                    "lieuDeResidence", "Casablanca", "languages", List.of("en", "fr"))), journey.accessToken);
+                case GENDER -> bearer(post("/api/onboarding/gender", Map.of("gender", "MALE")), journey.accessToken);
+                case CATEGORIES -> bearer(post("/api/onboarding/categories", Map.of("categoryCodes", List.of("U17"))),
+                    journey.accessToken);
+                case POSITION -> bearer(post("/api/onboarding/position", Map.of("positionCode", "ST")),
+                    journey.accessToken);
+                case ONBOARDING -> bearer(post("/api/onboarding/submit", Map.of(
+                    "gender", "MALE", "categoryCodes", List.of("U17"), "positionCode", "ST", "firstName", "Load",
+                    "lastName", "Tester", "birthday", "2009-05-17", "height", 1.78, "weight", 68)), journey.accessToken);
+                case ME -> bearer(request("/api/player/me").GET(), journey.accessToken);
+                case REFRESH -> bearer(request("/api/auth/refresh").POST(HttpRequest.BodyPublishers.noBody()),
+                    journey.refreshToken);
+                case LOGOUT -> bearer(request("/api/auth/logout").POST(HttpRequest.BodyPublishers.noBody()),
+                    journey.refreshToken);
+            };
+            if (request == null) {
+                return "OTP not captured";
+            }
+            if (tagged) {
+                request.header("X-Load-Step", step.label);
+            }
+
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            JsonNode body = readBody(response.body());
+            if (response.statusCode() >= 400) {
+                return "HTTP " + response.statusCode() + message(body);
+            }
+            // Several endpoints report failures as 200 with status=error
+            if ("error".equals(body.path("status").asText())) {
+                return "status=error" + message(body);
+            }
+            switch (step) {
+                case VERIFY_OTP -> journey.registrationToken = body.path("registrationToken").asText(null);
+                case SETUP_PASSWORD -> {
+                    journey.accessToken = body.path("accessToken").asText(null);
+                    journey.refreshToken = body.path("refreshToken").asText(null);
+                }
+                case REFRESH -> {
+                    if (body.hasNonNull("refreshToken")) {
+                        journey.refreshToken = body.get("refreshToken").asText();
+                    }
+                }
+                default -> {
+                }
+            }
+            return null;
+        }
+
+        private String capturedOtp(String email) throws IOException, InterruptedException {
+            HttpResponse<String> response = client.send(
+                request("/api/loadtest/otp?email=" + URLEncoder.encode(email, StandardCharsets.UTF_8)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 ? JSON.readTree(response.body()).path("otp").asText(null) : null;
+        }
+
+        private void resetServerStatements() throws IOException, InterruptedException {
+            client.send(request("/api/loadtest/statements").DELETE().build(), HttpResponse.BodyHandlers.discarding());
+        }
+
+        /**
+         * Per-step statement counts as recorded by the app; empty if it runs without the loadtest profile
+         */
+        private Map<String, JsonNode> serverStatements() throws IOException, InterruptedException {
+            HttpResponse<String> response = client.send(request("/api/loadtest/statements").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            Map<String, JsonNode> statements = new TreeMap<>();
+            if (response.statusCode() == 200) {
+                JSON.readTree(response.body()).fields().forEachRemaining(e -> statements.put(e.getKey(), e.getValue()));
+            }
+            return statements;
+        }
+
+        private HttpRequest.Builder post(String path, Map<String, ?> body) {
+            try {
+                return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("X-Client-Type", "mobile");
+        }
+
+        private static HttpRequest.Builder bearer(HttpRequest.Builder request, String token) {
+            return request.header("Authorization", "Bearer " + token);
+        }
+
+        private static JsonNode readBody(String body) {
+            try {
+                return body == null || body.isBlank() ? JSON.createObjectNode() : JSON.readTree(body);
+            } catch (IOException e) {
+                return JSON.createObjectNode();
+            }
+        }
+
+        private static String message(JsonNode body) {
+            String message = body.path("message").asText("");
+            return message.isEmpty() ? "" : ": " + (message.length() > 80 ? message.substring(0, 80) + "..." : message);
+        }
+    }
+
+    /**
+     * State carried from step to step by one simulated user
+     */
+    private static final class Journey {
+        private final String email;
+        private String registrationToken;
+        private String accessToken;
+        private String refreshToken;
+
+        private Journey(String email) {
+            this.email = email;
+        }
+    }
+
+    private static final class StepStats {
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        private long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+
+    private static final class Stats {
+        private final Map<Step, StepStats> steps = new EnumMap<>(Step.class);
+        private final Histogram journey = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final LongAdder arrived = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private Stats(List<Step> journeySteps) {
+            for (Step step : journeySteps) {
+                steps.put(step, new StepStats());
+            }
+        }
+
+        private Map<String, Object> journeySummary(Duration duration) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("journeysArrived", arrived.sum());
+            summary.put("journeysCompleted", completed.sum());
+            summary.put("journeysDropped", dropped.sum());
+            summary.put("completedPerSecond", Math.round(completed.sum() * 10.0 / duration.toSeconds()) / 10.0);
+            summary.put("journeyP50Ms", millis(journey.getValueAtPercentile(50)));
+            summary.put("journeyP99Ms", millis(journey.getValueAtPercentile(99)));
+            return summary;
+        }
+
+        private List<Map<String, Object>> stepSummaries(Map<String, JsonNode> statements) {
+            List<Map<String, Object>> summaries = new ArrayList<>();
+            for (Step step : steps.keySet()) {
+                StepStats s = steps.get(step);
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("step", step.label);
+                summary.put("ok", s.ok.sum());
+                summary.put("errors", s.errorCount());
+                summary.put("p50Ms", millis(s.latency.getValueAtPercentile(50)));
+                summary.put("p90Ms", millis(s.latency.getValueAtPercentile(90)));
+                summary.put("p99Ms", millis(s.latency.getValueAtPercentile(99)));
+                summary.put("p999Ms", millis(s.latency.getValueAtPercentile(99.9)));
+                summary.put("maxMs", millis(s.latency.getMaxValue()));
+                JsonNode db = statements.get(step.label);
+                if (db != null) {
+                    summary.put("statementsPerRequest", db.get("mean").asDouble());
+                    summary.put("statementsMax", db.get("max").asLong());
+                }
+                Map<String, Long> breakdown = new TreeMap<>();
+                s.errors.forEach((reason, count) -> breakdown.put(reason, count.sum()));
+                summary.put("errorBreakdown", breakdown);
+                summaries.add(summary);
+            }
+            return summaries;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.wesports.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-model HTTP load benchmark: a fixed number of clients send requests back to back
+ * Used to compare the platform-thread and virtual-thread execution modes of the same build on
+ * login, /api/player/me and registration start. Every run appends one JSON line (throughput and
+ * latency percentiles) to the results file; --mode=compare prints the runs side by side per label.
+ *
+ * Run: ./mvnw -f benchmarks/pom.xml compile exec:java -Dexec.args="--scenario=me --label=platform ..."
+ */
+public final class LoadBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Path results = Path.of(options.getOrDefault("results", "target/load-results.jsonl"));
+        if ("compare".equals(options.get("mode"))) {
+            compare(results);
+            return;
+        }
+
+        Scenario scenario = Scenario.valueOf(options.getOrDefault("scenario", "me").toUpperCase());
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+        String label = options.getOrDefault("label", "unlabelled");
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        RequestFactory requests = new RequestFactory(baseUrl, scenario, options, client);
+
+        Map<String, Object> result = run(client, requests, concurrency, warmup, duration);
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("timestamp", Instant.now().toString());
+        line.put("label", label);
+        line.put("scenario", scenario.name().toLowerCase());
+        line.put("concurrency", concurrency);
+        line.putAll(result);
+
+        String json = JSON.writeValueAsString(line);
+        System.out.println(json);
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        Files.writeString(results, json + System.lineSeparator(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static Map<String, Object> run(HttpClient client, RequestFactory requests, int concurrency,
+                                           Duration warmup, Duration duration) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = recorders[i] = new LatencyRecorder();
+            Thread worker = new Thread(() -> {
+                try {
+                    long now;
+                    while ((now = System.nanoTime()) < stopAt) {
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(requests.next(), HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 400;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        long end = System.nanoTime();
+                        if (now >= measureFrom) {
+                            recorder.record(end - now);
+                            if (!ok) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            worker.start();
+        }
+        done.await();
+
+        long[] latencies = LatencyRecorder.merge(recorders);
+        Arrays.sort(latencies);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("durationSeconds", duration.toSeconds());
+        result.put("requests", latencies.length);
+        result.put("errors", errors.get());
+        result.put("throughputPerSecond", round(latencies.length / (double) duration.toSeconds()));
+        result.put("p50Ms", percentile(latencies, 0.50));
+        result.put("p90Ms", percentile(latencies, 0.90));
+        result.put("p99Ms", percentile(latencies, 0.99));
+        result.put("p999Ms", percentile(latencies, 0.999));
+        result.put("maxMs", latencies.length == 0 ? 0 : round(latencies[latencies.length - 1] / 1e6));
+        return result;
+    }
+
+    /**
+     * Prints one row per scenario and label with the latest run of each
+     */
+    private static void compare(Path results) throws IOException {
+        Map<String, Map<String, JsonNode>> byScenario = new TreeMap<>();
+        for (String line : Files.readAllLines(results, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode run = JSON.readTree(line);
+            byScenario.computeIfAbsent(run.get("scenario").asText(), key -> new TreeMap<>())
+                .put(run.get("label").asText(), run);
+        }
+        System.out.printf("%-10s %-12s %6s %12s %9s %9s %9s %9s %8s%n",
+            "scenario", "label", "conc", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        byScenario.forEach((scenario, runs) -> runs.forEach((label, run) ->
+            System.out.printf("%-10s %-12s %6d %12.1f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                scenario, label, run.get("concurrency").asInt(), run.get("throughputPerSecond").asDouble(),
+                run.get("p50Ms").asDouble(), run.get("p99Ms").asDouble(), run.get("p999Ms").asDouble(),
+                run.get("maxMs").asDouble(), run.get("errors").asLong())));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return round(sorted[Math.max(index, 0)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    enum Scenario {
+        /** POST /api/auth/login with --email/--password (BCrypt check plus token issue) */
+        LOGIN,
+        /** GET /api/player/me with a bearer token obtained once from --email/--password */
+        ME,
+        /** POST /api/auth/register/start with a fresh address per request (user + OTP insert, mail) */
+        REGISTER
+    }
+
+    /**
+     * Builds the request for each iteration; registration needs a unique email every time
+     */
+    private static final class RequestFactory {
+        private final String baseUrl;
+        private final Scenario scenario;
+        private final String email;
+        private final String password;
+        private final String accessToken;
+        private final String runId = Long.toString(System.currentTimeMillis(), 36);
+        private final AtomicLong sequence = new AtomicLong();
+
+        private RequestFactory(String baseUrl, Scenario scenario, Map<String, String> options, HttpClient client)
+                throws IOException, InterruptedException {
+            this.baseUrl = baseUrl;
+            this.scenario = scenario;
+            this.email = options.get("email");
+            this.password = options.get("password");
+            if (scenario != Scenario.REGISTER && (email == null || password == null)) {
+                throw new IllegalArgumentException(scenario + " needs --email and --password of an existing account");
+            }
+            this.accessToken = scenario == Scenario.ME ? login(client) : null;
+        }
+
+        private HttpRequest next() {
+            return switch (scenario) {
+                case LOGIN -> json("/api/auth/login", Map.of("email", email, "password", password));
+                case ME -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/player/me"))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("X-Client-Type", "mobile")
+                    .GET()
+                    .build();
+                case REGISTER -> json("/api/auth/register/start", Map.of(
+                    "email", "load-" + runId + "-" + sequence.incrementAndGet() + "@example.com",
+                    "language", "en"));
+            };
+        }
+
+        private String login(HttpClient client) throws IOException, InterruptedException {
+            HttpResponse<String> response = client.send(
+                json("/api/auth/login", Map.of("email", email, "password", password)),
+                HttpResponse.BodyHandlers.ofString());
+            JsonNode token = JSON.readTree(response.body()).get("accessToken");
+            if (response.statusCode() >= 400 || token == null || token.isNull()) {
+                throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+            }
+            return token.asText();
+        }
+
+        private HttpRequest json(String path, Map<String, String> body) {
+            try {
+                return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .header("X-Client-Type", "mobile")
+                    .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                    .build();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Unsynchronized per-client latency buffer, merged once all clients have stopped
+     */
+    private static final class LatencyRecorder {
+        private long[] values = new long[1 << 14];
+        private int size;
+
+        private void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        private static long[] merge(LatencyRecorder[] recorders) {
+            List<long[]> parts = new ArrayList<>();
+            int total = 0;
+            for (LatencyRecorder recorder : recorders) {
+                parts.add(Arrays.copyOf(recorder.values, recorder.size));
+                total += recorder.size;
+            }
+            long[] merged = new long[total];
+            int offset = 0;
+            for (long[] part : parts) {
+                System.arraycopy(part, 0, merged, offset, part.length);
+                offset += part.length;
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.wesports.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-to-first-request benchmark: starts the application command several times and measures the
+ * time from process start until the first successful response on --url
+ * Every run set appends one JSON line (min/median/max over the runs) to the results file;
+ * --mode=compare prints the latest run set of each label side by side.
+ *
+ * Run: ./mvnw -f benchmarks/pom.xml compile exec:java -Dexec.mainClass=com.wesports.benchmarks.load.StartupBenchmark
+ *        -Dexec.args="--label=baseline --runs=5 -- java -jar target/app-exec.jar"
+ */
+public final class StartupBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        Map<String, String> options = parse(separator < 0 ? args : Arrays.copyOf(args, separator));
+        Path results = Path.of(options.getOrDefault("results", "target/startup-results.jsonl"));
+        if ("compare".equals(options.get("mode"))) {
+            compare(results);
+            return;
+        }
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException("Expected the application command after --");
+        }
+
+        List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8080/actuator/health"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Duration timeout = Duration.parse(options.getOrDefault("timeout", "PT120S"));
+        String label = options.getOrDefault("label", "unlabelled");
+        Path log = Path.of(options.getOrDefault("log", "target/startup-" + label + ".log"));
+        if (log.getParent() != null) {
+            Files.createDirectories(log.getParent());
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+        long[] millis = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            millis[i] = timeToFirstRequest(client, command, url, timeout, log);
+            System.out.printf("%s run %d/%d: %d ms%n", label, i + 1, runs, millis[i]);
+        }
+        Arrays.sort(millis);
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("timestamp", Instant.now().toString());
+        line.put("label", label);
+        line.put("command", String.join(" ", command));
+        line.put("runs", runs);
+        line.put("minMs", millis[0]);
+        line.put("medianMs", millis[runs / 2]);
+        line.put("maxMs", millis[runs - 1]);
+
+        String json = JSON.writeValueAsString(line);
+        System.out.println(json);
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        Files.writeString(results, json + System.lineSeparator(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * One cold start: polls the URL until it answers 2xx, then stops the process and waits for it to exit
+     * so the next run gets the port back
+     */
+    private static long timeToFirstRequest(HttpClient client, List<String> command, URI url, Duration timeout, Path log)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(2)).GET().build();
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.to(log.toFile()))
+            .start();
+        try {
+            long deadline = startedAt + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() < 300) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    }
+                } catch (IOException notListeningYet) {
+                    // Connection refused until the web server is up
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful response from " + url + " within " + timeout + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * Prints one row per label with its latest run set
+     */
+    private static void compare(Path results) throws IOException {
+        Map<String, JsonNode> byLabel = new TreeMap<>();
+        for (String line : Files.readAllLines(results, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                JsonNode run = JSON.readTree(line);
+                byLabel.put(run.get("label").asText(), run);
+            }
+        }
+        System.out.printf("%-16s %5s %10s %10s %10s%n", "label", "runs", "min ms", "median ms", "max ms");
+        byLabel.forEach((label, run) -> System.out.printf("%-16s %5d %10d %10d %10d%n",
+            label, run.get("runs").asInt(), run.get("minMs").asLong(), run.get("medianMs").asLong(),
+            run.get("maxMs").asLong()));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+}
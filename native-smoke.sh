@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Smoke test of the GraalVM native image: builds it with the loadtest profile processed by Spring AOT
+# (in-memory H2, OTPs captured instead of mailed), boots the binary, registers an account and logs in.
+#   ./native-smoke.sh                 # build, then test
+#   SKIP_BUILD=1 ./native-smoke.sh    # reuse target/wesports-backend
+# AOT fixes @Profile beans at build time, so this binary is for testing only; build the deployable
+# one without the jvmArguments override.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")" && pwd)"
+BINARY="$ROOT/target/wesports-backend"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+EMAIL="native-smoke@example.com"
+PASSWORD="NativeSmoke1!"
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+  "$ROOT/mvnw" -q -Pnative -DskipTests \
+    -Dspring-boot.aot.jvmArguments=-Dspring.profiles.active=loadtest native:compile
+fi
+
+started=$(date +%s%N)
+"$BINARY" --spring.profiles.active=loadtest --server.port="$PORT" > "$ROOT/target/native-smoke.log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+for _ in $(seq 1 300); do
+  curl -fs "$BASE_URL/actuator/health" > /dev/null && break
+  kill -0 "$pid" 2>/dev/null || { echo "Binary exited, see target/native-smoke.log" >&2; exit 1; }
+  sleep 0.1
+done
+echo "Ready after $(( ($(date +%s%N) - started) / 1000000 )) ms"
+
+post() {
+  curl -fsS -X POST "$BASE_URL$1" -H 'Content-Type: application/json' -H 'X-Client-Type: mobile' -d "$2"
+}
+field() {
+  sed -n "s/.*\"$1\":\"\([^\"]*\)\".*/\1/p"
+}
+
+post /api/auth/register/start "{\"email\":\"$EMAIL\",\"language\":\"en\"}" > /dev/null
+otp=$(curl -fsS "$BASE_URL/api/loadtest/otp?email=$EMAIL" | field otp)
+registration_token=$(post /api/auth/register/verify-otp "{\"email\":\"$EMAIL\",\"otp\":\"$otp\"}" | field registrationToken)
+post /api/auth/register/setup-password "{\"registrationToken\":\"$registration_token\",\"password\":\"$PASSWORD\",\"confirmPassword\":\"$PASSWORD\"}" > /dev/null
+
+access_token=$(post /api/auth/login "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" | field accessToken)
+if [ -z "$access_token" ]; then
+  echo "Login returned no access token, see target/native-smoke.log" >&2
+  exit 1
+fi
+echo "Native smoke test passed: registered $EMAIL and logged in"
@@ -14,7 +14,7 @@ public record AuthResponse(
     String refreshToken, // Refresh token (only for mobile clients)
     Long expiresIn,      // Access token expiry in seconds
     UserInfo user        // Basic user information after successful auth
-) {
+) implements StatusResponse {
     
     public static AuthResponse success(String message, String accessToken, Long expiresIn, UserInfo user) {
         return new AuthResponse("success", message, accessToken, null, expiresIn, user);
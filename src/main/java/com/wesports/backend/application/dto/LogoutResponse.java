@@ -3,7 +3,7 @@ package com.wesports.backend.application.dto;
 public record LogoutResponse(
     String message,
     String status
-) {
+) implements StatusResponse {
     public static LogoutResponse success(String message) {
         return new LogoutResponse(message, "success");
     }
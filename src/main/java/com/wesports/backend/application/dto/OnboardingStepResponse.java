@@ -5,7 +5,7 @@ public record OnboardingStepResponse(
     String status,
     String nextStep,
     Object data
-) {
+) implements StatusResponse {
     public static OnboardingStepResponse success(String message, String nextStep) {
         return new OnboardingStepResponse(message, "success", nextStep, null);
     }
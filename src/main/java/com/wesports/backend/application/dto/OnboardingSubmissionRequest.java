@@ -0,0 +1,40 @@
+package com.wesports.backend.application.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The whole onboarding flow in one request: gender, categories, position and profile
+ * Category and position are required for players only.
+ */
+public record OnboardingSubmissionRequest(
+    @NotBlank(message = "Gender is required")
+    String gender,
+
+    List<String> categoryCodes,
+
+    String positionCode,
+
+    @NotBlank(message = "First name is required")
+    String firstName,
+
+    @NotBlank(message = "Last name is required")
+    String lastName,
+
+    @NotNull(message = "Birthday is required")
+    LocalDate birthday,
+
+    @DecimalMin(value = "1.0", message = "Height must be at least 1.0 meters")
+    @DecimalMax(value = "3.0", message = "Height must not exceed 3.0 meters")
+    Float height,
+
+    @DecimalMin(value = "30.0", message = "Weight must be at least 30 kg")
+    @DecimalMax(value = "200.0", message = "Weight must not exceed 200 kg")
+    Float weight,
+
+    String profilePhotoUrl
+) {}
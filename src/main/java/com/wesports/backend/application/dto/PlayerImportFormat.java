@@ -0,0 +1,20 @@
+package com.wesports.backend.application.dto;
+
+/**
+ * Supported body formats for the bulk player import
+ */
+public enum PlayerImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * Resolve the format from the request Content-Type header
+     * Anything that is not (x-)ndjson is treated as CSV
+     */
+    public static PlayerImportFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase().contains("ndjson")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
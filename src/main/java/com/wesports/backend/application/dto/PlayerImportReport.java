@@ -0,0 +1,35 @@
+package com.wesports.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for bulk player imports
+ * Summarises what was written, what was rejected and how fast the import ran
+ */
+public record PlayerImportReport(
+    String status,                     // "success", "partial" or "error"
+    long totalRows,                    // Data rows read from the body (header excluded)
+    long importedRows,                 // Rows written as user + player + sport link
+    long failedRows,                   // Rows rejected by validation or by the database
+    long elapsedMillis,                // Wall clock time of the whole import
+    double rowsPerSecond,              // Throughput over the imported rows
+    List<PlayerImportRowError> errors, // Per-row errors, capped to keep the response bounded
+    boolean errorsTruncated            // True when more rows failed than are listed in errors
+) {
+
+    public static PlayerImportReport of(long totalRows, long importedRows, long elapsedMillis,
+                                        List<PlayerImportRowError> errors, long failedRows) {
+        String status = failedRows == 0 ? "success" : (importedRows > 0 ? "partial" : "error");
+        double rowsPerSecond = elapsedMillis > 0 ? importedRows * 1000.0 / elapsedMillis : importedRows;
+        return new PlayerImportReport(status, totalRows, importedRows, failedRows, elapsedMillis,
+            rowsPerSecond, errors, failedRows > errors.size());
+    }
+
+    /**
+     * Create error response for imports that could not be read at all
+     */
+    public static PlayerImportReport error(String message) {
+        return new PlayerImportReport("error", 0, 0, 0, 0, 0,
+            List.of(new PlayerImportRowError(0, null, message)), false);
+    }
+}
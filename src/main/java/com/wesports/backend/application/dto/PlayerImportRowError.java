@@ -0,0 +1,11 @@
+package com.wesports.backend.application.dto;
+
+/**
+ * A single rejected row of a bulk player import
+ */
+public record PlayerImportRowError(
+    long line,       // 1-based line number in the uploaded body
+    String email,    // Email of the row when it could be read, null otherwise
+    String message   // Why the row was rejected
+) {
+}
@@ -0,0 +1,40 @@
+package com.wesports.backend.application.dto;
+
+import com.wesports.backend.domain.model.PlayerSummary;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One player in a search result page
+ */
+public record PlayerSearchItem(
+    UUID id,
+    String firstName,
+    String lastName,
+    String position,
+    String category,
+    String preferredFoot,
+    Float height,
+    Float weight,
+    String nationality,
+    List<String> languages,
+    String profilePhotoUrl
+) {
+
+    public static PlayerSearchItem from(PlayerSummary summary) {
+        return new PlayerSearchItem(
+            summary.id().getValue(),
+            summary.firstName(),
+            summary.lastName(),
+            summary.position() != null ? summary.position().name() : null,
+            summary.category() != null ? summary.category().name() : null,
+            summary.preferredFoot() != null ? summary.preferredFoot().name() : null,
+            summary.height(),
+            summary.weight(),
+            summary.nationality(),
+            summary.languages(),
+            summary.profilePhotoUrl()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.wesports.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for keyset-paginated player searches
+ * Pass nextCursor back as the cursor parameter to fetch the following page
+ */
+public record PlayerSearchResponse(
+    String status,               // "success" or "error"
+    String message,              // Error message (null on success)
+    List<PlayerSearchItem> items,
+    String nextCursor,           // Null when this is the last page
+    boolean hasMore
+) {
+
+    public static PlayerSearchResponse success(List<PlayerSearchItem> items, String nextCursor) {
+        return new PlayerSearchResponse("success", null, items, nextCursor, nextCursor != null);
+    }
+
+    public static PlayerSearchResponse error(String message) {
+        return new PlayerSearchResponse("error", message, List.of(), null, false);
+    }
+}
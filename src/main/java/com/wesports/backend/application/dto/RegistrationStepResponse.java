@@ -5,7 +5,7 @@ public record RegistrationStepResponse(
     String status,
     String nextStep,
     String registrationToken
-) {
+) implements StatusResponse {
     public static RegistrationStepResponse success(String message, String nextStep) {
         return new RegistrationStepResponse(message, "success", nextStep, null);
     }
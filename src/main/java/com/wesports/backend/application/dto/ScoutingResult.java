@@ -0,0 +1,24 @@
+package com.wesports.backend.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for scouting index queries
+ */
+public record ScoutingResult(
+    String status,        // "success" or "error"
+    String message,       // Error message (null on success)
+    long count,           // Total number of matching players
+    List<UUID> playerIds, // First matches, capped by the requested limit
+    long tookMicros       // Time spent inside the index
+) {
+
+    public static ScoutingResult success(long count, List<UUID> playerIds, long tookMicros) {
+        return new ScoutingResult("success", null, count, playerIds, tookMicros);
+    }
+
+    public static ScoutingResult error(String message) {
+        return new ScoutingResult("error", message, 0, List.of(), 0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.wesports.backend.application.dto;
+
+/**
+ * Step responses that report "success" or "error" in their status field
+ */
+public interface StatusResponse {
+
+    String status();
+}
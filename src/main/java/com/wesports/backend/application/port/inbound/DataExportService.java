@@ -0,0 +1,20 @@
+package com.wesports.backend.application.port.inbound;
+
+import com.wesports.backend.application.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface DataExportService {
+
+    /**
+     * Write every player to the stream in the given format
+     * Rows are written as they are read; the caller owns (and closes) the stream
+     */
+    long exportPlayers(OutputStream output, ExportFormat format) throws IOException;
+
+    /**
+     * Write every user to the stream in the given format (credentials are never exported)
+     */
+    long exportUsers(OutputStream output, ExportFormat format) throws IOException;
+}
@@ -5,12 +5,17 @@ import com.wesports.backend.application.dto.GenderSelectionRequest;
 import com.wesports.backend.application.dto.PositionSelectionRequest;
 import com.wesports.backend.application.dto.CategorySelectionRequest;
 import com.wesports.backend.application.dto.PlayerProfileRequest;
+import com.wesports.backend.application.dto.OnboardingSubmissionRequest;
 import com.wesports.backend.domain.valueobject.UserId;
 
+import java.util.Optional;
+
 public interface OnboardingService {
     OnboardingStepResponse selectGender(UserId userId, GenderSelectionRequest request);
     OnboardingStepResponse selectPosition(UserId userId, PositionSelectionRequest request);
     OnboardingStepResponse selectCategories(UserId userId, CategorySelectionRequest request);
     OnboardingStepResponse completePlayerProfile(UserId userId, PlayerProfileRequest request);
+    OnboardingStepResponse submitOnboarding(UserId userId, OnboardingSubmissionRequest request);
     OnboardingStepResponse getOnboardingStatus(UserId userId);
+    Optional<String> getOnboardingStatusVersionTag(UserId userId);
 }
@@ -0,0 +1,16 @@
+package com.wesports.backend.application.port.inbound;
+
+import com.wesports.backend.application.dto.PlayerImportFormat;
+import com.wesports.backend.application.dto.PlayerImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface PlayerImportService {
+
+    /**
+     * Import a roster of players from a CSV or NDJSON stream
+     * The stream is consumed line by line and written in batches, so the body is never held in memory
+     */
+    PlayerImportReport importPlayers(InputStream input, PlayerImportFormat format) throws IOException;
+}
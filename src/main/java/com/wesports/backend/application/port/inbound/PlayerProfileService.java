@@ -6,6 +6,8 @@ import com.wesports.backend.domain.valueobject.UserId;
 import com.wesports.backend.application.dto.PlayerProfileUpdateRequest;
 import com.wesports.backend.application.dto.PlayerProfileUpdateResponse;
 
+import java.util.Optional;
+
 public interface PlayerProfileService {
     
     /**
@@ -14,6 +16,12 @@ public interface PlayerProfileService {
      */
     PlayerProfileResponse getCurrentPlayerProfile(UserId userId);
     
+    /**
+     * Get the version tag of the current player profile without building it
+     * Empty when the user does not exist
+     */
+    Optional<String> getProfileVersionTag(UserId userId);
+    
     /**
      * Update player profile with selective fields
      * Only updates fields that are present in the request (not null)
@@ -0,0 +1,20 @@
+package com.wesports.backend.application.port.inbound;
+
+import com.wesports.backend.application.dto.PlayerSearchResponse;
+import com.wesports.backend.application.dto.ScoutingResult;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+
+public interface PlayerSearchService {
+
+    /**
+     * Search active players page by page
+     * cursor is the nextCursor of the previous page, or null for the first page
+     */
+    PlayerSearchResponse search(PlayerSearchCriteria criteria, String cursor, Integer size);
+
+    /**
+     * Count matching players and return the first ids from the in-memory scouting index
+     * Meant for dashboards that re-run the query on every filter change
+     */
+    ScoutingResult scout(PlayerSearchCriteria criteria, Integer limit);
+}
@@ -7,6 +7,7 @@ import com.wesports.backend.domain.model.PlayerSport;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,6 +21,12 @@ public interface PlayerSportService {
      */
     PlayerSport createAssociation(UserId userId, PlayerId playerId, SportId sportId);
     
+    /**
+     * Link a player profile to several sports at once
+     * Sports that are already actively linked are skipped; returns only the newly created associations
+     */
+    List<PlayerSport> createAssociations(UserId userId, PlayerId playerId, Set<SportId> sportIds);
+    
     /**
      * Find all active associations for a user
      */
@@ -0,0 +1,33 @@
+package com.wesports.backend.application.port.outbound;
+
+/**
+ * Business events of the auth and registration flows, for capacity and abuse monitoring
+ * Every tag is one of the enums below, so the meter count stays bounded.
+ * Step latency, password hashing, mail delivery and the refresh token store are measured in infrastructure.
+ */
+public interface AuthMetrics {
+
+    enum LoginOutcome {
+        SUCCESS, INVALID_EMAIL, UNKNOWN_USER, EMAIL_NOT_VERIFIED, REGISTRATION_INCOMPLETE, INACTIVE, BAD_PASSWORD, ERROR
+    }
+
+    enum TokenType {
+        ACCESS, REFRESH, REGISTRATION
+    }
+
+    enum OtpRequestOutcome {
+        ISSUED, RATE_LIMITED, EXISTING_ACCOUNT
+    }
+
+    enum OtpVerificationOutcome {
+        VERIFIED, NOT_FOUND, EXPIRED, TOO_MANY_ATTEMPTS, WRONG_CODE
+    }
+
+    void loginAttempt(LoginOutcome outcome);
+
+    void tokenIssued(TokenType type);
+
+    void otpRequested(OtpRequestOutcome outcome);
+
+    void otpVerified(OtpVerificationOutcome outcome);
+}
@@ -0,0 +1,36 @@
+package com.wesports.backend.application.port.outbound;
+
+/**
+ * Tells the other application nodes which entries of their in-process caches a write made stale
+ * Events are compact (cache name + key), published once the current transaction commits and delivered
+ * to the listeners of that cache on every other node; a node does not receive its own events.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Publish an invalidation of key in cache once the current transaction commits (at once without one)
+     * Neither may contain whitespace.
+     */
+    void publishAfterCommit(String cache, String key);
+
+    void subscribe(String cache, Listener listener);
+
+    /**
+     * Whether events from other nodes are being received
+     * While false, caches should keep entries only briefly: invalidations may be missed.
+     */
+    boolean isConnected();
+
+    interface Listener {
+
+        /**
+         * Another node changed the entry behind key
+         */
+        void invalidate(String key);
+
+        /**
+         * Events may have been missed (the channel went down or came back): drop everything
+         */
+        void invalidateAll();
+    }
+}
@@ -0,0 +1,23 @@
+package com.wesports.backend.application.port.outbound;
+
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PlayerScoutingIndex {
+
+    /**
+     * Count the active players matching the criteria and return the first limit ids
+     * Only position, category, preferred foot and height/weight ranges are indexed
+     */
+    Matches query(PlayerSearchCriteria criteria, int limit);
+
+    /**
+     * Whether the initial load has completed; before that queries see an empty index
+     */
+    boolean isReady();
+
+    record Matches(long count, List<UUID> playerIds) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.wesports.backend.application.port.outbound;
+
+import com.wesports.backend.domain.model.Language;
+import com.wesports.backend.domain.model.Post;
+import com.wesports.backend.domain.model.Sport;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory view of the reference tables (languages, sports, posts)
+ * Lookups are served from an immutable snapshot and never touch the database;
+ * returned objects are shared between callers and must be treated as read-only
+ */
+public interface ReferenceDataRegistry {
+
+    /**
+     * Language by code (case insensitive), active or not
+     */
+    Optional<Language> findLanguageByCode(String code);
+
+    List<Language> findActiveLanguages();
+
+    /**
+     * Sport by code (case insensitive), active or not
+     */
+    Optional<Sport> findSportByCode(String code);
+
+    List<Sport> findActiveSports();
+
+    Optional<Post> findPostByCode(String code);
+
+    List<Post> findAllPosts();
+
+    /**
+     * Reload the snapshot once the current transaction commits, after reference data was written
+     */
+    void refreshAfterCommit();
+}
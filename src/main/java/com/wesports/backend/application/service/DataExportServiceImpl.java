@@ -0,0 +1,183 @@
+package com.wesports.backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wesports.backend.application.dto.ExportFormat;
+import com.wesports.backend.application.port.inbound.DataExportService;
+import com.wesports.backend.domain.repository.DataExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Application service for analytics exports
+ * Streams rows from DataExportRepository straight into the output, flushing every batch,
+ * so heap usage does not depend on the number of exported rows
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataExportServiceImpl implements DataExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> PLAYER_COLUMNS = List.of(
+        "id", "position", "category", "preferredFoot", "height", "weight",
+        "profilePhotoUrl", "postId", "active", "createdAt", "updatedAt");
+
+    private static final List<String> USER_COLUMNS = List.of(
+        "id", "email", "firstName", "lastName", "gender", "birthday", "nationality", "placeOfResidence",
+        "languages", "userRole", "registrationStep", "emailVerified", "createdAt", "updatedAt");
+
+    private final DataExportRepository dataExportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.flush-every-rows:1000}")
+    private int flushEveryRows;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPlayers(OutputStream output, ExportFormat format) throws IOException {
+        RowWriter writer = new RowWriter(output, format, PLAYER_COLUMNS);
+        try {
+            dataExportRepository.streamPlayers(player -> writer.write(Arrays.asList(
+                player.getId().getValue(),
+                player.getPosition() != null ? player.getPosition().name() : null,
+                player.getCategory() != null ? player.getCategory().name() : null,
+                player.getPreferredFoot() != null ? player.getPreferredFoot().name() : null,
+                player.getHeight(),
+                player.getWeight(),
+                player.getProfilePhotoUrl(),
+                player.getPostId(),
+                player.isActive(),
+                player.getCreatedAt(),
+                player.getUpdatedAt()
+            )));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long rows = writer.finish();
+        log.info("Exported {} players as {}", rows, format);
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(OutputStream output, ExportFormat format) throws IOException {
+        RowWriter writer = new RowWriter(output, format, USER_COLUMNS);
+        try {
+            dataExportRepository.streamUsers(user -> writer.write(Arrays.asList(
+                user.getId().getValue(),
+                user.getEmail().getValue(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getGender() != null ? user.getGender().name() : null,
+                user.getBirthday(),
+                user.getNationality(),
+                user.getLieuDeResidence(),
+                user.getLanguages(),
+                user.getUserRole() != null ? user.getUserRole().name() : null,
+                user.getRegistrationStep() != null ? user.getRegistrationStep().name() : null,
+                user.isEmailVerified(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+            )));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long rows = writer.finish();
+        log.info("Exported {} users as {}", rows, format);
+        return rows;
+    }
+
+    /**
+     * Formats rows as CSV or NDJSON into a bounded buffer that is flushed every flushEveryRows rows
+     */
+    private class RowWriter {
+        private final Writer writer;
+        private final ExportFormat format;
+        private final List<String> columns;
+        private long rows;
+
+        private RowWriter(OutputStream output, ExportFormat format, List<String> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            this.format = format;
+            this.columns = columns;
+            if (format == ExportFormat.CSV) {
+                writer.write(String.join(",", columns));
+                writer.write('\n');
+            }
+        }
+
+        private void write(List<Object> values) {
+            try {
+                if (format == ExportFormat.CSV) {
+                    writeCsv(values);
+                } else {
+                    writeJson(values);
+                }
+                if (++rows % flushEveryRows == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private long finish() throws IOException {
+            writer.flush();
+            return rows;
+        }
+
+        private void writeCsv(List<Object> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values.get(i);
+                if (value instanceof Collection<?> collection) {
+                    value = String.join(";", collection.stream().map(String::valueOf).toList());
+                }
+                if (value != null) {
+                    writer.write(escapeCsv(String.valueOf(value)));
+                }
+            }
+            writer.write('\n');
+        }
+
+        private void writeJson(List<Object> values) throws IOException {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = values.get(i);
+                row.put(columns.get(i), value instanceof TemporalAccessor || value instanceof UUID
+                    ? value.toString()
+                    : value);
+            }
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+
+        private String escapeCsv(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
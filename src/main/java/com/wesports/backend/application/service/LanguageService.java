@@ -1,9 +1,9 @@
 package com.wesports.backend.application.service;
 
 import com.wesports.backend.application.dto.LanguageResponse;
+import com.wesports.backend.application.port.outbound.ReferenceDataRegistry;
 import com.wesports.backend.domain.model.Language;
 import com.wesports.backend.domain.model.User;
-import com.wesports.backend.domain.repository.LanguageRepository;
 import com.wesports.backend.domain.repository.UserRepository;
 import com.wesports.backend.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +11,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,15 +27,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class LanguageService {
     
-    private final LanguageRepository languageRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final UserRepository userRepository;
+    private final PlayerProfileCache playerProfileCache;
 
     /**
      * Get all active languages for selection
      */
     public List<LanguageResponse> getActiveLanguages() {
 
-        return languageRepository.findAllActive()
+        return referenceDataRegistry.findActiveLanguages()
                 .stream()
                 .map(this::toLanguageResponse)
                 .collect(Collectors.toList());
@@ -46,7 +51,7 @@ public class LanguageService {
         
         try {
             // Find and validate the language
-            Optional<Language> languageOpt = languageRepository.findByCode(languageCode.toLowerCase());
+            Optional<Language> languageOpt = referenceDataRegistry.findLanguageByCode(languageCode);
             if (languageOpt.isEmpty() || !languageOpt.get().isActive()) {
                 log.warn("Language not found or inactive: {}", languageCode);
                 return false;
@@ -60,6 +65,7 @@ public class LanguageService {
                 User user = userOpt.get();
                 user.setPreferredLanguage(language.getId());
                 userRepository.save(user);
+                playerProfileCache.evict(userId);
                 log.info("Updated User language to: {} ({})", language.getName(), language.getCode());
                 return true;
             }
@@ -73,6 +79,23 @@ public class LanguageService {
         }
     }
 
+    /**
+     * Content hash of a language list, used as its ETag
+     * Languages carry no version column, so the tag is derived from every field that is serialized
+     */
+    public String getLanguagesTag(List<LanguageResponse> languages) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (LanguageResponse language : languages) {
+                String line = language.id() + "|" + language.code() + "|" + language.name() + "|" + language.isActive() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private LanguageResponse toLanguageResponse(Language language) {
         return new LanguageResponse(
             language.getId(),
@@ -5,6 +5,9 @@ import com.wesports.backend.application.dto.LoginRequest;
 import com.wesports.backend.application.dto.LogoutResponse;
 import com.wesports.backend.application.port.inbound.LoginService;
 import com.wesports.backend.application.port.outbound.AccessTokenService;
+import com.wesports.backend.application.port.outbound.AuthMetrics;
+import com.wesports.backend.application.port.outbound.AuthMetrics.LoginOutcome;
+import com.wesports.backend.application.port.outbound.AuthMetrics.TokenType;
 import com.wesports.backend.application.port.outbound.RefreshTokenService;
 import com.wesports.backend.domain.model.User;
 import com.wesports.backend.domain.model.UserAuthMethod;
@@ -28,6 +31,7 @@ public class LoginServiceImpl implements LoginService {
     private final PasswordEncoder passwordEncoder;
     private final AccessTokenService accessTokenService;
     private final RefreshTokenService refreshTokenService;
+    private final AuthMetrics authMetrics;
     
     @Autowired
     public LoginServiceImpl(
@@ -35,12 +39,14 @@ public class LoginServiceImpl implements LoginService {
             UserAuthMethodRepository userAuthMethodRepository,
             PasswordEncoder passwordEncoder,
             AccessTokenService accessTokenService,
-            RefreshTokenService refreshTokenService) {
+            RefreshTokenService refreshTokenService,
+            AuthMetrics authMetrics) {
         this.userRepository = userRepository;
         this.userAuthMethodRepository = userAuthMethodRepository;
         this.passwordEncoder = passwordEncoder;
         this.accessTokenService = accessTokenService;
         this.refreshTokenService = refreshTokenService;
+        this.authMetrics = authMetrics;
     }
     
     @Override
@@ -52,14 +58,14 @@ public class LoginServiceImpl implements LoginService {
             // Find user by email
             Optional<User> userOpt = userRepository.findByEmail(email);
             if (userOpt.isEmpty()) {
-                return AuthResponse.error("Invalid email or password");
+                return loginFailed(LoginOutcome.UNKNOWN_USER, "Invalid email or password");
             }
             
             User user = userOpt.get();
             
             // Check if email is verified
             if (!user.isEmailVerified()) {
-                return AuthResponse.error("Please verify your email first");
+                return loginFailed(LoginOutcome.EMAIL_NOT_VERIFIED, "Please verify your email first");
             }
             
             // Find WeSport authentication method for the user
@@ -69,28 +75,31 @@ public class LoginServiceImpl implements LoginService {
             );
             
             if (authMethodOpt.isEmpty()) {
-                return AuthResponse.error("Please complete your registration first");
+                return loginFailed(LoginOutcome.REGISTRATION_INCOMPLETE, "Please complete your registration first");
             }
             
             UserAuthMethod authMethod = authMethodOpt.get();
             
             // Check if auth method is active
             if (!authMethod.isActive()) {
-                return AuthResponse.error("Account is inactive. Please contact support.");
+                return loginFailed(LoginOutcome.INACTIVE, "Account is inactive. Please contact support.");
             }
             
             // Verify password using UserAuthMethod
             if (authMethod.getPasswordHash() == null || authMethod.getPasswordHash().isEmpty()) {
-                return AuthResponse.error("Please complete your registration first");
+                return loginFailed(LoginOutcome.REGISTRATION_INCOMPLETE, "Please complete your registration first");
             }
             
             if (!passwordEncoder.matches(request.password(), authMethod.getPasswordHash())) {
-                return AuthResponse.error("Invalid email or password");
+                return loginFailed(LoginOutcome.BAD_PASSWORD, "Invalid email or password");
             }
             
             // Generate tokens
             String accessToken = accessTokenService.generateAccessToken(user.getId().getValue().toString(), user.getEmail().getValue());
             String refreshToken = refreshTokenService.generateRefreshToken(user.getId().getValue().toString(), user.getEmail().getValue());
+            authMetrics.tokenIssued(TokenType.ACCESS);
+            authMetrics.tokenIssued(TokenType.REFRESH);
+            authMetrics.loginAttempt(LoginOutcome.SUCCESS);
             
             // Return successful response with user info
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
@@ -112,11 +121,16 @@ public class LoginServiceImpl implements LoginService {
             );
             
         } catch (IllegalArgumentException e) {
-            return AuthResponse.error("Invalid email format");
+            return loginFailed(LoginOutcome.INVALID_EMAIL, "Invalid email format");
         } catch (Exception e) {
-            return AuthResponse.error("Login failed. Please try again.");
+            return loginFailed(LoginOutcome.ERROR, "Login failed. Please try again.");
         }
     }
+
+    private AuthResponse loginFailed(LoginOutcome outcome, String message) {
+        authMetrics.loginAttempt(outcome);
+        return AuthResponse.error(message);
+    }
     
     @Override
     public LogoutResponse logout(String refreshToken) {
@@ -169,6 +183,8 @@ public class LoginServiceImpl implements LoginService {
             
             // Invalidate old refresh token
             refreshTokenService.invalidateToken(refreshToken);
+            authMetrics.tokenIssued(TokenType.ACCESS);
+            authMetrics.tokenIssued(TokenType.REFRESH);
             
             // Create user info for response
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
@@ -5,6 +5,7 @@ import com.wesports.backend.application.dto.GenderSelectionRequest;
 import com.wesports.backend.application.dto.PositionSelectionRequest;
 import com.wesports.backend.application.dto.CategorySelectionRequest;
 import com.wesports.backend.application.dto.PlayerProfileRequest;
+import com.wesports.backend.application.dto.OnboardingSubmissionRequest;
 import com.wesports.backend.application.port.inbound.OnboardingService;
 import com.wesports.backend.domain.valueobject.UserId;
 import com.wesports.backend.domain.valueobject.Position;
@@ -14,11 +15,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +49,14 @@ public class OnboardingApplicationService {
         return response;
     }
     
+    /**
+     * Get the version tag of the user's onboarding status, for conditional requests
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getOnboardingStatusVersionTag(UserId userId) {
+        return onboardingService.getOnboardingStatusVersionTag(userId);
+    }
+    
     /**
      * Handle gender selection in onboarding flow
      */
@@ -100,32 +112,53 @@ public class OnboardingApplicationService {
         return response;
     }
     
+    /**
+     * Handle the whole onboarding flow submitted in one request
+     */
+    public OnboardingStepResponse submitOnboarding(UserId userId, OnboardingSubmissionRequest request) {
+        log.info("Processing onboarding submission for user: {} - Gender: {}, Categories: {}, Position: {}",
+                userId.getValue(), request.gender(), request.categoryCodes(), request.positionCode());
+        
+        OnboardingStepResponse response = onboardingService.submitOnboarding(userId, request);
+        
+        log.info("Onboarding submission finished for user: {} - Status: {}", 
+                userId.getValue(), response.status());
+        return response;
+    }
+    
     /**
      * Get available positions for selection
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Map<String, String>> getAvailablePositions() {
 
         
         return Arrays.stream(Position.values())
-                .map(position -> Map.of(
-                    "code", position.name(),
-                    "displayName", position.getDisplayName(),
-                    "category", getPositionCategory(position)
-                ))
+                .map(position -> {
+                    // Insertion-ordered so the rendered JSON (and its ETag) is identical on every instance
+                    Map<String, String> item = new LinkedHashMap<>();
+                    item.put("code", position.name());
+                    item.put("displayName", position.getDisplayName());
+                    item.put("category", getPositionCategory(position));
+                    return item;
+                })
                 .collect(Collectors.toList());
     }
     
     /**
      * Get available categories for selection
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Map<String, String>> getAvailableCategories() {
 
         
         return Arrays.stream(Category.values())
-                .map(category -> Map.of(
-                    "code", category.name(),
-                    "displayName", category.getDisplayName()
-                ))
+                .map(category -> {
+                    Map<String, String> item = new LinkedHashMap<>();
+                    item.put("code", category.name());
+                    item.put("displayName", category.getDisplayName());
+                    return item;
+                })
                 .collect(Collectors.toList());
     }
     
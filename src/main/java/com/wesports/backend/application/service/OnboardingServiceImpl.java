@@ -5,22 +5,29 @@ import com.wesports.backend.application.dto.GenderSelectionRequest;
 import com.wesports.backend.application.dto.PositionSelectionRequest;
 import com.wesports.backend.application.dto.CategorySelectionRequest;
 import com.wesports.backend.application.dto.PlayerProfileRequest;
+import com.wesports.backend.application.dto.OnboardingSubmissionRequest;
 import com.wesports.backend.application.port.inbound.OnboardingService;
 import com.wesports.backend.domain.model.User;
 import com.wesports.backend.domain.model.Player;
 import com.wesports.backend.domain.repository.UserRepository;
+import com.wesports.backend.domain.repository.PlayerProfileRepository;
 import com.wesports.backend.domain.repository.PlayerRepository;
 import com.wesports.backend.domain.valueobject.UserId;
 
 import com.wesports.backend.domain.valueobject.Gender;
 import com.wesports.backend.domain.valueobject.Position;
 import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.ProfileVersion;
+import com.wesports.backend.domain.valueobject.RegistrationStep;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 /**
@@ -34,13 +41,19 @@ public class OnboardingServiceImpl implements OnboardingService {
     
     private final UserRepository userRepository;
     private final PlayerRepository playerRepository;
+    private final PlayerProfileRepository playerProfileRepository;
+    private final PlayerProfileCache playerProfileCache;
     
     @Autowired
     public OnboardingServiceImpl(
             UserRepository userRepository,
-            PlayerRepository playerRepository) {
+            PlayerRepository playerRepository,
+            PlayerProfileRepository playerProfileRepository,
+            PlayerProfileCache playerProfileCache) {
         this.userRepository = userRepository;
         this.playerRepository = playerRepository;
+        this.playerProfileRepository = playerProfileRepository;
+        this.playerProfileCache = playerProfileCache;
     }
     
     @Override
@@ -64,9 +77,11 @@ public class OnboardingServiceImpl implements OnboardingService {
             // Update user's gender directly since Player no longer inherits from User
             user.updateProfile(user.getFirstName(), user.getLastName(), gender, user.getBirthday());
             user.setUpdatedAt(LocalDateTime.now());
+            user.advanceOnboarding(user.isPlayer() ? playerRepository.findById(userId).orElse(null) : null);
             
             // Save the updated user
             userRepository.save(user);
+            playerProfileCache.evict(userId);
             
             return OnboardingStepResponse.success("Gender selection completed successfully", "position");
             
@@ -111,6 +126,10 @@ public class OnboardingServiceImpl implements OnboardingService {
             Player player = playerOpt.get();
             player.updatePosition(position);
             playerRepository.save(player);
+            if (user.advanceOnboarding(player)) {
+                userRepository.save(user);
+            }
+            playerProfileCache.evict(userId);
             
             return OnboardingStepResponse.success(
                 "Position selected successfully. Onboarding complete!", 
@@ -154,6 +173,7 @@ public class OnboardingServiceImpl implements OnboardingService {
                     Category category = Category.fromString(categoryCode);
                     player.updateCategory(category);
                     playerRepository.save(player);
+                    playerProfileCache.evict(userId);
                 }
             } else {
                 // This should not happen if role selection creates Player immediately
@@ -190,10 +210,12 @@ public class OnboardingServiceImpl implements OnboardingService {
                 request.birthday()
             );
             user.setUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
             
             // Check if this user also has a Player profile for physical attributes
             Optional<Player> playerOpt = playerRepository.findById(userId);
+            user.advanceOnboarding(playerOpt.orElse(null));
+            userRepository.save(user);
+            playerProfileCache.evict(userId);
             if (playerOpt.isPresent()) {
                 // User has a player profile - update physical attributes
                 Player player = playerOpt.get();
@@ -219,61 +241,122 @@ public class OnboardingServiceImpl implements OnboardingService {
     }
     
     @Override
-    public OnboardingStepResponse getOnboardingStatus(UserId userId) {
+    @Transactional
+    public OnboardingStepResponse submitOnboarding(UserId userId, OnboardingSubmissionRequest request) {
         try {
+            // Validate every choice before touching the database, so a bad payload costs no query
+            List<String> errors = new ArrayList<>();
+            Gender gender = parse(Gender::fromString, request.gender(), errors);
+            List<Category> categories = new ArrayList<>();
+            if (request.categoryCodes() != null) {
+                for (String categoryCode : request.categoryCodes()) {
+                    Category category = parse(Category::fromString, categoryCode, errors);
+                    if (category != null) {
+                        categories.add(category);
+                    }
+                }
+            }
+            Position position = request.positionCode() == null ? null
+                : parse(Position::fromString, request.positionCode(), errors);
+            if (!errors.isEmpty()) {
+                return OnboardingStepResponse.error(String.join("; ", errors));
+            }
 
-            log.info("UserId: " + userId.getValue());
-            
-            // First check if User exists
             Optional<User> userOpt = userRepository.findById(userId);
             if (userOpt.isEmpty()) {
                 log.warning("User not found: " + userId.getValue());
                 return OnboardingStepResponse.error("User not found");
             }
-            
             User user = userOpt.get();
-            
-            // Check User-level onboarding progress first
-            if (user.getGender() == null) {
-                return OnboardingStepResponse.success("Please select your gender", "select-gender");
-            }
-            
-            // Check if profile is complete (User-level data)
-            if (user.getFirstName().equals("User") || user.getLastName().equals("Name")) {
-                return OnboardingStepResponse.success("Please complete your profile", "complete-profile");
-            }
-            
-            // Now check Player-specific onboarding (if user is a player)
+
+            Player player = null;
             if (user.isPlayer()) {
+                if (categories.isEmpty() || position == null) {
+                    return OnboardingStepResponse.error("Category and position are required for players");
+                }
                 Optional<Player> playerOpt = playerRepository.findById(userId);
-                if (playerOpt.isPresent()) {
-                    Player player = playerOpt.get();
-                    
-                    // Check if player has position and category
-                    if (!player.hasPosition()) {
-                        return OnboardingStepResponse.success("Please select your position", "select-position");
-                    }
-                    
-                    // Check if physical profile is complete
-                    if (!player.isPhysicalProfileComplete()) {
-                        return OnboardingStepResponse.success("Please complete your player profile", "complete-profile");
-                    }
-                    
-                    log.info("Onboarding already completed for player: " + userId.getValue());
-                    return OnboardingStepResponse.completed("Onboarding already completed");
-                } else {
-                    // User is a player but no Player profile exists - needs position selection
-                    return OnboardingStepResponse.success("Please select your position", "select-position");
+                if (playerOpt.isEmpty()) {
+                    log.warning("Player entity not found for userId: " + userId.getValue());
+                    return OnboardingStepResponse.error("Player profile not found. Please contact support.");
                 }
-            } else {
-                // User is not a player - onboarding complete for regular users
-                log.info("Onboarding completed for regular user: " + userId.getValue());
-                return OnboardingStepResponse.completed("Onboarding already completed");
+                player = playerOpt.get();
+            }
+
+            // Apply all steps to the loaded aggregates, then write each of them once
+            user.updateProfile(request.firstName(), request.lastName(), gender, request.birthday());
+            user.setUpdatedAt(LocalDateTime.now());
+            if (player != null) {
+                // A player has a single category: the first one counts, as in the category step
+                player.updateCategory(categories.get(0));
+                player.updatePosition(position);
+                player.updateProfile(request.profilePhotoUrl(), request.height(), request.weight());
             }
+            user.advanceOnboarding(player);
+
+            userRepository.save(user);
+            if (player != null) {
+                playerRepository.save(player);
+            }
+            playerProfileCache.evict(userId);
+
+            log.info("Onboarding submitted in one request for user: " + userId.getValue());
+            if (!user.isRegistrationCompleted()) {
+                // Saved, but something is still missing (e.g. height and weight): say what comes next
+                return statusOf(user.getRegistrationStep());
+            }
+            return OnboardingStepResponse.completed("Profile completed successfully! Welcome to Ilyara.");
+
+        } catch (Exception e) {
+            log.severe("Onboarding submission failed: " + e.getMessage());
+            return OnboardingStepResponse.error("Failed to complete onboarding. Please try again.");
+        }
+    }
+
+    /**
+     * Parses one enum choice, collecting the reason instead of throwing when it is invalid
+     */
+    private static <T> T parse(Function<String, T> fromString, String value, List<String> errors) {
+        try {
+            return fromString.apply(value);
+        } catch (IllegalArgumentException e) {
+            errors.add(e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Optional<String> getOnboardingStatusVersionTag(UserId userId) {
+        // The status is the user row's registration step, so the row versions identify it
+        return playerProfileRepository.findVersionByUserId(userId).map(ProfileVersion::tag);
+    }
+    
+    @Override
+    public OnboardingStepResponse getOnboardingStatus(UserId userId) {
+        try {
+            // Every registration and onboarding write keeps the step current: one column, read by primary key
+            Optional<RegistrationStep> stepOpt = userRepository.findRegistrationStep(userId);
+            if (stepOpt.isEmpty()) {
+                log.warning("User not found: " + userId.getValue());
+                return OnboardingStepResponse.error("User not found");
+            }
+            return statusOf(stepOpt.get());
             
         } catch (Exception e) {
             log.severe("Get onboarding status failed: " + e.getMessage());
             return OnboardingStepResponse.error("Failed to get onboarding status. Please try again.");
         }
     }
+    
+    private static OnboardingStepResponse statusOf(RegistrationStep step) {
+        return switch (step) {
+            case EMAIL_VERIFICATION, PASSWORD_SETUP ->
+                OnboardingStepResponse.success("Please set up your password", "setup-password");
+            case ROLE_SELECTION -> OnboardingStepResponse.success("Please select your role", "select-role");
+            case GENDER_SELECTION -> OnboardingStepResponse.success("Please select your gender", "select-gender");
+            case PROFILE_FORM -> OnboardingStepResponse.success("Please complete your profile", "complete-profile");
+            case POSITION_SELECTION -> OnboardingStepResponse.success("Please select your position", "select-position");
+            case PLAYER_PROFILE -> OnboardingStepResponse.success("Please complete your player profile", "complete-profile");
+            case COMPLETED -> OnboardingStepResponse.completed("Onboarding already completed");
+        };
+    }
 }
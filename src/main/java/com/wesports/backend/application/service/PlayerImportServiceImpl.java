@@ -0,0 +1,347 @@
+package com.wesports.backend.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wesports.backend.application.dto.PlayerImportFormat;
+import com.wesports.backend.application.dto.PlayerImportReport;
+import com.wesports.backend.application.dto.PlayerImportRowError;
+import com.wesports.backend.application.port.inbound.PlayerImportService;
+import com.wesports.backend.application.port.outbound.ReferenceDataRegistry;
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.PlayerSport;
+import com.wesports.backend.domain.model.Sport;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.PlayerImportRepository;
+import com.wesports.backend.domain.repository.SportRepository;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.Gender;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import com.wesports.backend.domain.valueobject.SportId;
+import com.wesports.backend.domain.valueobject.UserRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application service for bulk roster imports
+ * Reads CSV or NDJSON line by line, validates every row against the domain value objects
+ * and hands complete batches to PlayerImportRepository, one transaction per batch
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerImportServiceImpl implements PlayerImportService {
+
+    private static final String DEFAULT_SPORT_CODE = "FOOTBALL";
+
+    private final PlayerImportRepository playerImportRepository;
+    private final SportRepository sportRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.import.max-reported-errors:500}")
+    private int maxReportedErrors;
+
+    @Override
+    public PlayerImportReport importPlayers(InputStream input, PlayerImportFormat format) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportRun run = new ImportRun(resolveSportId());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (format == PlayerImportFormat.CSV && header == null) {
+                    header = normalizeHeader(parseCsvLine(line));
+                    continue;
+                }
+
+                run.totalRows++;
+                try {
+                    Map<String, String> fields = format == PlayerImportFormat.CSV
+                        ? toCsvRecord(header, line)
+                        : toJsonRecord(line);
+                    run.pending.add(toImportedRow(lineNumber, fields, run.sportId));
+                } catch (IllegalArgumentException | DateTimeParseException | JsonProcessingException e) {
+                    run.reject(lineNumber, null, e.getMessage());
+                }
+
+                if (run.pending.size() >= batchSize) {
+                    flushBatch(run);
+                }
+            }
+            flushBatch(run);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Player import finished: {} rows read, {} imported, {} failed in {} ms",
+            run.totalRows, run.importedRows, run.failedRows, elapsedMillis);
+
+        return PlayerImportReport.of(run.totalRows, run.importedRows, elapsedMillis, run.errors, run.failedRows);
+    }
+
+    private void flushBatch(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        List<ImportedRow> batch = run.pending;
+        run.pending = new ArrayList<>(batchSize);
+
+        // Earlier batches are already committed, so this also catches duplicates across batches
+        Set<String> existingEmails = playerImportRepository.findExistingEmails(
+            batch.stream().map(ImportedRow::email).toList());
+        Set<String> batchEmails = new HashSet<>();
+
+        List<User> users = new ArrayList<>(batch.size());
+        List<Player> players = new ArrayList<>(batch.size());
+        List<PlayerSport> associations = new ArrayList<>(batch.size());
+        List<ImportedRow> accepted = new ArrayList<>(batch.size());
+
+        for (ImportedRow row : batch) {
+            if (existingEmails.contains(row.email())) {
+                run.reject(row.line(), row.email(), "Email is already registered");
+            } else if (!batchEmails.add(row.email())) {
+                run.reject(row.line(), row.email(), "Duplicate email in import");
+            } else {
+                users.add(row.user());
+                players.add(row.player());
+                associations.add(row.association());
+                accepted.add(row);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                playerImportRepository.insertBatch(users, players, associations));
+            run.importedRows += accepted.size();
+        } catch (DataAccessException e) {
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Import batch of {} rows rejected by the database: {}", accepted.size(), cause);
+            for (ImportedRow row : accepted) {
+                run.reject(row.line(), row.email(), "Batch rejected by the database: " + cause);
+            }
+        }
+    }
+
+    private ImportedRow toImportedRow(long line, Map<String, String> fields, SportId sportId) {
+        Email email = Email.of(required(fields, "email"));
+        String gender = optional(fields, "gender");
+        String birthday = optional(fields, "birthday");
+
+        User user = new User(
+            required(fields, "firstname"),
+            required(fields, "lastname"),
+            email,
+            gender != null ? Gender.fromString(gender) : null,
+            birthday != null ? LocalDate.parse(birthday) : null
+        );
+        user.setUserRole(UserRole.PLAYER);
+        user.setNationality(optional(fields, "nationality"));
+
+        Player player = new Player(user.getId());
+        String position = optional(fields, "position");
+        if (position != null) {
+            player.updatePosition(Position.fromString(position));
+        }
+        String category = optional(fields, "category");
+        if (category != null) {
+            player.updateCategory(Category.fromString(category));
+        }
+        String preferredFoot = optional(fields, "preferredfoot");
+        if (preferredFoot != null) {
+            player.updatePreferredFoot(PreferredFoot.fromString(preferredFoot));
+        }
+        // Same units and bounds as onboarding: meters and kilograms
+        Float height = measurement(fields, "height", 1.0f, 3.0f, "meters");
+        Float weight = measurement(fields, "weight", 30f, 200f, "kg");
+        String profilePhotoUrl = optional(fields, "profilephotourl");
+        if (height != null || weight != null || profilePhotoUrl != null) {
+            player.updateProfile(profilePhotoUrl, height, weight);
+        }
+
+        PlayerSport association = new PlayerSport(user.getId(), player.getId(), sportId);
+        return new ImportedRow(line, email.getValue(), user, player, association);
+    }
+
+    private static Float measurement(Map<String, String> fields, String name, float min, float max, String unit) {
+        String value = optional(fields, name);
+        if (value == null) {
+            return null;
+        }
+        float parsed = Float.parseFloat(value);
+        if (!(parsed >= min && parsed <= max)) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max + " " + unit + ": " + value);
+        }
+        return parsed;
+    }
+
+    private SportId resolveSportId() {
+        return referenceDataRegistry.findSportByCode(DEFAULT_SPORT_CODE)
+            .orElseGet(() -> {
+                log.info("Football sport not found - creating it before import");
+                Sport football = sportRepository.save(new Sport("Football", DEFAULT_SPORT_CODE, "Association football (soccer)"));
+                referenceDataRegistry.refreshAfterCommit();
+                return football;
+            })
+            .getId();
+    }
+
+    private Map<String, String> toCsvRecord(List<String> header, String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("Row has " + values.size() + " columns but header has " + header.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return fields;
+    }
+
+    private Map<String, String> toJsonRecord(String line) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Row is not a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            if (!field.getValue().isNull()) {
+                fields.put(normalizeKey(field.getKey()), field.getValue().asText());
+            }
+        }
+        return fields;
+    }
+
+    private List<String> normalizeHeader(List<String> columns) {
+        List<String> header = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            header.add(normalizeKey(column));
+        }
+        if (!header.contains("email") || !header.contains("firstname") || !header.contains("lastname")) {
+            throw new IllegalArgumentException("CSV header must contain email, firstName and lastName columns");
+        }
+        return header;
+    }
+
+    /**
+     * first_name, First Name and firstName all map to the same field
+     */
+    private static String normalizeKey(String key) {
+        return key.trim().toLowerCase().replace("_", "").replace("-", "").replace(" ", "");
+    }
+
+    /**
+     * Split one CSV line, honouring double-quoted fields and "" escapes
+     * Quoted fields cannot span lines since the body is read line by line
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String required(Map<String, String> fields, String name) {
+        String value = optional(fields, name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required field: " + name);
+        }
+        return value;
+    }
+
+    private static String optional(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private record ImportedRow(long line, String email, User user, Player player, PlayerSport association) {
+    }
+
+    /**
+     * Mutable progress of a single import call
+     */
+    private class ImportRun {
+        private final SportId sportId;
+        private final List<PlayerImportRowError> errors = new ArrayList<>();
+        private List<ImportedRow> pending = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        private ImportRun(SportId sportId) {
+            this.sportId = sportId;
+        }
+
+        private void reject(long line, String email, String message) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new PlayerImportRowError(line, email, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.wesports.backend.application.service;
+
+import com.wesports.backend.application.dto.PlayerProfileResponse;
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import com.wesports.backend.domain.valueobject.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user cache of the current player profile response
+ * Writers update it after their transaction commits (write-through) or evict the user;
+ * entries also expire after app.profile-cache.ttl as a safety net for writes made outside this service.
+ * A reader only populates the cache if no eviction happened while it was loading,
+ * so a slow read can never resurrect a profile that a concurrent write just invalidated.
+ * Writes are also published on the CacheInvalidationBus so other nodes drop their copy; while the bus
+ * is disconnected entries only live for app.profile-cache.degraded-ttl.
+ */
+@Slf4j
+@Component
+public class PlayerProfileCache {
+
+    static final String CACHE_NAME = "player-profile";
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final CacheInvalidationBus invalidationBus;
+    private final long ttlNanos;
+    private final long degradedTtlNanos;
+    private final int maxEntries;
+
+    public PlayerProfileCache(CacheInvalidationBus invalidationBus,
+                              @Value("${app.profile-cache.ttl:PT10M}") Duration ttl,
+                              @Value("${app.profile-cache.degraded-ttl:PT5S}") Duration degradedTtl,
+                              @Value("${app.profile-cache.max-entries:10000}") int maxEntries) {
+        this.invalidationBus = invalidationBus;
+        this.ttlNanos = ttl.toNanos();
+        this.degradedTtlNanos = Math.min(degradedTtl.toNanos(), ttlNanos);
+        this.maxEntries = maxEntries;
+        invalidationBus.subscribe(CACHE_NAME, new CacheInvalidationBus.Listener() {
+            @Override
+            public void invalidate(String key) {
+                entries.remove(UUID.fromString(key));
+                evictions.incrementAndGet();
+            }
+
+            @Override
+            public void invalidateAll() {
+                entries.clear();
+                evictions.incrementAndGet();
+            }
+        });
+    }
+
+    public PlayerProfileResponse get(UserId userId) {
+        Entry entry = entries.get(userId.getValue());
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() < 0) {
+            entries.remove(userId.getValue(), entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    /**
+     * Marker to take before loading a profile from the database, to be passed back to populate()
+     */
+    public long readStamp() {
+        return evictions.get();
+    }
+
+    /**
+     * Cache a profile loaded by a reader, unless an eviction happened since readStamp was taken
+     */
+    public void populate(UserId userId, PlayerProfileResponse response, long readStamp) {
+        if (evictions.get() == readStamp) {
+            store(userId.getValue(), response);
+        }
+    }
+
+    /**
+     * Write-through: replace the cached profile once the current transaction commits
+     */
+    public void putAfterCommit(UserId userId, PlayerProfileResponse response) {
+        UUID id = userId.getValue();
+        entries.remove(id);
+        evictions.incrementAndGet();
+        afterCommit(() -> store(id, response));
+        invalidationBus.publishAfterCommit(CACHE_NAME, id.toString());
+    }
+
+    /**
+     * Drop the cached profile now and again after the current transaction commits
+     */
+    public void evict(UserId userId) {
+        UUID id = userId.getValue();
+        entries.remove(id);
+        evictions.incrementAndGet();
+        afterCommit(() -> {
+            entries.remove(id);
+            evictions.incrementAndGet();
+        });
+        invalidationBus.publishAfterCommit(CACHE_NAME, id.toString());
+    }
+
+    private void store(UUID id, PlayerProfileResponse response) {
+        if (entries.size() >= maxEntries && !entries.containsKey(id)) {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> entry.expiresAt() - now < 0);
+            if (entries.size() >= maxEntries) {
+                log.debug("Profile cache full ({} entries), not caching user {}", maxEntries, id);
+                return;
+            }
+        }
+        long ttl = invalidationBus.isConnected() ? ttlNanos : degradedTtlNanos;
+        entries.put(id, new Entry(response, System.nanoTime() + ttl));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Entry(PlayerProfileResponse response, long expiresAt) {
+    }
+}
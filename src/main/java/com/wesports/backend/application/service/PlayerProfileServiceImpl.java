@@ -7,11 +7,15 @@ import com.wesports.backend.application.port.inbound.PlayerProfileService;
 import com.wesports.backend.domain.valueobject.Gender;
 import com.wesports.backend.domain.valueobject.PreferredFoot;
 import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.PlayerProfileView;
 import com.wesports.backend.domain.model.User;
 import com.wesports.backend.domain.model.UserAuthMethod;
+import com.wesports.backend.domain.repository.PlayerProfileRepository;
 import com.wesports.backend.domain.repository.PlayerRepository;
 import com.wesports.backend.domain.repository.UserRepository;
 import com.wesports.backend.domain.repository.UserAuthMethodRepository;
+import com.wesports.backend.domain.valueobject.AuthMethodType;
+import com.wesports.backend.domain.valueobject.ProfileVersion;
 import com.wesports.backend.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +27,7 @@ import java.util.Optional;
 
 /**
  * Application service for player profile operations
+ * Profile reads go through PlayerProfileCache and, on a miss, the single-query PlayerProfileRepository read model
  */
 @Slf4j
 @Service
@@ -32,96 +37,48 @@ public class PlayerProfileServiceImpl implements PlayerProfileService {
     private final PlayerRepository playerRepository;
     private final UserRepository userRepository;
     private final UserAuthMethodRepository userAuthMethodRepository;
+    private final PlayerProfileRepository playerProfileRepository;
+    private final PlayerProfileCache playerProfileCache;
     
+    /**
+     * Not read-only: a miss often follows another node's write, which a replica may not have replayed yet,
+     * and what a replica returned would stay cached for the whole TTL. Hits never touch the database.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public PlayerProfileResponse getCurrentPlayerProfile(UserId userId) {
-        Optional<Player> playerOpt = playerRepository.findById(userId);
+        PlayerProfileResponse cached = playerProfileCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
         
-        if (playerOpt.isPresent()) {
-            Player player = playerOpt.get();
-            
-            // Get User data separately since Player no longer inherits from User
-            Optional<User> userOpt = userRepository.findById(userId);
-            if (userOpt.isEmpty()) {
-                log.warn("User not found for existing player: {}", userId.getValue());
-                throw new RuntimeException("User not found for existing player");
-            }
-            
-            User user = userOpt.get();
-            
-            return PlayerProfileResponse.success(
-                player.getId().getValue(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getEmail().getValue(),
-                user.getGender() != null ? user.getGender().toString() : null,
-                user.getBirthday(),
-                user.getLanguageId(),
-                getAuthProviders(userId),
-                user.getCreatedAt(),
-                user.getUpdatedAt(),
-                user.getUserRole() != null ? user.getUserRole().toString() : null,
-                user.getNationality(),
-                user.getLieuDeResidence(),
-                user.getLanguages(),
-                user.isEmailVerified(),
-                player.getProfilePhotoUrl(),
-                player.getHeight(),
-                player.getWeight(),
-                player.getPostId(),
-                player.getPosition() != null ? player.getPosition().name() : null,
-                player.getCategory() != null ? player.getCategory().name() : null,
-                user.isProfileComplete(),
-                player.hasPosition(),
-                player.hasCategory(),
-                player.isPhysicalProfileComplete()
-            );
-        } else {
-            // Player doesn't exist - check if user exists
-            Optional<User> userOpt = userRepository.findById(userId);
-            if (userOpt.isEmpty()) {
-                log.warn("User not found: {}", userId.getValue());
-                throw new RuntimeException("User not found");
-            }
-            
-            User user = userOpt.get();
-            
-            // Check if user is a player role but Player entity hasn't been created yet
-            if (!user.isPlayer()) {
-                log.warn("User is not a player: {}", userId.getValue());
-                throw new RuntimeException("User is not a player");
-            }
-            
-            // Return user data with null player fields (incomplete profile)
-            return PlayerProfileResponse.success(
-                user.getId().getValue(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getEmail().getValue(),
-                user.getGender() != null ? user.getGender().toString() : null,
-                user.getBirthday(),
-                user.getLanguageId(),
-                getAuthProviders(userId),
-                user.getCreatedAt(),
-                user.getUpdatedAt(),
-                user.getUserRole() != null ? user.getUserRole().toString() : null,
-                user.getNationality(),
-                user.getLieuDeResidence(),
-                user.getLanguages(),
-                user.isEmailVerified(),
-                null, // profilePhotoUrl
-                null, // height
-                null, // weight
-                null, // postId
-                null, // position
-                null, // category
-                false, // isProfileComplete
-                false, // hasPosition
-                false, // hasCategory
-                false  // isPhysicalProfileComplete
-            );
+        long readStamp = playerProfileCache.readStamp();
+        Optional<PlayerProfileView> viewOpt = playerProfileRepository.findByUserId(userId);
+        if (viewOpt.isEmpty()) {
+            log.warn("User not found: {}", userId.getValue());
+            throw new RuntimeException("User not found");
         }
+        
+        PlayerProfileView view = viewOpt.get();
+        
+        // Check if user is a player role but Player entity hasn't been created yet
+        if (!view.hasPlayer() && !view.user().isPlayer()) {
+            log.warn("User is not a player: {}", userId.getValue());
+            throw new RuntimeException("User is not a player");
+        }
+        
+        List<String> authProviders = view.activeAuthMethods().stream()
+                .map(AuthMethodType::getDisplayName)
+                .toList();
+        PlayerProfileResponse response = toProfileResponse(view.user(), view.player(), authProviders);
+        playerProfileCache.populate(userId, response, readStamp);
+        return response;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getProfileVersionTag(UserId userId) {
+        return playerProfileRepository.findVersionByUserId(userId).map(ProfileVersion::tag);
     }
     
     @Override
@@ -198,39 +155,16 @@ public class PlayerProfileServiceImpl implements PlayerProfileService {
             if (preferredFoot != null) {
                 player.updatePreferredFoot(preferredFoot);
             }
+            user.advanceOnboarding(player);
             
             // Save both entities
+            playerProfileCache.evict(userId);
             userRepository.save(user);
             Player updatedPlayer = playerRepository.save(player);
             
             // Return updated profile combining User and Player data
-            PlayerProfileResponse updatedProfile = PlayerProfileResponse.success(
-                updatedPlayer.getId().getValue(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getEmail().getValue(),
-                user.getGender() != null ? user.getGender().toString() : null,
-                user.getBirthday(),
-                user.getLanguageId(),
-                getAuthProviders(userId),
-                user.getCreatedAt(),
-                user.getUpdatedAt(),
-                user.getUserRole() != null ? user.getUserRole().toString() : null,
-                user.getNationality(),
-                user.getLieuDeResidence(),
-                user.getLanguages(),
-                user.isEmailVerified(),
-                updatedPlayer.getProfilePhotoUrl(),
-                updatedPlayer.getHeight(),
-                updatedPlayer.getWeight(),
-                updatedPlayer.getPostId(),
-                updatedPlayer.getPosition() != null ? updatedPlayer.getPosition().name() : null,
-                updatedPlayer.getCategory() != null ? updatedPlayer.getCategory().name() : null,
-                user.isProfileComplete(),
-                updatedPlayer.hasPosition(),
-                updatedPlayer.hasCategory(),
-                updatedPlayer.isPhysicalProfileComplete()
-            );
+            PlayerProfileResponse updatedProfile = toProfileResponse(user, updatedPlayer, getAuthProviders(userId));
+            playerProfileCache.putAfterCommit(userId, updatedProfile);
             
             return PlayerProfileUpdateResponse.success("Profile updated successfully", updatedProfile);
             
@@ -240,6 +174,41 @@ public class PlayerProfileServiceImpl implements PlayerProfileService {
         }
     }
     
+    /**
+     * Build the profile response from the user and its player record
+     * Player fields are left empty (and completion flags false) while onboarding has not created the player yet
+     */
+    private PlayerProfileResponse toProfileResponse(User user, Player player, List<String> authProviders) {
+        boolean hasPlayer = player != null;
+        return PlayerProfileResponse.success(
+            hasPlayer ? player.getId().getValue() : user.getId().getValue(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getEmail().getValue(),
+            user.getGender() != null ? user.getGender().toString() : null,
+            user.getBirthday(),
+            user.getLanguageId(),
+            authProviders,
+            user.getCreatedAt(),
+            user.getUpdatedAt(),
+            user.getUserRole() != null ? user.getUserRole().toString() : null,
+            user.getNationality(),
+            user.getLieuDeResidence(),
+            user.getLanguages(),
+            user.isEmailVerified(),
+            hasPlayer ? player.getProfilePhotoUrl() : null,
+            hasPlayer ? player.getHeight() : null,
+            hasPlayer ? player.getWeight() : null,
+            hasPlayer ? player.getPostId() : null,
+            hasPlayer && player.getPosition() != null ? player.getPosition().name() : null,
+            hasPlayer && player.getCategory() != null ? player.getCategory().name() : null,
+            hasPlayer && user.isProfileComplete(),
+            hasPlayer && player.hasPosition(),
+            hasPlayer && player.hasCategory(),
+            hasPlayer && player.isPhysicalProfileComplete()
+        );
+    }
+    
     /**
      * Helper method to get auth providers for a user using the new UserAuthMethod architecture
      */
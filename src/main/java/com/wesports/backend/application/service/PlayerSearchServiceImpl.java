@@ -0,0 +1,73 @@
+package com.wesports.backend.application.service;
+
+import com.wesports.backend.application.dto.PlayerSearchItem;
+import com.wesports.backend.application.dto.PlayerSearchResponse;
+import com.wesports.backend.application.dto.ScoutingResult;
+import com.wesports.backend.application.port.inbound.PlayerSearchService;
+import com.wesports.backend.application.port.outbound.PlayerScoutingIndex;
+import com.wesports.backend.domain.model.PlayerSummary;
+import com.wesports.backend.domain.repository.PlayerSearchRepository;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.PlayerSearchCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Application service for scouting searches
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerSearchServiceImpl implements PlayerSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SCOUTING_LIMIT = 50;
+    private static final int MAX_SCOUTING_LIMIT = 1000;
+
+    private final PlayerSearchRepository playerSearchRepository;
+    private final PlayerScoutingIndex playerScoutingIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PlayerSearchResponse search(PlayerSearchCriteria criteria, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PlayerSearchCursor after = PlayerSearchCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        List<PlayerSummary> rows = playerSearchRepository.search(criteria, after, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<PlayerSummary> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            PlayerSummary last = page.get(page.size() - 1);
+            nextCursor = new PlayerSearchCursor(last.createdAt(), last.id().getValue()).encode();
+        }
+
+        log.debug("Player search returned {} rows (hasMore={})", page.size(), hasMore);
+        return PlayerSearchResponse.success(page.stream().map(PlayerSearchItem::from).toList(), nextCursor);
+    }
+
+    @Override
+    public ScoutingResult scout(PlayerSearchCriteria criteria, Integer limit) {
+        if (criteria.nationality() != null || !criteria.languages().isEmpty()) {
+            throw new IllegalArgumentException(
+                "Nationality and language filters are not indexed for scouting; use /api/player/search");
+        }
+        if (!playerScoutingIndex.isReady()) {
+            return ScoutingResult.error("Scouting index is still loading");
+        }
+        int maxIds = limit == null ? DEFAULT_SCOUTING_LIMIT : Math.max(0, Math.min(limit, MAX_SCOUTING_LIMIT));
+
+        long startedAt = System.nanoTime();
+        PlayerScoutingIndex.Matches matches = playerScoutingIndex.query(criteria, maxIds);
+        long tookMicros = (System.nanoTime() - startedAt) / 1_000;
+
+        return ScoutingResult.success(matches.count(), matches.playerIds(), tookMicros);
+    }
+}
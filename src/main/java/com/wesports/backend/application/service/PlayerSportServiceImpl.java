@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -31,14 +32,20 @@ public class PlayerSportServiceImpl implements PlayerSportService {
     
     @Override
     public PlayerSport createAssociation(UserId userId, PlayerId playerId, SportId sportId) {
-        // Check if association already exists
-        if (playerSportRepository.existsActiveAssociation(userId, playerId, sportId)) {
+        List<PlayerSport> created = createAssociations(userId, playerId, Set.of(sportId));
+        if (created.isEmpty()) {
             throw new IllegalStateException("Association already exists between user, player, and sport");
         }
-        
-        // Create new association
-        PlayerSport playerSport = new PlayerSport(userId, playerId, sportId);
-        return playerSportRepository.save(playerSport);
+        return created.get(0);
+    }
+    
+    @Override
+    public List<PlayerSport> createAssociations(UserId userId, PlayerId playerId, Set<SportId> sportIds) {
+        // No existence pre-check: the unique index on active links drops duplicates during the insert
+        List<PlayerSport> associations = sportIds.stream()
+            .map(sportId -> new PlayerSport(userId, playerId, sportId))
+            .toList();
+        return playerSportRepository.insertMissing(associations);
     }
     
     @Override
@@ -21,7 +21,11 @@ import com.wesports.backend.application.port.inbound.PlayerSportService;
 import com.wesports.backend.domain.repository.OTPRepository;
 import com.wesports.backend.domain.repository.UserRepository;
 
-import com.wesports.backend.domain.repository.LanguageRepository;
+import com.wesports.backend.application.port.outbound.AuthMetrics;
+import com.wesports.backend.application.port.outbound.AuthMetrics.OtpRequestOutcome;
+import com.wesports.backend.application.port.outbound.AuthMetrics.OtpVerificationOutcome;
+import com.wesports.backend.application.port.outbound.AuthMetrics.TokenType;
+import com.wesports.backend.application.port.outbound.ReferenceDataRegistry;
 
 import com.wesports.backend.domain.valueobject.Email;
 import com.wesports.backend.domain.valueobject.RegistrationStep;
@@ -42,6 +46,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -55,12 +60,14 @@ public class RegistrationServiceImpl implements RegistrationService {
     private final SportRepository sportRepository;
     private final PlayerSportService playerSportService;
     private final OTPRepository otpRepository;
-    private final LanguageRepository languageRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final EmailService emailService;
     private final JwtTokenService jwtTokenService;
     private final AccessTokenService accessTokenService;
     private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
+    private final PlayerProfileCache playerProfileCache;
+    private final AuthMetrics authMetrics;
 
     // Simple in-memory rate limiting
     private final java.util.concurrent.ConcurrentHashMap<String, java.util.concurrent.atomic.AtomicInteger> otpAttempts = new java.util.concurrent.ConcurrentHashMap<>();
@@ -80,6 +87,7 @@ public class RegistrationServiceImpl implements RegistrationService {
             // Rate limiting check
             if (!checkRateLimit(email.getValue())) {
                 log.warn("Rate limit exceeded for email: {}", email.getValue());
+                authMetrics.otpRequested(OtpRequestOutcome.RATE_LIMITED);
                 return RegistrationStepResponse.error("Too many OTP requests. Please try again later.");
             }
 
@@ -87,6 +95,7 @@ public class RegistrationServiceImpl implements RegistrationService {
             Optional<User> existingUser = userRepository.findByEmail(email);
             if (existingUser.isPresent()) {
                 log.warn("User already exists for email: {}", email.getValue());
+                authMetrics.otpRequested(OtpRequestOutcome.EXISTING_ACCOUNT);
                 return RegistrationStepResponse.error("User with this email already exists. Please login instead.");
             }
 
@@ -112,6 +121,7 @@ public class RegistrationServiceImpl implements RegistrationService {
 
             // Send email
             emailService.sendRegistrationOtp(email, otp.getOtpCode(), languageCode);
+            authMetrics.otpRequested(OtpRequestOutcome.ISSUED);
 
             log.info("Registration OTP sent to email: {} in language: {}", email.getValue(), languageCode);
 
@@ -152,6 +162,7 @@ public class RegistrationServiceImpl implements RegistrationService {
             
             if (otpOpt.isEmpty()) {
                 log.warn("No valid OTP found for tempUserId: {}", tempUserId.getValue());
+                authMetrics.otpVerified(OtpVerificationOutcome.NOT_FOUND);
                 return RegistrationStepResponse.error("Invalid or expired OTP");
             }
 
@@ -163,6 +174,7 @@ public class RegistrationServiceImpl implements RegistrationService {
             // Check if OTP is expired
             if (otp.isExpired()) {
                 log.warn("OTP is expired for tempUserId: {}", tempUserId.getValue());
+                authMetrics.otpVerified(OtpVerificationOutcome.EXPIRED);
                 otpRepository.delete(otp);
                 return RegistrationStepResponse.error("OTP has expired. Please request a new one.");
             }
@@ -170,6 +182,7 @@ public class RegistrationServiceImpl implements RegistrationService {
             // Check if too many attempts
             if (otp.isMaxAttemptsReached()) {
                 log.warn("Max attempts reached for OTP tempUserId: {}", tempUserId.getValue());
+                authMetrics.otpVerified(OtpVerificationOutcome.TOO_MANY_ATTEMPTS);
                 otpRepository.delete(otp);
                 return RegistrationStepResponse.error("Too many OTP attempts. Please request a new one.");
             }
@@ -178,12 +191,14 @@ public class RegistrationServiceImpl implements RegistrationService {
             log.info("Verifying OTP code: {} against stored code: {}", request.otp(), otp.getOtpCode());
             if (!otp.verify(request.otp())) {
                 log.warn("OTP verification failed. Provided: {}, Expected: {}", request.otp(), otp.getOtpCode());
+                authMetrics.otpVerified(OtpVerificationOutcome.WRONG_CODE);
                 // Save the updated OTP with incremented attempts
                 otpRepository.save(otp);
                 return RegistrationStepResponse.error("Invalid OTP. Please try again.");
             }
 
             log.info("OTP verification successful!");
+            authMetrics.otpVerified(OtpVerificationOutcome.VERIFIED);
             // OTP is valid - delete it (one-time use)
             otpRepository.delete(otp);
 
@@ -225,6 +240,7 @@ public class RegistrationServiceImpl implements RegistrationService {
 
             // Generate short-lived JWT token (5 minutes)
             String registrationToken = jwtTokenService.generateRegistrationToken(tempUserId, jti);
+            authMetrics.tokenIssued(TokenType.REGISTRATION);
 
             log.info("Email verified successfully for: {}", email.getValue());
             log.info("Created EMAIL_VERIFIED record with JTI: {}", jti);
@@ -262,23 +278,10 @@ public class RegistrationServiceImpl implements RegistrationService {
 
     /**
      * Create EMAIL_VERIFIED record with custom JWT ID
-     * This uses reflection to set the OTP code after construction
+     * The JTI is stored as the OTP code so the registration token can be consumed only once
      */
     private OTP createEmailVerifiedRecord(UserId userId, String jti) {
-        try {
-            // Create the OTP with EMAIL_VERIFIED type
-            OTP emailVerified = new OTP(userId, "EMAIL_VERIFIED");
-            
-            // Use reflection to set the JTI as the OTP code
-            java.lang.reflect.Field otpCodeField = OTP.class.getDeclaredField("otpCode");
-            otpCodeField.setAccessible(true);
-            otpCodeField.set(emailVerified, jti);
-            
-            return emailVerified;
-        } catch (Exception e) {
-            log.error("Failed to create EMAIL_VERIFIED record with JTI", e);
-            throw new RuntimeException("Failed to create verification record", e);
-        }
+        return OTP.withCode(userId, "EMAIL_VERIFIED", jti);
     }
 
 
@@ -294,15 +297,15 @@ public class RegistrationServiceImpl implements RegistrationService {
         // Create User with minimal required fields - we'll update with full profile later
         User user = new User(
             userId,
-            "User",
-            "Name",  
+            User.PLACEHOLDER_FIRST_NAME,
+            User.PLACEHOLDER_LAST_NAME,
             email,
             null, // PhoneNumber - will be set during profile completion
             null, // Gender - will be set during profile completion
             null, // Birthday - will be set during profile completion
             languageId, // Use user's chosen language from OTP
             java.time.LocalDateTime.now(),
-            RegistrationStep.EMAIL_VERIFICATION // ✅ Start with email verification step
+            RegistrationStep.PASSWORD_SETUP // Email is verified, the password comes next
         );
         
         // Mark email as verified since OTP verification passed
@@ -322,8 +325,7 @@ public class RegistrationServiceImpl implements RegistrationService {
         
         if (languageCode != null && !languageCode.trim().isEmpty()) {
             // Try to find the language by code
-            Optional<Language> languageOpt =
-                languageRepository.findByCode(languageCode.toLowerCase());
+            Optional<Language> languageOpt = referenceDataRegistry.findLanguageByCode(languageCode);
             
             if (languageOpt.isPresent() && languageOpt.get().isActive()) {
                 log.info("Using user's chosen language: {} ({})", languageOpt.get().getName(), languageCode);
@@ -344,13 +346,13 @@ public class RegistrationServiceImpl implements RegistrationService {
      */
     private UUID findDefaultLanguageId() {
         // Try to find English first
-        Optional<Language> english = languageRepository.findByCode("en");
+        Optional<Language> english = referenceDataRegistry.findLanguageByCode("en");
         if (english.isPresent() && english.get().isActive()) {
             return english.get().getId();
         }
         
         // Fallback to first active language
-        java.util.List<Language> activeLanguages = languageRepository.findAllActive();
+        java.util.List<Language> activeLanguages = referenceDataRegistry.findActiveLanguages();
         if (!activeLanguages.isEmpty()) {
             return activeLanguages.get(0).getId();
         }
@@ -490,6 +492,7 @@ public class RegistrationServiceImpl implements RegistrationService {
             // Hash and set the password
             String hashedPassword = passwordEncoder.encode(request.password());
             user.setPasswordHash(hashedPassword);
+            user.setRegistrationStep(RegistrationStep.ROLE_SELECTION);
             user.setUpdatedAt(LocalDateTime.now());
             
             // Save updated user
@@ -511,10 +514,13 @@ public class RegistrationServiceImpl implements RegistrationService {
                 // If this fails, the user might not be able to log in with the new architecture
                 throw new RuntimeException("Failed to create authentication method. Registration aborted.", e);
             }
+            playerProfileCache.evict(userId);
             
             // Generate access and refresh tokens
             String accessToken = accessTokenService.generateAccessToken(userId, user.getEmail().getValue());
             String refreshToken = refreshTokenService.generateRefreshToken(userId, user.getEmail().getValue());
+            authMetrics.tokenIssued(TokenType.ACCESS);
+            authMetrics.tokenIssued(TokenType.REFRESH);
             
             // Create user info for response
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
@@ -567,9 +573,9 @@ public class RegistrationServiceImpl implements RegistrationService {
             
             User user = userOpt.get();
             user.setUserRole(request.role());
-            userRepository.save(user);
             
             // ✅ NEW FIX: Create Player entity + PlayerSport junction immediately when PLAYER role selected
+            Player player = null;
             if (request.role() == UserRole.PLAYER) {
                 log.info("PLAYER role selected - Creating Player entity and PlayerSport junction immediately");
                 
@@ -577,12 +583,13 @@ public class RegistrationServiceImpl implements RegistrationService {
                 Optional<Player> existingPlayer = playerRepository.findById(userId);
                 if (existingPlayer.isEmpty()) {
                     // 1. Create minimal Player entity with User ID as Player ID (no position/category yet)
-                    Player player = new Player(userId); // Uses userId as playerId to align with repository
-                    Player savedPlayer = playerRepository.save(player);
+                    Player newPlayer = new Player(userId); // Uses userId as playerId to align with repository
+                    Player savedPlayer = playerRepository.save(newPlayer);
+                    player = savedPlayer;
                     log.info("Player entity created with ID: {}", savedPlayer.getId().getValue());
                     
                     // 2. Find or create Football sport (default sport for players)
-                    Optional<Sport> footballOpt = sportRepository.findByCode("FOOTBALL");
+                    Optional<Sport> footballOpt = referenceDataRegistry.findSportByCode("FOOTBALL");
                     Sport football;
                     if (footballOpt.isPresent()) {
                         football = footballOpt.get();
@@ -592,18 +599,25 @@ public class RegistrationServiceImpl implements RegistrationService {
                         log.info("Football sport not found - creating new Football sport");
                         football = new Sport("Football", "FOOTBALL", "Association football (soccer)");
                         football = sportRepository.save(football);
+                        referenceDataRegistry.refreshAfterCommit();
                         log.info("Created new Football sport with ID: {}", football.getId().getValue());
                     }
                     
-                    // 3. Create PlayerSport junction table record
-                    playerSportService.createAssociation(userId, savedPlayer.getId(), football.getId());
-                    log.info("PlayerSport junction created: User {} <-> Player {} <-> Sport FOOTBALL", 
-                            userId.getValue(), savedPlayer.getId().getValue());
+                    // 3. Create PlayerSport junction table record (skipped by the database if it already exists)
+                    boolean linked = !playerSportService.createAssociations(
+                        userId, savedPlayer.getId(), Set.of(football.getId())).isEmpty();
+                    log.info("PlayerSport junction {}: User {} <-> Player {} <-> Sport FOOTBALL",
+                            linked ? "created" : "already present", userId.getValue(), savedPlayer.getId().getValue());
                 } else {
+                    player = existingPlayer.get();
                     log.info("Player entity already exists for userId: {}", userId.getValue());
                 }
             }
             
+            user.advanceOnboarding(player);
+            userRepository.save(user);
+            playerProfileCache.evict(userId);
+            
             log.info("Role selection completed successfully for userId: {} role: {}", 
                 userId.getValue(), request.role());
             
@@ -644,8 +658,10 @@ public class RegistrationServiceImpl implements RegistrationService {
             user.setNationality(request.nationality());
             user.setLieuDeResidence(request.lieuDeResidence());
             user.setLanguages(request.languages());
+            user.advanceOnboarding(user.isPlayer() ? playerRepository.findById(userId).orElse(null) : null);
             
             userRepository.save(user);
+            playerProfileCache.evict(userId);
             log.info("Profile form submitted successfully for User userId: {}", userId.getValue());
             
             return RegistrationStepResponse.success(
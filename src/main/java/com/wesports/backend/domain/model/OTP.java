@@ -65,6 +65,11 @@ public class OTP {
         this.languageCode = languageCode; // Store user's language choice
     }
 
+    // Factory for a new record whose code is chosen by the caller (e.g. the JWT ID of an EMAIL_VERIFIED record)
+    public static OTP withCode(UserId userId, String type, String code) {
+        return new OTP(UUID.randomUUID(), userId, code, LocalDateTime.now(), 0, type);
+    }
+
     // Business logic methods
     public boolean isValid() {
         return !isExpired() && !isMaxAttemptsReached();
@@ -26,6 +26,7 @@ public class Player {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean active;
+    private Long version; // Null until first persisted
 
     // Minimal constructor for role selection - position/category set later during onboarding
     public Player() {
@@ -157,6 +158,14 @@ public class Player {
         return active;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
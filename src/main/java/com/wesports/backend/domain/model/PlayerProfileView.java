@@ -0,0 +1,24 @@
+package com.wesports.backend.domain.model;
+
+import com.wesports.backend.domain.valueobject.AuthMethodType;
+
+import java.util.List;
+
+/**
+ * Read model backing the current player profile
+ * Carries the user, its player record (null until onboarding creates it) and the active
+ * auth method types, all loaded together in a single round trip
+ */
+public record PlayerProfileView(
+    User user,
+    Player player,
+    List<AuthMethodType> activeAuthMethods
+) {
+    public PlayerProfileView {
+        activeAuthMethods = activeAuthMethods != null ? List.copyOf(activeAuthMethods) : List.of();
+    }
+
+    public boolean hasPlayer() {
+        return player != null;
+    }
+}
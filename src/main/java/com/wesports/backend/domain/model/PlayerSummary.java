@@ -0,0 +1,29 @@
+package com.wesports.backend.domain.model;
+
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.PlayerId;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only projection of a player joined with the scouting-relevant user fields
+ * Returned by searches so a result page costs one query instead of a player and a user lookup per row
+ */
+public record PlayerSummary(
+    PlayerId id,
+    String firstName,
+    String lastName,
+    Position position,
+    Category category,
+    PreferredFoot preferredFoot,
+    Float height,
+    Float weight,
+    String nationality,
+    List<String> languages,
+    String profilePhotoUrl,
+    LocalDateTime createdAt
+) {
+}
@@ -15,6 +15,10 @@ import java.util.UUID;
 import java.util.List;
 
 public class User {
+    // Names given to an account at email verification, until the profile form replaces them
+    public static final String PLACEHOLDER_FIRST_NAME = "User";
+    public static final String PLACEHOLDER_LAST_NAME = "Name";
+
     private UserId id;
     private String firstName;
     private String lastName;
@@ -32,6 +36,7 @@ public class User {
     private LocalDateTime updatedAt;
     private String passwordHash;
     private boolean emailVerified;
+    private Long version; // Null until first persisted
     
     // Protected constructor for inheritance
     protected User() {
@@ -115,6 +120,43 @@ public class User {
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * Moves the registration step to the first onboarding step still outstanding, from this user's
+     * fields and its player profile (null when there is none). Call it after every registration or
+     * onboarding change so the onboarding status can be answered from the step alone.
+     * Returns whether the step changed.
+     */
+    public boolean advanceOnboarding(Player player) {
+        if (!registrationStep.isAccountSetUp()) {
+            return false;
+        }
+        RegistrationStep next;
+        if (userRole == null) {
+            next = RegistrationStep.ROLE_SELECTION;
+        } else if (gender == null) {
+            next = RegistrationStep.GENDER_SELECTION;
+        } else if (hasPlaceholderName()) {
+            next = RegistrationStep.PROFILE_FORM;
+        } else if (!isPlayer()) {
+            next = RegistrationStep.COMPLETED;
+        } else if (player == null || !player.hasPosition()) {
+            next = RegistrationStep.POSITION_SELECTION;
+        } else if (!player.isPhysicalProfileComplete()) {
+            next = RegistrationStep.PLAYER_PROFILE;
+        } else {
+            next = RegistrationStep.COMPLETED;
+        }
+        if (next == registrationStep) {
+            return false;
+        }
+        setRegistrationStep(next);
+        return true;
+    }
+
+    public boolean hasPlaceholderName() {
+        return PLACEHOLDER_FIRST_NAME.equals(firstName) || PLACEHOLDER_LAST_NAME.equals(lastName);
+    }
+
     public boolean isRegistrationCompleted() {
         return registrationStep != null && registrationStep.isCompleted();
     }
@@ -188,6 +230,9 @@ public class User {
     
     public List<String> getLanguages() { return languages; }
     public void setLanguages(List<String> languages) { this.languages = languages; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 
 
     public boolean isPlayer() {
@@ -0,0 +1,23 @@
+package com.wesports.backend.domain.repository;
+
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.User;
+
+import java.util.function.Consumer;
+
+/**
+ * Domain repository interface for full-table exports
+ * Rows are pushed to the consumer one at a time while the cursor advances, never collected into a List
+ */
+public interface DataExportRepository {
+
+    /**
+     * Stream every player; must be called inside a (read-only) transaction so the driver can use a cursor
+     */
+    void streamPlayers(Consumer<Player> consumer);
+
+    /**
+     * Stream every user; must be called inside a (read-only) transaction so the driver can use a cursor
+     */
+    void streamUsers(Consumer<User> consumer);
+}
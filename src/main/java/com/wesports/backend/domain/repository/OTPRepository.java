@@ -31,6 +31,7 @@ public interface OTPRepository {
     void deleteExpiredOTPs();
     
     // Additional cleanup methods for infrastructure concerns
+    // Deletes the OTPs whose validity window ended before cutoff (not the ones created before it)
     int deleteByExpiresAtBefore(LocalDateTime cutoff);
     
     int deleteByCreatedAtBefore(LocalDateTime cutoff);
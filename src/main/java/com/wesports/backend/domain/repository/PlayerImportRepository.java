@@ -0,0 +1,27 @@
+package com.wesports.backend.domain.repository;
+
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.PlayerSport;
+import com.wesports.backend.domain.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Domain repository interface for bulk roster imports
+ * Writes whole batches of users, players and their sport links at once instead of one aggregate per call
+ */
+public interface PlayerImportRepository {
+
+    /**
+     * Return the subset of the given (normalized) emails that are already registered
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Insert a batch of new users, their player profiles and sport associations
+     * All three lists are written with one batched statement per table
+     */
+    void insertBatch(List<User> users, List<Player> players, List<PlayerSport> associations);
+}
@@ -0,0 +1,25 @@
+package com.wesports.backend.domain.repository;
+
+import com.wesports.backend.domain.model.PlayerProfileView;
+import com.wesports.backend.domain.valueobject.ProfileVersion;
+import com.wesports.backend.domain.valueobject.UserId;
+
+import java.util.Optional;
+
+/**
+ * Domain repository interface for the player profile read model
+ */
+public interface PlayerProfileRepository {
+
+    /**
+     * Load the user, its player record and its active auth methods in one query
+     * Empty when the user does not exist
+     */
+    Optional<PlayerProfileView> findByUserId(UserId userId);
+
+    /**
+     * Load only the version columns behind the profile, for conditional requests
+     * Empty when the user does not exist
+     */
+    Optional<ProfileVersion> findVersionByUserId(UserId userId);
+}
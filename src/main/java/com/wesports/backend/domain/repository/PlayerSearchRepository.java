@@ -0,0 +1,19 @@
+package com.wesports.backend.domain.repository;
+
+import com.wesports.backend.domain.model.PlayerSummary;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.PlayerSearchCursor;
+
+import java.util.List;
+
+/**
+ * Domain repository interface for scouting searches over active players
+ */
+public interface PlayerSearchRepository {
+
+    /**
+     * Find up to limit players matching the criteria, ordered by (createdAt, id)
+     * and strictly after the given cursor (null for the first page)
+     */
+    List<PlayerSummary> search(PlayerSearchCriteria criteria, PlayerSearchCursor after, int limit);
+}
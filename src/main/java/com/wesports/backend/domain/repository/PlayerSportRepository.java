@@ -20,6 +20,12 @@ public interface PlayerSportRepository {
      */
     PlayerSport save(PlayerSport playerSport);
     
+    /**
+     * Insert the associations that are not active yet, in one batch
+     * Duplicates are skipped by the database, not checked beforehand; returns the ones actually inserted
+     */
+    List<PlayerSport> insertMissing(List<PlayerSport> associations);
+    
     /**
      * Find association by ID
      */
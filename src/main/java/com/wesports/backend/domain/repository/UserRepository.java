@@ -2,6 +2,7 @@ package com.wesports.backend.domain.repository;
 
 import com.wesports.backend.domain.model.User;
 import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.RegistrationStep;
 import com.wesports.backend.domain.valueobject.UserId;
 
 import java.util.Optional;
@@ -14,6 +15,8 @@ public interface UserRepository {
     
     Optional<User> findByEmail(Email email);
     
+    Optional<RegistrationStep> findRegistrationStep(UserId userId);
+    
     boolean existsByEmail(Email email);
     
     void delete(User user);
@@ -0,0 +1,40 @@
+package com.wesports.backend.domain.valueobject;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Value object holding the scouting filters for a player search
+ * Every filter is optional; empty collections and null bounds mean "no restriction"
+ */
+public record PlayerSearchCriteria(
+    Set<Position> positions,
+    Set<Category> categories,
+    PreferredFoot preferredFoot,
+    Float minHeight,
+    Float maxHeight,
+    Float minWeight,
+    Float maxWeight,
+    String nationality,
+    List<String> languages
+) {
+
+    public PlayerSearchCriteria {
+        positions = positions != null ? Set.copyOf(positions) : Set.of();
+        categories = categories != null ? Set.copyOf(categories) : Set.of();
+        languages = languages != null ? List.copyOf(languages) : List.of();
+        if (nationality != null && nationality.isBlank()) {
+            nationality = null;
+        }
+        if (minHeight != null && maxHeight != null && minHeight > maxHeight) {
+            throw new IllegalArgumentException("minHeight cannot be greater than maxHeight");
+        }
+        if (minWeight != null && maxWeight != null && minWeight > maxWeight) {
+            throw new IllegalArgumentException("minWeight cannot be greater than maxWeight");
+        }
+    }
+
+    public static PlayerSearchCriteria any() {
+        return new PlayerSearchCriteria(null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.wesports.backend.domain.valueobject;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset position in the player search ordering (created_at, id)
+ * Serialized as an opaque URL-safe token so clients cannot depend on its shape
+ */
+public record PlayerSearchCursor(LocalDateTime createdAt, UUID id) {
+
+    public PlayerSearchCursor {
+        Objects.requireNonNull(createdAt, "Cursor createdAt cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PlayerSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new PlayerSearchCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.wesports.backend.domain.valueobject;
+
+/**
+ * Value object capturing the versions everything in a user's profile is derived from
+ * Any committed change to the user, its player record or its active auth methods changes the tag
+ */
+public record ProfileVersion(long userVersion, Long playerVersion, long activeAuthMethods) {
+
+    /**
+     * Opaque, stable representation suitable for a strong ETag
+     */
+    public String tag() {
+        return "u" + userVersion + "-p" + (playerVersion != null ? playerVersion : "none") + "-a" + activeAuthMethods;
+    }
+}
@@ -2,15 +2,19 @@ package com.wesports.backend.domain.valueobject;
 
 /**
  * Value object representing registration steps
+ * The persisted step is the next one the user still has to complete; onboarding steps are listed in
+ * the order the onboarding status reports them.
  */
 public enum RegistrationStep {
     EMAIL_VERIFICATION,
     PASSWORD_SETUP,
     ROLE_SELECTION,
+    GENDER_SELECTION,
     PROFILE_FORM,
-    ONBOARDING,
+    POSITION_SELECTION,
+    PLAYER_PROFILE,
     COMPLETED;
-    
+
     public static RegistrationStep fromString(String step) {
         try {
             return RegistrationStep.valueOf(step.toUpperCase());
@@ -18,22 +22,31 @@ public enum RegistrationStep {
             throw new IllegalArgumentException("Invalid registration step: " + step);
         }
     }
-    
+
     public String getCode() {
         return this.name();
     }
-    
+
     public RegistrationStep getNextStep() {
         return switch (this) {
             case EMAIL_VERIFICATION -> PASSWORD_SETUP;
             case PASSWORD_SETUP -> ROLE_SELECTION;
-            case ROLE_SELECTION -> PROFILE_FORM;
-            case PROFILE_FORM -> ONBOARDING;
-            case ONBOARDING -> COMPLETED;
+            case ROLE_SELECTION -> GENDER_SELECTION;
+            case GENDER_SELECTION -> PROFILE_FORM;
+            case PROFILE_FORM -> POSITION_SELECTION;
+            case POSITION_SELECTION -> PLAYER_PROFILE;
+            case PLAYER_PROFILE -> COMPLETED;
             case COMPLETED -> COMPLETED; // Already completed
         };
     }
-    
+
+    /**
+     * Whether the account (verified email and password) exists, so onboarding progress can be tracked
+     */
+    public boolean isAccountSetUp() {
+        return this.compareTo(ROLE_SELECTION) >= 0;
+    }
+
     public boolean isCompleted() {
         return this == COMPLETED;
     }
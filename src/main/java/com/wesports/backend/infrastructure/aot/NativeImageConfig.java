@@ -0,0 +1,13 @@
+package com.wesports.backend.infrastructure.aot;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Contributes the reflection, proxy and resource hints a GraalVM native image of the backend needs
+ * beyond what Spring AOT infers on its own (./mvnw -Pnative native:compile)
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints({PersistenceRuntimeHints.class, JjwtRuntimeHints.class})
+public class NativeImageConfig {
+}
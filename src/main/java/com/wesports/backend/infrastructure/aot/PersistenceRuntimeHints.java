@@ -0,0 +1,47 @@
+package com.wesports.backend.infrastructure.aot;
+
+import com.wesports.backend.infrastructure.persistence.entity.LanguageEntity;
+import com.wesports.backend.infrastructure.persistence.entity.OTPEntity;
+import com.wesports.backend.infrastructure.persistence.entity.PlayerEntity;
+import com.wesports.backend.infrastructure.persistence.entity.PlayerSportEntity;
+import com.wesports.backend.infrastructure.persistence.entity.PostEntity;
+import com.wesports.backend.infrastructure.persistence.entity.SportEntity;
+import com.wesports.backend.infrastructure.persistence.entity.UserAuthMethodEntity;
+import com.wesports.backend.infrastructure.persistence.entity.UserEntity;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Hibernate reads and writes the entities (and their nested enums) reflectively; the JDBC
+ * instrumentation wraps connections in a JDK proxy; Flyway scans the seed and load-test locations,
+ * which Boot only registers for the default db/migration
+ */
+class PersistenceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+        LanguageEntity.class, OTPEntity.class, PlayerEntity.class,
+        PlayerSportEntity.class, PostEntity.class, SportEntity.class, UserAuthMethodEntity.class, UserEntity.class);
+
+    private static final MemberCategory[] ENTITY_MEMBERS = {
+        MemberCategory.DECLARED_FIELDS,
+        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+        MemberCategory.INVOKE_DECLARED_METHODS
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity, ENTITY_MEMBERS);
+            for (Class<?> nested : entity.getDeclaredClasses()) {
+                hints.reflection().registerType(nested, ENTITY_MEMBERS);
+            }
+        }
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.resources().registerPattern("db/seed/*.sql");
+        hints.resources().registerPattern("db/loadtest/*.sql");
+    }
+}
@@ -0,0 +1,25 @@
+package com.wesports.backend.infrastructure.bootstrap;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Keeps the application's own beans eager under the fast-startup profile
+ * spring.main.lazy-initialization would otherwise defer every controller, service and adapter to the
+ * first request and hide wiring errors until then. Their dependencies (data source, Flyway, JPA,
+ * security) are created with them; only infrastructure nothing in the application needs up front is deferred.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    private static final String APPLICATION_PACKAGE = "com.wesports.backend.";
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+            && beanType.getName().startsWith(APPLICATION_PACKAGE);
+    }
+}
@@ -0,0 +1,33 @@
+package com.wesports.backend.infrastructure.bootstrap;
+
+import com.wesports.backend.infrastructure.search.InMemoryPlayerScoutingIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bootstrap service to load the in-memory scouting index
+ * Runs after the reference data bootstraps so the player scan sees a complete schema
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(10)
+public class ScoutingIndexBootstrap implements ApplicationRunner {
+
+    private final InMemoryPlayerScoutingIndex scoutingIndex;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("🔎 Building scouting index...");
+        try {
+            scoutingIndex.rebuild();
+        } catch (RuntimeException e) {
+            // Scouting is not critical for startup; queries just stay empty until the next rebuild
+            log.error("Failed to build scouting index: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -2,25 +2,42 @@ package com.wesports.backend.infrastructure.email;
 
 import com.wesports.backend.application.port.EmailService;
 import com.wesports.backend.domain.valueobject.Email;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Email service implementation for sending transactional emails
  * Note: Currently uses plain text emails, HTML templates will be added in future iterations
+ * Meters: mail.messages (type, outcome), mail.send (type, SMTP time including the wait for a slot)
+ * and mail.send.permits.available
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
+    private static final String REGISTRATION_OTP = "registration_otp";
+    private static final String WELCOME = "welcome";
+
     private final JavaMailSender mailSender;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     @Value("${app.mail.enabled:false}")
     private boolean emailEnabled;
@@ -28,6 +45,22 @@ public class EmailServiceImpl implements EmailService {
     @Value("${spring.mail.username:noreply@ilyara.com}")
     private String fromEmail;
 
+    @Value("${app.mail.max-concurrent-sends:4}")
+    private int maxConcurrentSends;
+
+    @Value("${app.mail.send-permit-timeout:PT10S}")
+    private Duration sendPermitTimeout;
+
+    private Semaphore sendPermits;
+
+    @PostConstruct
+    void initSendPermits() {
+        sendPermits = new Semaphore(maxConcurrentSends);
+        meterRegistry.ifAvailable(registry -> Gauge.builder("mail.send.permits.available", sendPermits, Semaphore::availablePermits)
+            .description("Free SMTP send slots (app.mail.max-concurrent-sends)")
+            .register(registry));
+    }
+
     @Override
     public void sendRegistrationOtp(Email email, String otpCode, String language) {
         // Check if we have valid email configuration
@@ -36,6 +69,7 @@ public class EmailServiceImpl implements EmailService {
                                 !fromEmail.equals("noreply@ilyara.com");
         
         if (!hasValidConfig) {
+            countMessage(REGISTRATION_OTP, "disabled");
             return;
         }
 
@@ -46,7 +80,7 @@ public class EmailServiceImpl implements EmailService {
             message.setSubject(getOtpSubject(language));
             message.setText(getOtpBody(otpCode, language));
 
-            mailSender.send(message);
+            send(REGISTRATION_OTP, message);
         } catch (MailException e) {
             log.error("Failed to send registration OTP email to: {}", email.getValue());
         }
@@ -60,6 +94,7 @@ public class EmailServiceImpl implements EmailService {
                                 !fromEmail.equals("noreply@ilyara.com");
                                 
         if (!hasValidConfig) {
+            countMessage(WELCOME, "disabled");
             return;
         }
 
@@ -70,12 +105,54 @@ public class EmailServiceImpl implements EmailService {
             message.setSubject(getWelcomeSubject(language));
             message.setText(getWelcomeBody(firstName, language));
 
-            mailSender.send(message);
+            send(WELCOME, message);
         } catch (MailException e) {
             log.error("Failed to send welcome email to: {}", email.getValue());
         }
     }
 
+    /**
+     * JavaMail's SMTP transport does its socket I/O inside synchronized methods, which pins a virtual
+     * thread to its carrier; bounding concurrent sends keeps most carriers free for other requests
+     */
+    private void send(String type, SimpleMailMessage message) {
+        long startedAt = System.nanoTime();
+        boolean acquired = false;
+        String outcome = "failed";
+        try {
+            acquired = sendPermits.tryAcquire(sendPermitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                outcome = "no_slot";
+                throw new MailSendException("Timed out waiting for a free SMTP slot");
+            }
+            mailSender.send(message);
+            outcome = "sent";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a free SMTP slot");
+        } finally {
+            if (acquired) {
+                sendPermits.release();
+            }
+            countMessage(type, outcome);
+            long elapsed = System.nanoTime() - startedAt;
+            meterRegistry.ifAvailable(registry -> Timer.builder("mail.send")
+                .description("Time to hand a message to the SMTP server, including the wait for a send slot")
+                .tag("type", type)
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private void countMessage(String type, String outcome) {
+        meterRegistry.ifAvailable(registry -> Counter.builder("mail.messages")
+            .description("Transactional mails by outcome: sent, failed, no_slot or disabled")
+            .tag("type", type)
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment());
+    }
+
     private String getOtpSubject(String language) {
         return switch (language.toLowerCase()) {
             case "fr" -> "Code de vérification - Ilyara";
@@ -0,0 +1,27 @@
+package com.wesports.backend.infrastructure.invalidation;
+
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * CacheInvalidationBus for a single node: there are no other caches to tell, so nothing is sent
+ * and, the node's own evictions being local, caches keep their normal TTLs.
+ */
+@Component
+@ConditionalOnExpression("!${app.cache-invalidation.enabled:false}")
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publishAfterCommit(String cache, String key) {
+    }
+
+    @Override
+    public void subscribe(String cache, Listener listener) {
+    }
+
+    @Override
+    public boolean isConnected() {
+        return true;
+    }
+}
@@ -0,0 +1,279 @@
+package com.wesports.backend.infrastructure.invalidation;
+
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CacheInvalidationBus over PostgreSQL LISTEN/NOTIFY, for deployments with several application nodes
+ * One daemon thread per node owns a dedicated connection (outside the pool, which would hand a
+ * LISTENing session to other work): it LISTENs on the channel, delivers incoming events to the local
+ * listeners and sends the events queued by committed transactions, several per NOTIFY.
+ * When the connection drops it reconnects with backoff; both losing and regaining the channel make
+ * every listener drop its cache, since events sent in between are lost. Enabled by
+ * app.cache-invalidation.enabled=true.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.cache-invalidation.enabled:false}")
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    // NOTIFY payloads must stay under 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7500;
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    // Identifies this node's own events, which PostgreSQL delivers back to it
+    private final String nodeId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> outgoing;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollInterval;
+    private final Duration healthCheckInterval;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public PostgresCacheInvalidationBus(DataSourceProperties dataSourceProperties,
+                                        ObjectProvider<MeterRegistry> meterRegistry,
+                                        @Value("${app.cache-invalidation.url:#{null}}") String url,
+                                        @Value("${app.cache-invalidation.poll-interval:PT0.1S}") Duration pollInterval,
+                                        @Value("${app.cache-invalidation.health-check-interval:PT10S}") Duration healthCheckInterval,
+                                        @Value("${app.cache-invalidation.max-queued:10000}") int maxQueued) {
+        this.meterRegistry = meterRegistry;
+        this.url = url != null ? url : dataSourceProperties.determineUrl();
+        this.username = dataSourceProperties.determineUsername();
+        this.password = dataSourceProperties.determinePassword();
+        this.pollInterval = pollInterval;
+        this.healthCheckInterval = healthCheckInterval;
+        this.outgoing = new ArrayBlockingQueue<>(maxQueued);
+    }
+
+    @Override
+    public void publishAfterCommit(String cache, String key) {
+        if (cache.chars().anyMatch(Character::isWhitespace) || key.chars().anyMatch(Character::isWhitespace)) {
+            throw new IllegalArgumentException("Cache name and key must not contain whitespace: " + cache + " " + key);
+        }
+        String event = cache + ' ' + key;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    @Override
+    public void subscribe(String cache, Listener listener) {
+        listeners.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connected.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void enqueue(String event) {
+        // Queued even while disconnected: an eviction delivered late is still correct
+        if (outgoing.offer(event)) {
+            record("published");
+        } else {
+            record("dropped");
+            log.warn("Cache invalidation queue full, dropping event {}", event);
+        }
+    }
+
+    private void run() {
+        ArrayDeque<String> pending = new ArrayDeque<>();
+        Duration backoff = MIN_BACKOFF;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                setConnected(true);
+                backoff = MIN_BACKOFF;
+                listen(connection, pending);
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Cache invalidation channel unavailable, retrying in {}: {}", backoff, e.getMessage());
+                }
+            }
+            setConnected(false);
+            if (running) {
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void listen(Connection connection, ArrayDeque<String> pending) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastCheck = System.nanoTime();
+        while (running) {
+            outgoing.drainTo(pending);
+            send(connection, pending);
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    deliver(notification.getParameter());
+                }
+            }
+            // A silently dropped TCP connection would otherwise look like a quiet channel
+            if (System.nanoTime() - lastCheck > healthCheckInterval.toNanos()) {
+                if (!connection.isValid((int) Math.max(1, healthCheckInterval.toSeconds()))) {
+                    throw new SQLException("Cache invalidation connection is no longer valid");
+                }
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Sends the pending events, packed into as few payloads as fit; events stay pending until sent
+     */
+    private void send(Connection connection, ArrayDeque<String> pending) throws SQLException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            while (!pending.isEmpty()) {
+                StringBuilder payload = new StringBuilder(nodeId);
+                int events = 0;
+                for (String event : pending) {
+                    int bytes = event.getBytes(StandardCharsets.UTF_8).length + 1;
+                    if (events > 0 && payload.length() + bytes > MAX_PAYLOAD_BYTES) {
+                        break;
+                    }
+                    payload.append('\n').append(event);
+                    events++;
+                }
+                notify.setString(1, CHANNEL);
+                notify.setString(2, payload.toString());
+                notify.execute();
+                for (int i = 0; i < events; i++) {
+                    pending.poll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Payload: the sending node's id, then one "cache key" event per line
+     */
+    void deliver(String payload) {
+        String[] lines = payload.split("\n");
+        if (nodeId.equals(lines[0])) {
+            return;
+        }
+        for (int i = 1; i < lines.length; i++) {
+            int split = lines[i].indexOf(' ');
+            if (split < 0) {
+                continue;
+            }
+            String key = lines[i].substring(split + 1);
+            for (Listener listener : listeners.getOrDefault(lines[i].substring(0, split), List.of())) {
+                try {
+                    listener.invalidate(key);
+                } catch (RuntimeException e) {
+                    log.warn("Cache invalidation listener failed for {}: {}", lines[i], e.getMessage());
+                }
+            }
+            record("received");
+        }
+    }
+
+    private void setConnected(boolean value) {
+        if (connected.getAndSet(value) == value) {
+            return;
+        }
+        if (value) {
+            log.info("Listening for cache invalidations on channel {} as node {}", CHANNEL, nodeId);
+        } else {
+            log.warn("Cache invalidation channel lost, caches fall back to short TTLs until it is back");
+        }
+        // Either way events may have been missed
+        listeners.values().forEach(cacheListeners -> cacheListeners.forEach(listener -> {
+            try {
+                listener.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation listener failed to clear its cache: {}", e.getMessage());
+            }
+        }));
+    }
+
+    private void record(String outcome) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Counter.builder("cache.invalidation.events")
+                .description("Cache invalidation events published, received from other nodes or dropped")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.wesports.backend.infrastructure.loadtest;
+
+import com.wesports.backend.application.port.EmailService;
+import com.wesports.backend.domain.valueobject.Email;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Load-test stand-in for the mail sender: nothing leaves the process, the latest registration OTP
+ * per address is kept so the load generator can complete verification over HTTP
+ */
+@Service
+@Primary
+@Profile("loadtest")
+public class CapturingEmailService implements EmailService {
+
+    private final Map<String, String> registrationOtps = new ConcurrentHashMap<>();
+
+    @Override
+    public void sendRegistrationOtp(Email email, String otp, String language) {
+        registrationOtps.put(key(email.getValue()), otp);
+    }
+
+    @Override
+    public void sendWelcomeEmail(Email email, String firstName, String language) {
+        // Nothing to capture
+    }
+
+    /**
+     * Returns and forgets the OTP last sent to the address
+     */
+    public Optional<String> takeRegistrationOtp(String email) {
+        return Optional.ofNullable(registrationOtps.remove(key(email)));
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,43 @@
+package com.wesports.backend.infrastructure.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Hooks for the funnel load generator (benchmarks module); only present with the loadtest profile
+ */
+@RestController
+@Profile("loadtest")
+@RequestMapping("/api/loadtest")
+@RequiredArgsConstructor
+public class LoadTestController {
+
+    private final CapturingEmailService emailService;
+    private final StepStatementStats stepStatementStats;
+
+    @GetMapping("/otp")
+    public ResponseEntity<Map<String, String>> registrationOtp(@RequestParam String email) {
+        return emailService.takeRegistrationOtp(email)
+            .map(otp -> ResponseEntity.ok(Map.of("email", email, "otp", otp)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/statements")
+    public Map<String, Map<String, Object>> statementsPerStep() {
+        return stepStatementStats.snapshot();
+    }
+
+    @DeleteMapping("/statements")
+    public ResponseEntity<Void> resetStatements() {
+        stepStatementStats.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
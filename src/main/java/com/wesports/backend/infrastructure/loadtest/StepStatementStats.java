@@ -0,0 +1,84 @@
+package com.wesports.backend.infrastructure.loadtest;
+
+import com.wesports.backend.infrastructure.observability.RequestJdbcUsageFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sums the JDBC statements of every request tagged with an X-Load-Step header, per step
+ * Runs outside RequestJdbcUsageFilter, so the count it publishes is complete when read here.
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class StepStatementStats extends OncePerRequestFilter {
+
+    static final String STEP_HEADER = "X-Load-Step";
+
+    private final Map<String, Step> steps = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            String step = request.getHeader(STEP_HEADER);
+            Object statements = request.getAttribute(RequestJdbcUsageFilter.STATEMENTS_ATTRIBUTE);
+            if (step != null && !step.isBlank() && statements instanceof Long count) {
+                steps.computeIfAbsent(step, name -> new Step()).record(count);
+            }
+        }
+    }
+
+    /**
+     * requests, total statements, mean and max per step, ordered by step name
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        steps.forEach((name, step) -> snapshot.put(name, step.toMap()));
+        return snapshot;
+    }
+
+    public void reset() {
+        steps.clear();
+    }
+
+    private static final class Step {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void record(long count) {
+            requests.increment();
+            statements.add(count);
+            max.accumulate(count);
+        }
+
+        private Map<String, Object> toMap() {
+            long requestCount = requests.sum();
+            long statementCount = statements.sum();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", requestCount);
+            values.put("statements", statementCount);
+            values.put("mean", requestCount == 0 ? 0.0 : Math.round(statementCount * 100.0 / requestCount) / 100.0);
+            values.put("max", max.get());
+            return values;
+        }
+    }
+}
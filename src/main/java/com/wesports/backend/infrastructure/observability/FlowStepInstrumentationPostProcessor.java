@@ -0,0 +1,57 @@
+package com.wesports.backend.infrastructure.observability;
+
+import com.wesports.backend.application.port.RegistrationService;
+import com.wesports.backend.application.port.inbound.LoginService;
+import com.wesports.backend.application.port.inbound.OnboardingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wraps the login, registration and onboarding services with FlowStepMetricsInterceptor
+ * Only the port methods are intercepted; each one is a step of its flow
+ */
+public class FlowStepInstrumentationPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final Map<Class<?>, String> FLOWS = Map.of(
+        LoginService.class, "login",
+        RegistrationService.class, "registration",
+        OnboardingService.class, "onboarding"
+    );
+
+    public FlowStepInstrumentationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new FlowPortPointcut(), new FlowStepMetricsInterceptor(meterRegistry));
+        // Outside the transaction advisor, so step timings include commit
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    static Optional<Map.Entry<Class<?>, String>> flowOf(Class<?> type) {
+        return FLOWS.entrySet().stream()
+            .filter(flow -> flow.getKey().isAssignableFrom(type))
+            .findFirst();
+    }
+
+    private static final class FlowPortPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public ClassFilter getClassFilter() {
+            return type -> !type.isInterface() && flowOf(type).isPresent();
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return flowOf(targetClass)
+                .map(flow -> ReflectionUtils.findMethod(flow.getKey(), method.getName(), method.getParameterTypes()) != null)
+                .orElse(false);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.wesports.backend.infrastructure.observability;
+
+import com.wesports.backend.application.dto.StatusResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every step of the auth and onboarding flows
+ * Meter: flow.step (timer with percentile histogram), tagged flow, step (port method) and outcome:
+ * success or error from the response status, exception when the step threw
+ */
+class FlowStepMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    FlowStepMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long startedAt = System.nanoTime();
+        String outcome = "exception";
+        try {
+            Object result = invocation.proceed();
+            outcome = result instanceof StatusResponse response && "error".equals(response.status()) ? "error" : "success";
+            return result;
+        } finally {
+            record(invocation, outcome, System.nanoTime() - startedAt);
+        }
+    }
+
+    private void record(MethodInvocation invocation, String outcome, long elapsedNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Class<?> targetClass = invocation.getThis() != null
+            ? AopUtils.getTargetClass(invocation.getThis())
+            : invocation.getMethod().getDeclaringClass();
+        String flow = FlowStepInstrumentationPostProcessor.flowOf(targetClass)
+            .map(Map.Entry::getValue)
+            .orElse("unknown");
+        Timer.builder("flow.step")
+            .description("Latency of one step of the login, registration or onboarding flow")
+            .tag("flow", flow)
+            .tag("step", invocation.getMethod().getName())
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,98 @@
+package com.wesports.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource decorator that counts statements and measures how long each connection is held
+ * Covers JPA and JdbcTemplate alike, since both obtain their connections here;
+ * the counts feed JdbcActivity and the hold times the jdbc.connection.hold timer
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "createStatement", "prepareCall");
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Timer holdTimer;
+
+    public InstrumentedDataSource(DataSource target, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(super.getConnection(username, password));
+    }
+
+    /**
+     * Closes the wrapped pool; the container infers close() as destroy method of the exposed bean
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection instrument(Connection connection) {
+        long acquiredAt = System.nanoTime();
+        boolean[] closed = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (STATEMENT_FACTORIES.contains(name)) {
+                    JdbcActivity.statementExecuted();
+                } else if (name.equals("close") && !closed[0]) {
+                    closed[0] = true;
+                    recordHold(System.nanoTime() - acquiredAt);
+                } else if (name.equals("unwrap") && args[0] == Connection.class) {
+                    return proxy;
+                }
+                return invoke(connection, method, args);
+            });
+    }
+
+    private void recordHold(long heldNanos) {
+        JdbcActivity.connectionReleased(heldNanos);
+        Timer timer = holdTimer;
+        if (timer == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            timer = Timer.builder("jdbc.connection.hold")
+                .description("Time a pooled connection was held between checkout and close")
+                .publishPercentileHistogram()
+                .register(registry);
+            holdTimer = timer;
+        }
+        timer.record(heldNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.wesports.backend.infrastructure.observability;
+
+/**
+ * Per-thread JDBC activity counters, fed by InstrumentedDataSource
+ * The counters only ever grow: callers take a snapshot before a unit of work and subtract it afterwards,
+ * which keeps nested measurements (a repository call inside a request) independent of each other
+ */
+public final class JdbcActivity {
+
+    private static final ThreadLocal<long[]> COUNTERS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static final int STATEMENTS = 0;
+    private static final int CONNECTION_HOLD_NANOS = 1;
+
+    private JdbcActivity() {
+    }
+
+    /**
+     * Statements prepared or created on this thread so far
+     */
+    public static long statements() {
+        return COUNTERS.get()[STATEMENTS];
+    }
+
+    /**
+     * Total time connections obtained on this thread were held before being closed
+     */
+    public static long connectionHoldNanos() {
+        return COUNTERS.get()[CONNECTION_HOLD_NANOS];
+    }
+
+    static void statementExecuted() {
+        COUNTERS.get()[STATEMENTS]++;
+    }
+
+    static void connectionReleased(long heldNanos) {
+        COUNTERS.get()[CONNECTION_HOLD_NANOS] += heldNanos;
+    }
+}
@@ -0,0 +1,51 @@
+package com.wesports.backend.infrastructure.observability;
+
+import com.wesports.backend.application.port.outbound.AuthMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Counters behind AuthMetrics: auth.login.attempts, auth.tokens.issued, auth.otp.requests and
+ * auth.otp.verifications, each tagged with the lower-cased enum value
+ */
+@Component
+public class MicrometerAuthMetrics implements AuthMetrics {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MicrometerAuthMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void loginAttempt(LoginOutcome outcome) {
+        increment("auth.login.attempts", "Password login attempts by outcome", "outcome", outcome);
+    }
+
+    @Override
+    public void tokenIssued(TokenType type) {
+        increment("auth.tokens.issued", "Access, refresh and registration tokens issued", "type", type);
+    }
+
+    @Override
+    public void otpRequested(OtpRequestOutcome outcome) {
+        increment("auth.otp.requests", "Registration OTP requests by outcome", "outcome", outcome);
+    }
+
+    @Override
+    public void otpVerified(OtpVerificationOutcome outcome) {
+        increment("auth.otp.verifications", "Registration OTP checks by outcome", "outcome", outcome);
+    }
+
+    private void increment(String name, String description, String tag, Enum<?> value) {
+        meterRegistry.ifAvailable(registry -> Counter.builder(name)
+            .description(description)
+            .tag(tag, value.name().toLowerCase(Locale.ROOT))
+            .register(registry)
+            .increment());
+    }
+}
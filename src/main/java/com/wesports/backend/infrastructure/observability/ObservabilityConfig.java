@@ -0,0 +1,84 @@
+package com.wesports.backend.infrastructure.observability;
+
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import com.wesports.backend.infrastructure.observability.tracing.TracingInstrumentationPostProcessor;
+import com.wesports.backend.infrastructure.security.RefreshTokenService;
+import com.wesports.backend.infrastructure.web.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires the JDBC, repository, flow step and tracing instrumentation
+ * The post-processors are static beans and resolve their collaborators lazily,
+ * so registering them does not force early initialization of the meter registry
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    public static RepositoryInstrumentationPostProcessor repositoryInstrumentationPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new RepositoryInstrumentationPostProcessor(meterRegistry, slowQueryLog);
+    }
+
+    @Bean
+    public static FlowStepInstrumentationPostProcessor flowStepInstrumentationPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new FlowStepInstrumentationPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    public static TracingInstrumentationPostProcessor tracingInstrumentationPostProcessor(
+            ObjectProvider<Tracer> tracer) {
+        return new TracingInstrumentationPostProcessor(tracer);
+    }
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Size of the in-memory refresh token store (auth.refresh.tokens.stored)
+     */
+    @Bean
+    public MeterBinder refreshTokenStoreMetrics(RefreshTokenService refreshTokenService) {
+        return registry -> Gauge.builder("auth.refresh.tokens.stored", refreshTokenService, RefreshTokenService::storedTokenCount)
+            .description("Refresh tokens held in memory, expired ones included")
+            .register(registry);
+    }
+
+    /**
+     * Idempotency keys held in memory, in flight or completed (http.idempotency.keys)
+     */
+    @Bean
+    public MeterBinder idempotencyStoreMetrics(IdempotencyStore idempotencyStore) {
+        return registry -> Gauge.builder("http.idempotency.keys", idempotencyStore, IdempotencyStore::size)
+            .description("Idempotency keys held in memory, in flight or completed")
+            .register(registry);
+    }
+
+    @Bean
+    public MeterBinder cacheInvalidationMetrics(CacheInvalidationBus cacheInvalidationBus) {
+        return registry -> Gauge.builder("cache.invalidation.connected", cacheInvalidationBus,
+                bus -> bus.isConnected() ? 1 : 0)
+            .description("Whether invalidations from other nodes are being received (1) or caches use short TTLs (0)")
+            .register(registry);
+    }
+}
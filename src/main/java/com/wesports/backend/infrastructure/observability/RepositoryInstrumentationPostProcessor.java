@@ -0,0 +1,59 @@
+package com.wesports.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Wraps every bean implementing a port from domain.repository with RepositoryMetricsInterceptor
+ * Only the port methods are intercepted; class-based proxies keep injection by adapter type working
+ */
+public class RepositoryInstrumentationPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private static final String DOMAIN_REPOSITORY_PACKAGE = "com.wesports.backend.domain.repository";
+
+    public RepositoryInstrumentationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                  ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.advisor = new DefaultPointcutAdvisor(new DomainRepositoryPointcut(),
+            new RepositoryMetricsInterceptor(meterRegistry, slowQueryLog));
+        // Apply before other advisors (transactions, exception translation) so timings include them
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    public static Optional<Class<?>> domainRepositoryOf(Class<?> type) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            if (DOMAIN_REPOSITORY_PACKAGE.equals(candidate.getPackageName())) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class DomainRepositoryPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public ClassFilter getClassFilter() {
+            return type -> !type.isInterface() && domainRepositoryOf(type).isPresent();
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+                if (DOMAIN_REPOSITORY_PACKAGE.equals(candidate.getPackageName())
+                        && ReflectionUtils.findMethod(candidate, method.getName(), method.getParameterTypes()) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
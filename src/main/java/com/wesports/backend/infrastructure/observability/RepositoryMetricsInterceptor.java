@@ -0,0 +1,142 @@
+package com.wesports.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every domain repository call and counts the JDBC statements it issued
+ * Meters: repository.invocations (timer, tagged repository/method/outcome) and
+ * repository.statements (summary, tagged repository/method); calls over the slow threshold go to SlowQueryLog
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    RepositoryMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long statementsBefore = JdbcActivity.statements();
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            long statements = JdbcActivity.statements() - statementsBefore;
+            record(invocation, elapsed, statements, failed);
+        }
+    }
+
+    private void record(MethodInvocation invocation, long elapsedNanos, long statements, boolean failed) {
+        Method method = invocation.getMethod();
+        String repository = repositoryName(invocation);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Meters methodMeters = meters.computeIfAbsent(method, key -> new Meters(registry, repository, key.getName()));
+            (failed ? methodMeters.failure() : methodMeters.success()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            methodMeters.statements().record(statements);
+        }
+
+        SlowQueryLog log = slowQueryLog.getIfAvailable();
+        if (log != null && log.isSlow(elapsedNanos)) {
+            log.record(new SlowQueryLog.Entry(
+                Instant.now(),
+                repository,
+                method.getName(),
+                elapsedNanos / 1_000_000.0,
+                statements,
+                shapesOf(invocation.getArguments()),
+                Thread.currentThread().getName()
+            ));
+        }
+    }
+
+    private static String repositoryName(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+            ? AopUtils.getTargetClass(invocation.getThis())
+            : invocation.getMethod().getDeclaringClass();
+        return RepositoryInstrumentationPostProcessor.domainRepositoryOf(targetClass)
+            .map(Class::getSimpleName)
+            .orElse(targetClass.getSimpleName());
+    }
+
+    /**
+     * Describe arguments by type and size only, e.g. "UserId", "String(12)", "ArrayList[250]"
+     */
+    static List<String> shapesOf(Object[] arguments) {
+        List<String> shapes = new ArrayList<>(arguments.length);
+        for (Object argument : arguments) {
+            shapes.add(shapeOf(argument));
+        }
+        return shapes;
+    }
+
+    private static String shapeOf(Object argument) {
+        if (argument == null) {
+            return "null";
+        }
+        if (argument instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (argument instanceof Collection<?> collection) {
+            return argument.getClass().getSimpleName() + "[" + collection.size() + "]";
+        }
+        if (argument instanceof Map<?, ?> map) {
+            return argument.getClass().getSimpleName() + "[" + map.size() + "]";
+        }
+        if (argument instanceof Optional<?> optional) {
+            return optional.map(value -> "Optional<" + shapeOf(value) + ">").orElse("Optional.empty");
+        }
+        if (argument.getClass().isArray()) {
+            return argument.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(argument) + "]";
+        }
+        return argument.getClass().getSimpleName();
+    }
+
+    private record Meters(Timer success, Timer failure, DistributionSummary statements) {
+        Meters(MeterRegistry registry, String repository, String method) {
+            this(
+                timer(registry, repository, method, "success"),
+                timer(registry, repository, method, "error"),
+                DistributionSummary.builder("repository.statements")
+                    .description("JDBC statements issued per domain repository call")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(registry)
+            );
+        }
+
+        private static Timer timer(MeterRegistry registry, String repository, String method, String outcome) {
+            return Timer.builder("repository.invocations")
+                .description("Domain repository call latency")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(registry);
+        }
+    }
+}
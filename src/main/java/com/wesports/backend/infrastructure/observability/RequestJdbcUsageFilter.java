@@ -0,0 +1,74 @@
+package com.wesports.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records, per handled request, how many JDBC statements it issued and how long it held connections
+ * Meters: http.request.jdbc.statements and http.request.jdbc.connection.hold, tagged with method and route pattern
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // Outside the security chain, so authentication lookups are counted too
+public class RequestJdbcUsageFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the statement count once the request completes, for other filters to read
+     */
+    public static final String STATEMENTS_ATTRIBUTE = RequestJdbcUsageFilter.class.getName() + ".statements";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RequestJdbcUsageFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long statementsBefore = JdbcActivity.statements();
+        long holdBefore = JdbcActivity.connectionHoldNanos();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = JdbcActivity.statements() - statementsBefore;
+            long holdNanos = JdbcActivity.connectionHoldNanos() - holdBefore;
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+            record(request, statements, holdNanos);
+        }
+    }
+
+    private void record(HttpServletRequest request, long statements, long holdNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.request.jdbc.statements")
+            .description("JDBC statements issued while handling a request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(registry)
+            .record(statements);
+        Timer.builder("http.request.jdbc.connection.hold")
+            .description("Total connection hold time while handling a request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(registry)
+            .record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+}
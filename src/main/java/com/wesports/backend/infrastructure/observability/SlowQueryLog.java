@@ -0,0 +1,64 @@
+package com.wesports.backend.infrastructure.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed-size ring buffer of the most recent slow repository calls
+ * Only argument shapes (types and sizes) are kept, never values, so the buffer holds no personal data
+ */
+@Component
+public class SlowQueryLog {
+
+    private final Entry[] entries;
+    private final long thresholdNanos;
+    private long written;
+
+    public SlowQueryLog(@Value("${app.observability.slow-query-threshold:PT0.1S}") Duration threshold,
+                        @Value("${app.observability.slow-query-capacity:200}") int capacity) {
+        this.entries = new Entry[capacity];
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    public synchronized void record(Entry entry) {
+        entries[(int) (written++ % entries.length)] = entry;
+    }
+
+    /**
+     * Captured entries, most recent first
+     */
+    public synchronized List<Entry> snapshot() {
+        int size = (int) Math.min(written, entries.length);
+        List<Entry> result = new ArrayList<>(size);
+        for (long i = written - 1; i >= written - size; i--) {
+            result.add(entries[(int) (i % entries.length)]);
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        written = 0;
+    }
+
+    public record Entry(
+        Instant at,
+        String repository,
+        String method,
+        double elapsedMillis,
+        long statements,
+        List<String> argumentShapes,
+        String thread
+    ) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.wesports.backend.infrastructure.observability.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The most recently exported traces, kept in memory for the traces actuator endpoint
+ * A trace's spans can arrive over several export batches; they are grouped by trace id.
+ */
+public class RecentTraces {
+
+    private final int capacity;
+    private final LinkedHashMap<String, List<SpanData>> traces;
+
+    public RecentTraces(int capacity) {
+        this.capacity = capacity;
+        this.traces = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SpanData>> eldest) {
+                return size() > RecentTraces.this.capacity;
+            }
+        };
+    }
+
+    synchronized void add(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            traces.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+        }
+    }
+
+    /**
+     * Captured traces, most recent first, each with its spans in start order
+     */
+    public synchronized List<Trace> snapshot() {
+        List<Trace> snapshot = new ArrayList<>(traces.size());
+        traces.forEach((traceId, spans) -> snapshot.add(Trace.of(traceId, spans)));
+        snapshot.sort(Comparator.comparing(Trace::start).reversed());
+        return snapshot;
+    }
+
+    public synchronized void clear() {
+        traces.clear();
+    }
+
+    /**
+     * Exporter feeding this buffer
+     */
+    SpanExporter exporter() {
+        return new SpanExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                add(spans);
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode flush() {
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofSuccess();
+            }
+        };
+    }
+
+    public record Trace(String traceId, String root, Instant start, double durationMillis, boolean error,
+                        List<SpanView> spans) {
+
+        static Trace of(String traceId, List<SpanData> spanData) {
+            List<SpanData> ordered = new ArrayList<>(spanData);
+            ordered.sort(Comparator.comparingLong(SpanData::getStartEpochNanos));
+            long traceStart = ordered.get(0).getStartEpochNanos();
+            long traceEnd = ordered.stream().mapToLong(SpanData::getEndEpochNanos).max().orElse(traceStart);
+            SpanData root = ordered.stream()
+                .filter(span -> !span.getParentSpanContext().isValid() || span.getParentSpanContext().isRemote())
+                .findFirst()
+                .orElse(ordered.get(0));
+            List<SpanView> views = new ArrayList<>(ordered.size());
+            boolean error = false;
+            for (SpanData span : ordered) {
+                boolean failed = span.getStatus().getStatusCode() == StatusCode.ERROR;
+                error |= failed;
+                views.add(new SpanView(span.getName(), span.getSpanId(), span.getParentSpanId(),
+                    millis(span.getStartEpochNanos() - traceStart),
+                    millis(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                    failed, attributes(span.getAttributes())));
+            }
+            return new Trace(traceId, root.getName(), Instant.ofEpochSecond(0, traceStart),
+                millis(traceEnd - traceStart), error, views);
+        }
+    }
+
+    public record SpanView(String name, String spanId, String parentSpanId, double offsetMillis,
+                           double durationMillis, boolean error, Map<String, String> attributes) {
+    }
+
+    static Map<String, String> attributes(Attributes attributes) {
+        Map<String, String> values = new TreeMap<>();
+        attributes.forEach((key, value) -> values.put(key.getKey(), String.valueOf(value)));
+        return values;
+    }
+
+    static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.wesports.backend.infrastructure.observability.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tail-based sampling inside the process: ended spans are held per trace until the local root span
+ * ends, then the whole trace is handed to the downstream processor only if the root took at least
+ * the slow threshold, any span failed, or it falls into the baseline ratio; otherwise it is dropped.
+ * Every span must be recorded for this to work, so it is paired with an always-on sampler.
+ * Traces whose root never ends here (work left running on another thread) are evicted oldest first
+ * once more than maxPendingTraces are waiting; pending traces are kept in arrival order for that,
+ * so an eviction only drops the head of the map.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor downstream;
+    private final long slowThresholdNanos;
+    private final double baselineRatio;
+    private final int maxPendingTraces;
+    private final LinkedHashMap<String, PendingTrace> pending;
+
+    public TailSamplingSpanProcessor(SpanProcessor downstream, long slowThresholdNanos, double baselineRatio,
+                                     int maxPendingTraces) {
+        this.downstream = downstream;
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.baselineRatio = baselineRatio;
+        this.maxPendingTraces = maxPendingTraces;
+        this.pending = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PendingTrace> eldest) {
+                return size() > TailSamplingSpanProcessor.this.maxPendingTraces;
+            }
+        };
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        boolean failed = span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+        SpanContext parent = span.getParentSpanContext();
+        if (parent.isValid() && !parent.isRemote()) {
+            synchronized (pending) {
+                pending.computeIfAbsent(traceId, id -> new PendingTrace()).add(span, failed);
+            }
+            return;
+        }
+
+        PendingTrace trace;
+        synchronized (pending) {
+            trace = pending.remove(traceId);
+        }
+        boolean keep = span.getLatencyNanos() >= slowThresholdNanos
+            || failed
+            || (trace != null && trace.failed)
+            || ThreadLocalRandom.current().nextDouble() < baselineRatio;
+        if (!keep) {
+            return;
+        }
+        if (trace != null) {
+            trace.spans.forEach(downstream::onEnd);
+        }
+        downstream.onEnd(span);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return downstream.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        synchronized (pending) {
+            pending.clear();
+        }
+        return downstream.shutdown();
+    }
+
+    /**
+     * Number of traces waiting for their local root span
+     */
+    int pendingTraces() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Spans of one trace seen so far; only touched under the pending lock until removed from the map
+     */
+    private static final class PendingTrace {
+        private final List<ReadableSpan> spans = new ArrayList<>();
+        private boolean failed;
+
+        private void add(ReadableSpan span, boolean spanFailed) {
+            spans.add(span);
+            failed |= spanFailed;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wesports.backend.infrastructure.observability.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the traces kept by the tail sampler (app.tracing.exporter=memory)
+ * GET /actuator/traces lists them, DELETE clears them;
+ * must be listed in management.endpoints.web.exposure.include to be reachable over HTTP
+ */
+@Endpoint(id = "traces")
+public class TraceEndpoint {
+
+    private final RecentTraces recentTraces;
+
+    public TraceEndpoint(RecentTraces recentTraces) {
+        this.recentTraces = recentTraces;
+    }
+
+    @ReadOperation
+    public List<RecentTraces.Trace> traces() {
+        return recentTraces.snapshot();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recentTraces.clear();
+    }
+}
@@ -0,0 +1,63 @@
+package com.wesports.backend.infrastructure.observability.tracing;
+
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Local trace export with tail-based sampling, enabled by app.tracing.exporter:
+ * memory keeps the last app.tracing.memory-capacity traces for GET /actuator/traces,
+ * file appends spans as JSON lines to app.tracing.file.
+ * A trace is kept when its root span takes at least app.tracing.slow-threshold, when any span
+ * failed, or with probability app.tracing.baseline-ratio. Every span is recorded until then, which
+ * is why the sampler is replaced with always-on.
+ * The exporters are deliberately not SpanExporter beans: Boot would otherwise export every span
+ * through its own batch processor, bypassing the sampler.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("'${app.tracing.exporter:none}' == 'memory' or '${app.tracing.exporter:none}' == 'file'")
+public class TracingConfig {
+
+    @Bean
+    public Sampler tailSamplingSampler() {
+        return Sampler.parentBased(Sampler.alwaysOn());
+    }
+
+    @Bean
+    public RecentTraces recentTraces(@Value("${app.tracing.memory-capacity:100}") int capacity) {
+        return new RecentTraces(capacity);
+    }
+
+    @Bean
+    public TraceEndpoint traceEndpoint(RecentTraces recentTraces) {
+        return new TraceEndpoint(recentTraces);
+    }
+
+    @Bean
+    public TailSamplingSpanProcessor tailSamplingSpanProcessor(
+            RecentTraces recentTraces,
+            @Value("${app.tracing.exporter}") String exporter,
+            @Value("${app.tracing.file:traces.jsonl}") Path file,
+            @Value("${app.tracing.slow-threshold:PT0.5S}") Duration slowThreshold,
+            @Value("${app.tracing.baseline-ratio:0.01}") double baselineRatio,
+            @Value("${app.tracing.max-pending-traces:10000}") int maxPendingTraces) {
+        SpanExporter spanExporter = "file".equals(exporter)
+            ? new JsonLinesSpanExporter(file)
+            : recentTraces.exporter();
+        log.info("Tail sampling traces to {} (slow threshold {}, baseline ratio {})",
+            "file".equals(exporter) ? file.toAbsolutePath() : "memory", slowThreshold, baselineRatio);
+        return new TailSamplingSpanProcessor(BatchSpanProcessor.builder(spanExporter).build(),
+            slowThreshold.toNanos(), baselineRatio, maxPendingTraces);
+    }
+}
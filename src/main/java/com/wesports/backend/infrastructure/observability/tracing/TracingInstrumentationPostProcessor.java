@@ -0,0 +1,64 @@
+package com.wesports.backend.infrastructure.observability.tracing;
+
+import com.wesports.backend.application.port.EmailService;
+import com.wesports.backend.infrastructure.observability.RepositoryInstrumentationPostProcessor;
+import io.micrometer.tracing.Tracer;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Opens a span around every public method of the REST controllers, the application services,
+ * the domain repository adapters and the EmailService implementations
+ * Spans are named SimpleClassName.method and tagged layer (web, service, repository, email).
+ */
+public class TracingInstrumentationPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private static final String APPLICATION_SERVICE_PACKAGE = "com.wesports.backend.application.service";
+
+    public TracingInstrumentationPostProcessor(ObjectProvider<Tracer> tracer) {
+        this.advisor = new DefaultPointcutAdvisor(new TracedLayerPointcut(), new TracingInterceptor(tracer));
+        // Outermost, so a span covers the transaction and the repository/flow meters of the call
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    static Optional<String> layerOf(Class<?> type) {
+        if (AnnotatedElementUtils.hasAnnotation(type, RestController.class)) {
+            return Optional.of("web");
+        }
+        if (EmailService.class.isAssignableFrom(type)) {
+            return Optional.of("email");
+        }
+        if (RepositoryInstrumentationPostProcessor.domainRepositoryOf(type).isPresent()) {
+            return Optional.of("repository");
+        }
+        if (APPLICATION_SERVICE_PACKAGE.equals(type.getPackageName())) {
+            return Optional.of("service");
+        }
+        return Optional.empty();
+    }
+
+    private static final class TracedLayerPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public ClassFilter getClassFilter() {
+            return type -> !type.isInterface() && layerOf(type).isPresent();
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getDeclaringClass() != Object.class;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.wesports.backend.infrastructure.observability.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Runs the call inside a child span of the current one; exceptions mark the span as failed
+ */
+class TracingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<Tracer> tracer;
+
+    TracingInterceptor(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tracer activeTracer = tracer.getIfAvailable();
+        if (activeTracer == null) {
+            return invocation.proceed();
+        }
+        Class<?> targetClass = invocation.getThis() != null
+            ? AopUtils.getTargetClass(invocation.getThis())
+            : invocation.getMethod().getDeclaringClass();
+        Span span = activeTracer.nextSpan()
+            .name(targetClass.getSimpleName() + "." + invocation.getMethod().getName())
+            .tag("layer", TracingInstrumentationPostProcessor.layerOf(targetClass).orElse("other"))
+            .start();
+        try (Tracer.SpanInScope scope = activeTracer.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
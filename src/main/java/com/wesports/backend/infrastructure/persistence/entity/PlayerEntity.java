@@ -6,7 +6,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "players")
+@Table(name = "players") // indexes are defined by the migrations in db/migration
 public class PlayerEntity {
     
     @Id
@@ -46,6 +46,11 @@ public class PlayerEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
+    // Optimistic lock version, also used to derive the ETags of the profile endpoints
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // Position enum for JPA entity
     public enum PositionEnum {
         GK, CB, LB, RB, LWB, RWB, CDM, CM, CAM, LM, RM, LW, RW, ST, CF, LF, RF
@@ -115,4 +120,7 @@ public class PlayerEntity {
 
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -6,7 +6,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users") // indexes are defined by the migrations in db/migration
 public class UserEntity {
     
     @Id
@@ -72,6 +72,11 @@ public class UserEntity {
     @Column(name = "languages", columnDefinition = "text[]")
     private String[] languages;
 
+    // Optimistic lock version, also used to derive the ETags of the profile endpoints
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // Default constructor
     public UserEntity() {}
 
@@ -162,6 +167,9 @@ public class UserEntity {
     public UserRoleEnum getUserRole() { return userRole; }
     public void setUserRole(UserRoleEnum userRole) { this.userRole = userRole; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     // Enum for Gender
     public enum GenderEnum {
         MALE, FEMALE
@@ -169,7 +177,8 @@ public class UserEntity {
 
     // Enum for Registration Step
     public enum RegistrationStepEnum {
-        EMAIL_VERIFICATION, PASSWORD_SETUP, ROLE_SELECTION, PROFILE_FORM, ONBOARDING, COMPLETED
+        EMAIL_VERIFICATION, PASSWORD_SETUP, ROLE_SELECTION, GENDER_SELECTION, PROFILE_FORM, POSITION_SELECTION,
+        PLAYER_PROFILE, COMPLETED
     }
     
     // Enum for User Role
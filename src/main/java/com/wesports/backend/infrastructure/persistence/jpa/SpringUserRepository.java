@@ -18,4 +18,7 @@ public interface SpringUserRepository extends JpaRepository<UserEntity, UUID> {
     
     @Query("SELECT u FROM UserEntity u WHERE u.email = :email")
     Optional<UserEntity> findUserByEmail(@Param("email") String email);
+    
+    @Query("SELECT u.registrationStep FROM UserEntity u WHERE u.id = :id")
+    Optional<UserEntity.RegistrationStepEnum> findRegistrationStepById(@Param("id") UUID id);
 }
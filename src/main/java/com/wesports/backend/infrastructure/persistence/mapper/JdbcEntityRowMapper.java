@@ -0,0 +1,92 @@
+package com.wesports.backend.infrastructure.persistence.mapper;
+
+import com.wesports.backend.infrastructure.persistence.entity.PlayerEntity;
+import com.wesports.backend.infrastructure.persistence.entity.UserEntity;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Maps raw JDBC rows of the users and players tables to their JPA entities
+ * Used by the JDBC read paths (exports, projections) so they can hand rows to the regular
+ * UserMapper/PlayerMapper without going through the persistence context.
+ * The prefix is prepended to every column label, for joins that alias one table's columns.
+ */
+@Component
+public class JdbcEntityRowMapper {
+
+    public static final String USER_COLUMNS =
+        "id, first_name, last_name, email, phone_country_code, phone_number, gender, birthday, " +
+        "language_id, created_at, updated_at, email_verified, registration_step, user_role, nationality, " +
+        "place_of_residence, languages, version";
+
+    public static final String PLAYER_COLUMNS =
+        "id, profile_photo_url, height, weight, post_id, position, category, preferred_foot, " +
+        "created_at, updated_at, active, version";
+
+    public UserEntity toUserEntity(ResultSet rs, String prefix) throws SQLException {
+        String gender = rs.getString(prefix + "gender");
+        String registrationStep = rs.getString(prefix + "registration_step");
+        String userRole = rs.getString(prefix + "user_role");
+
+        UserEntity entity = new UserEntity();
+        entity.setId(rs.getObject(prefix + "id", UUID.class));
+        entity.setFirstName(rs.getString(prefix + "first_name"));
+        entity.setLastName(rs.getString(prefix + "last_name"));
+        entity.setEmail(rs.getString(prefix + "email"));
+        entity.setPhoneCountryCode(rs.getString(prefix + "phone_country_code"));
+        entity.setPhoneNumber(rs.getString(prefix + "phone_number"));
+        entity.setGender(gender != null ? UserEntity.GenderEnum.valueOf(gender) : null);
+        entity.setBirthday(rs.getObject(prefix + "birthday", LocalDate.class));
+        entity.setLanguageId(rs.getObject(prefix + "language_id", UUID.class));
+        entity.setCreatedAt(rs.getObject(prefix + "created_at", LocalDateTime.class));
+        entity.setUpdatedAt(rs.getObject(prefix + "updated_at", LocalDateTime.class));
+        entity.setEmailVerified(rs.getBoolean(prefix + "email_verified"));
+        entity.setRegistrationStep(registrationStep != null ? UserEntity.RegistrationStepEnum.valueOf(registrationStep) : null);
+        entity.setUserRole(userRole != null ? UserEntity.UserRoleEnum.valueOf(userRole) : null);
+        entity.setNationality(rs.getString(prefix + "nationality"));
+        entity.setPlaceOfResidence(rs.getString(prefix + "place_of_residence"));
+        entity.setLanguages(toStringArray(rs.getArray(prefix + "languages")));
+        entity.setVersion(rs.getLong(prefix + "version"));
+        return entity;
+    }
+
+    public PlayerEntity toPlayerEntity(ResultSet rs, String prefix) throws SQLException {
+        String position = rs.getString(prefix + "position");
+        String category = rs.getString(prefix + "category");
+        String preferredFoot = rs.getString(prefix + "preferred_foot");
+
+        PlayerEntity entity = new PlayerEntity(
+            rs.getObject(prefix + "id", UUID.class),
+            rs.getString(prefix + "profile_photo_url"),
+            rs.getObject(prefix + "height") != null ? rs.getFloat(prefix + "height") : null,
+            rs.getObject(prefix + "weight") != null ? rs.getFloat(prefix + "weight") : null,
+            rs.getObject(prefix + "post_id", UUID.class),
+            position != null ? PlayerEntity.PositionEnum.valueOf(position) : null,
+            category != null ? PlayerEntity.CategoryEnum.valueOf(category) : null,
+            preferredFoot != null ? PlayerEntity.PreferredFootEnum.valueOf(preferredFoot) : null,
+            rs.getObject(prefix + "created_at", LocalDateTime.class),
+            rs.getObject(prefix + "updated_at", LocalDateTime.class),
+            rs.getBoolean(prefix + "active")
+        );
+        entity.setVersion(rs.getLong(prefix + "version"));
+        return entity;
+    }
+
+    private String[] toStringArray(Array array) throws SQLException {
+        if (array == null) {
+            return null;
+        }
+        Object[] values = (Object[]) array.getArray();
+        String[] strings = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            strings[i] = String.valueOf(values[i]);
+        }
+        return strings;
+    }
+}
@@ -19,7 +19,7 @@ public class PlayerMapper {
             return null;
         }
 
-        return new PlayerEntity(
+        PlayerEntity entity = new PlayerEntity(
                 player.getId().getValue(),
                 player.getProfilePhotoUrl(),
                 player.getHeight(),
@@ -32,6 +32,8 @@ public class PlayerMapper {
                 player.getUpdatedAt(),
                 player.isActive()
         );
+        entity.setVersion(player.getVersion());
+        return entity;
     }
 
     public Player toDomain(PlayerEntity entity) {
@@ -39,7 +41,7 @@ public class PlayerMapper {
             return null;
         }
         
-        return new Player(
+        Player player = new Player(
             PlayerId.of(entity.getId()),
             entity.getProfilePhotoUrl(),
             entity.getHeight(),
@@ -52,6 +54,8 @@ public class PlayerMapper {
             entity.getUpdatedAt(),
             entity.isActive()
         );
+        player.setVersion(entity.getVersion());
+        return player;
     }
 
     private PlayerEntity.PositionEnum mapPositionToEnum(Position position) {
@@ -41,12 +41,12 @@ public class UserMapper {
         entity.setUpdatedAt(user.getUpdatedAt());
         entity.setPasswordHash(user.getPasswordHash());
         entity.setEmailVerified(user.isEmailVerified());
-        entity.setRegistrationStep(mapRegistrationStepToEnum(user.getCurrentRegistrationStep()));
         entity.setUserRole(mapUserRoleToEnum(user.getUserRole()));
         entity.setNationality(user.getNationality());
         entity.setPlaceOfResidence(user.getLieuDeResidence());
         entity.setLanguages(mapLanguagesToArray(user.getLanguages()));
         entity.setRegistrationStep(mapRegistrationStepToEnum(user.getRegistrationStep()));
+        entity.setVersion(user.getVersion());
 
         return entity;
     }
@@ -72,7 +72,7 @@ public class UserMapper {
             entity.getBirthday(),
             entity.getLanguageId(),
             entity.getCreatedAt(),
-            mapEnumToRegistrationStep(entity.getRegistrationStep()) // ✅ Added registration step
+            toRegistrationStep(entity.getRegistrationStep()) // ✅ Added registration step
         );
         
         // Set authentication fields
@@ -87,6 +87,7 @@ public class UserMapper {
         user.setNationality(entity.getNationality());
         user.setLieuDeResidence(entity.getPlaceOfResidence());
         user.setLanguages(mapArrayToLanguages(entity.getLanguages()));
+        user.setVersion(entity.getVersion());
         
         return user;
     }
@@ -138,13 +139,15 @@ public class UserMapper {
             case EMAIL_VERIFICATION -> UserEntity.RegistrationStepEnum.EMAIL_VERIFICATION;
             case PASSWORD_SETUP -> UserEntity.RegistrationStepEnum.PASSWORD_SETUP;
             case ROLE_SELECTION -> UserEntity.RegistrationStepEnum.ROLE_SELECTION;
+            case GENDER_SELECTION -> UserEntity.RegistrationStepEnum.GENDER_SELECTION;
             case PROFILE_FORM -> UserEntity.RegistrationStepEnum.PROFILE_FORM;
-            case ONBOARDING -> UserEntity.RegistrationStepEnum.ONBOARDING;
+            case POSITION_SELECTION -> UserEntity.RegistrationStepEnum.POSITION_SELECTION;
+            case PLAYER_PROFILE -> UserEntity.RegistrationStepEnum.PLAYER_PROFILE;
             case COMPLETED -> UserEntity.RegistrationStepEnum.COMPLETED;
         };
     }
     
-    private RegistrationStep mapEnumToRegistrationStep(UserEntity.RegistrationStepEnum stepEnum) {
+    public RegistrationStep toRegistrationStep(UserEntity.RegistrationStepEnum stepEnum) {
         if (stepEnum == null) {
             return RegistrationStep.EMAIL_VERIFICATION;
         }
@@ -153,8 +156,10 @@ public class UserMapper {
             case EMAIL_VERIFICATION -> RegistrationStep.EMAIL_VERIFICATION;
             case PASSWORD_SETUP -> RegistrationStep.PASSWORD_SETUP;
             case ROLE_SELECTION -> RegistrationStep.ROLE_SELECTION;
+            case GENDER_SELECTION -> RegistrationStep.GENDER_SELECTION;
             case PROFILE_FORM -> RegistrationStep.PROFILE_FORM;
-            case ONBOARDING -> RegistrationStep.ONBOARDING;
+            case POSITION_SELECTION -> RegistrationStep.POSITION_SELECTION;
+            case PLAYER_PROFILE -> RegistrationStep.PLAYER_PROFILE;
             case COMPLETED -> RegistrationStep.COMPLETED;
         };
     }
@@ -0,0 +1,40 @@
+package com.wesports.backend.infrastructure.persistence.migration;
+
+import org.flywaydb.core.api.Location;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Schema migrations run by Flyway from classpath:db/migration before JPA starts
+ * Databases whose schema Hibernate generated before migrations existed have no history table yet:
+ * they are baselined at V1 (which reproduces that schema) and only receive the later versions.
+ * Reference data is seeded by the repeatable migration in classpath:db/seed, added to whatever
+ * locations the active profile configures.
+ */
+@Configuration
+public class FlywayMigrationConfig {
+
+    static final String SEED_LOCATION = "classpath:db/seed";
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .baselineDescription("Hibernate generated schema");
+    }
+
+    @Bean
+    public FlywayConfigurationCustomizer referenceDataSeed() {
+        return configuration -> {
+            List<Location> locations = new ArrayList<>(Arrays.asList(configuration.getLocations()));
+            locations.add(new Location(SEED_LOCATION));
+            configuration.locations(locations.toArray(Location[]::new));
+        };
+    }
+}
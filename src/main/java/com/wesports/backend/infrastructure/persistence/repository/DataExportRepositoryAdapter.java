@@ -0,0 +1,57 @@
+package com.wesports.backend.infrastructure.persistence.repository;
+
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.DataExportRepository;
+import com.wesports.backend.infrastructure.persistence.mapper.JdbcEntityRowMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.PlayerMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.UserMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of DataExportRepository
+ * Uses a forward-only, fetch-size bounded cursor and maps each row through the regular
+ * entity mappers, so at most one fetch batch of rows is ever resident in the heap
+ */
+@Repository
+public class DataExportRepositoryAdapter implements DataExportRepository {
+
+    private static final String PLAYERS_SQL = "SELECT " + JdbcEntityRowMapper.PLAYER_COLUMNS + " FROM players";
+
+    private static final String USERS_SQL = "SELECT " + JdbcEntityRowMapper.USER_COLUMNS + " FROM users";
+
+    private final JdbcTemplate cursorTemplate;
+    private final JdbcEntityRowMapper rowMapper;
+    private final PlayerMapper playerMapper;
+    private final UserMapper userMapper;
+
+    @Autowired
+    public DataExportRepositoryAdapter(JdbcTemplate jdbcTemplate, JdbcEntityRowMapper rowMapper,
+                                       PlayerMapper playerMapper, UserMapper userMapper,
+                                       @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.rowMapper = rowMapper;
+        this.playerMapper = playerMapper;
+        this.userMapper = userMapper;
+    }
+
+    @Override
+    public void streamPlayers(Consumer<Player> consumer) {
+        cursorTemplate.query(PLAYERS_SQL, rs -> {
+            consumer.accept(playerMapper.toDomain(rowMapper.toPlayerEntity(rs, "")));
+        });
+    }
+
+    @Override
+    public void streamUsers(Consumer<User> consumer) {
+        cursorTemplate.query(USERS_SQL, rs -> {
+            consumer.accept(userMapper.toDomain(rowMapper.toUserEntity(rs, "")));
+        });
+    }
+}
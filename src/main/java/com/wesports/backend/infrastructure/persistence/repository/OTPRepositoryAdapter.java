@@ -91,7 +91,8 @@ public class OTPRepositoryAdapter implements OTPRepository {
 
     @Override
     public int deleteByExpiresAtBefore(LocalDateTime cutoff) {
-        return springOTPRepository.deleteByCreatedAtBefore(cutoff);
+        // No expires_at column: an OTP expires 10 minutes after it was created (see OTP.isExpired)
+        return springOTPRepository.deleteByCreatedAtBefore(cutoff.minusMinutes(10));
     }
 
     @Override
@@ -0,0 +1,111 @@
+package com.wesports.backend.infrastructure.persistence.repository;
+
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.PlayerSport;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.PlayerImportRepository;
+import com.wesports.backend.infrastructure.search.InMemoryPlayerScoutingIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JDBC implementation of PlayerImportRepository
+ * Bypasses the JPA persistence context so a roster of thousands of rows costs
+ * one batched round trip per table and batch instead of several statements per player
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerImportRepositoryAdapter implements PlayerImportRepository {
+
+    private static final String INSERT_USER_SQL =
+        "INSERT INTO users (id, first_name, last_name, email, gender, birthday, nationality, " +
+        "created_at, updated_at, email_verified, registration_step, user_role) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PLAYER_SQL =
+        "INSERT INTO players (id, profile_photo_url, height, weight, position, category, preferred_foot, " +
+        "created_at, updated_at, active) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PLAYER_SPORT_SQL =
+        "INSERT INTO playersport (id, user_id, player_id, sport_id, created_at, updated_at, active) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final InMemoryPlayerScoutingIndex scoutingIndex;
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        List<String> existing = namedParameterJdbcTemplate.queryForList(
+            "SELECT email FROM users WHERE email IN (:emails)",
+            new MapSqlParameterSource("emails", emails),
+            String.class
+        );
+        return new HashSet<>(existing);
+    }
+
+    @Override
+    public void insertBatch(List<User> users, List<Player> players, List<PlayerSport> associations) {
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, users.size(), this::bindUser);
+        jdbcTemplate.batchUpdate(INSERT_PLAYER_SQL, players, players.size(), this::bindPlayer);
+        jdbcTemplate.batchUpdate(INSERT_PLAYER_SPORT_SQL, associations, associations.size(), this::bindPlayerSport);
+        players.forEach(scoutingIndex::indexAfterCommit);
+        log.debug("Inserted import batch: {} users, {} players, {} sport links",
+            users.size(), players.size(), associations.size());
+    }
+
+    private void bindUser(PreparedStatement ps, User user) throws SQLException {
+        ps.setObject(1, user.getId().getValue());
+        ps.setString(2, user.getFirstName());
+        ps.setString(3, user.getLastName());
+        ps.setString(4, user.getEmail().getValue());
+        ps.setString(5, user.getGender() != null ? user.getGender().name() : null);
+        ps.setObject(6, user.getBirthday(), Types.DATE);
+        ps.setString(7, user.getNationality());
+        ps.setObject(8, user.getCreatedAt(), Types.TIMESTAMP);
+        ps.setObject(9, user.getUpdatedAt(), Types.TIMESTAMP);
+        ps.setBoolean(10, user.isEmailVerified());
+        ps.setString(11, user.getRegistrationStep().name());
+        ps.setString(12, user.getUserRole() != null ? user.getUserRole().name() : null);
+    }
+
+    private void bindPlayer(PreparedStatement ps, Player player) throws SQLException {
+        ps.setObject(1, player.getId().getValue());
+        ps.setString(2, player.getProfilePhotoUrl());
+        ps.setObject(3, player.getHeight(), Types.REAL);
+        ps.setObject(4, player.getWeight(), Types.REAL);
+        ps.setString(5, player.getPosition() != null ? player.getPosition().name() : null);
+        ps.setString(6, player.getCategory() != null ? player.getCategory().name() : null);
+        ps.setString(7, player.getPreferredFoot() != null ? player.getPreferredFoot().name() : null);
+        ps.setObject(8, player.getCreatedAt(), Types.TIMESTAMP);
+        ps.setObject(9, player.getUpdatedAt(), Types.TIMESTAMP);
+        ps.setBoolean(10, player.isActive());
+    }
+
+    private void bindPlayerSport(PreparedStatement ps, PlayerSport playerSport) throws SQLException {
+        ps.setObject(1, playerSport.getId());
+        ps.setObject(2, playerSport.getUserId().getValue());
+        ps.setObject(3, playerSport.getPlayerId().getValue());
+        ps.setObject(4, playerSport.getSportId().getValue());
+        ps.setObject(5, playerSport.getCreatedAt(), Types.TIMESTAMP);
+        ps.setObject(6, playerSport.getUpdatedAt(), Types.TIMESTAMP);
+        ps.setBoolean(7, playerSport.isActive());
+    }
+}
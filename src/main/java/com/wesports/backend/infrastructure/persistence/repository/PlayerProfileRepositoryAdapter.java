@@ -0,0 +1,88 @@
+package com.wesports.backend.infrastructure.persistence.repository;
+
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.PlayerProfileView;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.PlayerProfileRepository;
+import com.wesports.backend.domain.valueobject.AuthMethodType;
+import com.wesports.backend.domain.valueobject.ProfileVersion;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.persistence.mapper.JdbcEntityRowMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.PlayerMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of PlayerProfileRepository
+ * Joins users, players and active user_auth_methods so the profile costs one round trip;
+ * the user and player columns repeat once per auth method row, which is at most a handful
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlayerProfileRepositoryAdapter implements PlayerProfileRepository {
+
+    private static final String PROFILE_SQL =
+        "SELECT u.id, u.first_name, u.last_name, u.email, u.phone_country_code, u.phone_number, u.gender, " +
+        "u.birthday, u.language_id, u.created_at, u.updated_at, u.email_verified, u.registration_step, " +
+        "u.user_role, u.nationality, u.place_of_residence, u.languages, u.version, " +
+        "p.id AS p_id, p.profile_photo_url AS p_profile_photo_url, p.height AS p_height, p.weight AS p_weight, " +
+        "p.post_id AS p_post_id, p.position AS p_position, p.category AS p_category, " +
+        "p.preferred_foot AS p_preferred_foot, p.created_at AS p_created_at, p.updated_at AS p_updated_at, " +
+        "p.active AS p_active, p.version AS p_version, " +
+        "am.auth_method_type AS am_auth_method_type " +
+        "FROM users u " +
+        "LEFT JOIN players p ON p.id = u.id " +
+        "LEFT JOIN user_auth_methods am ON am.user_id = u.id AND am.is_active = TRUE " +
+        "WHERE u.id = ? " +
+        "ORDER BY am.created_at";
+
+    private static final String VERSION_SQL =
+        "SELECT u.version AS user_version, p.version AS player_version, " +
+        "(SELECT COUNT(*) FROM user_auth_methods am WHERE am.user_id = u.id AND am.is_active = TRUE) AS auth_methods " +
+        "FROM users u " +
+        "LEFT JOIN players p ON p.id = u.id " +
+        "WHERE u.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcEntityRowMapper rowMapper;
+    private final UserMapper userMapper;
+    private final PlayerMapper playerMapper;
+
+    @Override
+    public Optional<PlayerProfileView> findByUserId(UserId userId) {
+        return Optional.ofNullable(jdbcTemplate.query(PROFILE_SQL, rs -> {
+            User user = null;
+            Player player = null;
+            List<AuthMethodType> authMethods = new ArrayList<>();
+            while (rs.next()) {
+                if (user == null) {
+                    user = userMapper.toDomain(rowMapper.toUserEntity(rs, ""));
+                    if (rs.getObject("p_id") != null) {
+                        player = playerMapper.toDomain(rowMapper.toPlayerEntity(rs, "p_"));
+                    }
+                }
+                String authMethodType = rs.getString("am_auth_method_type");
+                if (authMethodType != null) {
+                    authMethods.add(AuthMethodType.valueOf(authMethodType));
+                }
+            }
+            return user != null ? new PlayerProfileView(user, player, authMethods) : null;
+        }, userId.getValue()));
+    }
+
+    @Override
+    public Optional<ProfileVersion> findVersionByUserId(UserId userId) {
+        List<ProfileVersion> versions = jdbcTemplate.query(VERSION_SQL, (rs, rowNum) -> new ProfileVersion(
+            rs.getLong("user_version"),
+            rs.getObject("player_version") != null ? rs.getLong("player_version") : null,
+            rs.getLong("auth_methods")
+        ), userId.getValue());
+        return versions.stream().findFirst();
+    }
+}
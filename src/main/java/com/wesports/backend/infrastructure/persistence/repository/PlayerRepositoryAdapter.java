@@ -6,6 +6,7 @@ import com.wesports.backend.domain.valueobject.UserId;
 import com.wesports.backend.infrastructure.persistence.entity.PlayerEntity;
 import com.wesports.backend.infrastructure.persistence.jpa.SpringPlayerRepository;
 import com.wesports.backend.infrastructure.persistence.mapper.PlayerMapper;
+import com.wesports.backend.infrastructure.search.InMemoryPlayerScoutingIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
@@ -25,21 +26,26 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
 
     private final SpringPlayerRepository springPlayerRepository;
     private final PlayerMapper playerMapper;
+    private final InMemoryPlayerScoutingIndex scoutingIndex;
     
     @PersistenceContext
     private EntityManager entityManager;
 
     @Autowired
-    public PlayerRepositoryAdapter(SpringPlayerRepository springPlayerRepository, PlayerMapper playerMapper) {
+    public PlayerRepositoryAdapter(SpringPlayerRepository springPlayerRepository, PlayerMapper playerMapper,
+                                   InMemoryPlayerScoutingIndex scoutingIndex) {
         this.springPlayerRepository = springPlayerRepository;
         this.playerMapper = playerMapper;
+        this.scoutingIndex = scoutingIndex;
     }
 
     @Override
     public Player save(Player player) {
         PlayerEntity entity = playerMapper.toEntity(player);
         PlayerEntity savedEntity = springPlayerRepository.save(entity);
-        return playerMapper.toDomain(savedEntity);
+        Player savedPlayer = playerMapper.toDomain(savedEntity);
+        scoutingIndex.indexAfterCommit(savedPlayer);
+        return savedPlayer;
     }
 
     public Player merge(Player player) {
@@ -50,9 +56,15 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
             if (existingPlayer.isPresent()) {
                 // Update existing player using normal merge
                 PlayerEntity entity = playerMapper.toEntity(player);
+                if (entity.getVersion() == null) {
+                    // A null version would make Hibernate treat the row as transient and try to insert it
+                    entity.setVersion(existingPlayer.get().getVersion());
+                }
                 PlayerEntity mergedEntity = entityManager.merge(entity);
                 entityManager.flush();
-                return playerMapper.toDomain(mergedEntity);
+                Player mergedPlayer = playerMapper.toDomain(mergedEntity);
+                scoutingIndex.indexAfterCommit(mergedPlayer);
+                return mergedPlayer;
             } else {
                 // Create new player - use native SQL to avoid user table conflicts
                 // The user already exists, we only need to create the player record
@@ -78,7 +90,9 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
                 
                 // Now fetch the created player
                 Optional<PlayerEntity> createdPlayer = springPlayerRepository.findById(playerId);
-                return createdPlayer.map(playerMapper::toDomain).orElse(player);
+                Player created = createdPlayer.map(playerMapper::toDomain).orElse(player);
+                scoutingIndex.indexAfterCommit(created);
+                return created;
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to merge player: " + e.getMessage(), e);
@@ -115,10 +129,12 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
     public void delete(Player player) {
         PlayerEntity entity = playerMapper.toEntity(player);
         springPlayerRepository.delete(entity);
+        scoutingIndex.removeAfterCommit(player.getId().getValue());
     }
 
     @Override
     public void deleteById(UserId playerId) {
         springPlayerRepository.deleteById(playerId.getValue());
+        scoutingIndex.removeAfterCommit(playerId.getValue());
     }
 }
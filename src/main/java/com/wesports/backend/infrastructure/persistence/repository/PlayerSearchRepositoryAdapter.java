@@ -0,0 +1,128 @@
+package com.wesports.backend.infrastructure.persistence.repository;
+
+import com.wesports.backend.domain.model.PlayerSummary;
+import com.wesports.backend.domain.repository.PlayerSearchRepository;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.PlayerId;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.PlayerSearchCursor;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of PlayerSearchRepository
+ * Builds the WHERE clause from the non-empty filters only, so each filter combination
+ * hits one of the composite (filter..., created_at, id) indexes created by the migrations,
+ * and pages with a seek predicate instead of OFFSET so deep pages cost the same as the first one
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlayerSearchRepositoryAdapter implements PlayerSearchRepository {
+
+    private static final String SELECT_SQL =
+        "SELECT p.id, p.position, p.category, p.preferred_foot, p.height, p.weight, p.profile_photo_url, " +
+        "p.created_at, u.first_name, u.last_name, u.nationality, u.languages " +
+        "FROM players p JOIN users u ON u.id = p.id " +
+        "WHERE p.active = TRUE";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<PlayerSummary> search(PlayerSearchCriteria criteria, PlayerSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        if (!criteria.positions().isEmpty()) {
+            sql.append(" AND p.position IN (:positions)");
+            params.addValue("positions", criteria.positions().stream().map(Position::name).toList());
+        }
+        if (!criteria.categories().isEmpty()) {
+            sql.append(" AND p.category IN (:categories)");
+            params.addValue("categories", criteria.categories().stream().map(Category::name).toList());
+        }
+        if (criteria.preferredFoot() != null) {
+            sql.append(" AND p.preferred_foot = :preferredFoot");
+            params.addValue("preferredFoot", criteria.preferredFoot().name());
+        }
+        if (criteria.minHeight() != null) {
+            sql.append(" AND p.height >= :minHeight");
+            params.addValue("minHeight", criteria.minHeight());
+        }
+        if (criteria.maxHeight() != null) {
+            sql.append(" AND p.height <= :maxHeight");
+            params.addValue("maxHeight", criteria.maxHeight());
+        }
+        if (criteria.minWeight() != null) {
+            sql.append(" AND p.weight >= :minWeight");
+            params.addValue("minWeight", criteria.minWeight());
+        }
+        if (criteria.maxWeight() != null) {
+            sql.append(" AND p.weight <= :maxWeight");
+            params.addValue("maxWeight", criteria.maxWeight());
+        }
+        if (criteria.nationality() != null) {
+            sql.append(" AND u.nationality = :nationality");
+            params.addValue("nationality", criteria.nationality());
+        }
+        if (!criteria.languages().isEmpty()) {
+            // Array overlap: the player speaks at least one of the requested languages
+            sql.append(" AND u.languages && CAST(:languages AS text[])");
+            params.addValue("languages", criteria.languages().toArray(new String[0]));
+        }
+        if (after != null) {
+            sql.append(" AND (p.created_at, p.id) > (:afterCreatedAt, :afterId)");
+            params.addValue("afterCreatedAt", after.createdAt());
+            params.addValue("afterId", after.id());
+        }
+
+        sql.append(" ORDER BY p.created_at, p.id LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> mapRow(rs));
+    }
+
+    private PlayerSummary mapRow(ResultSet rs) throws SQLException {
+        String position = rs.getString("position");
+        String category = rs.getString("category");
+        String preferredFoot = rs.getString("preferred_foot");
+
+        return new PlayerSummary(
+            PlayerId.of(rs.getObject("id", UUID.class)),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            position != null ? Position.valueOf(position) : null,
+            category != null ? Category.valueOf(category) : null,
+            preferredFoot != null ? PreferredFoot.valueOf(preferredFoot) : null,
+            rs.getObject("height") != null ? rs.getFloat("height") : null,
+            rs.getObject("weight") != null ? rs.getFloat("weight") : null,
+            rs.getString("nationality"),
+            mapLanguages(rs.getArray("languages")),
+            rs.getString("profile_photo_url"),
+            rs.getObject("created_at", LocalDateTime.class)
+        );
+    }
+
+    private List<String> mapLanguages(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        Object[] values = (Object[]) array.getArray();
+        List<String> languages = new ArrayList<>(values.length);
+        for (Object value : values) {
+            languages.add(String.valueOf(value));
+        }
+        return languages;
+    }
+}
@@ -9,10 +9,21 @@ import com.wesports.backend.infrastructure.persistence.entity.PlayerSportEntity;
 import com.wesports.backend.infrastructure.persistence.jpa.SpringPlayerSportRepository;
 import com.wesports.backend.infrastructure.persistence.mapper.PlayerSportMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,14 +34,33 @@ import java.util.stream.Collectors;
 @Repository
 public class PlayerSportRepositoryAdapter implements PlayerSportRepository {
     
+    private static final String INSERT_SQL =
+        "INSERT INTO playersport (id, user_id, player_id, sport_id, created_at, updated_at, active) " +
+        "VALUES (?, ?, ?, ?, ?, ?, TRUE) ";
+    
+    // Conflicts on the unique partial index ux_playersport_active_link (V3 migration) only
+    private static final String INSERT_IF_ABSENT_SQL =
+        INSERT_SQL + "ON CONFLICT (user_id, player_id, sport_id) WHERE active DO NOTHING";
+    
+    // H2 (loadtest profile) takes no conflict target; its ux_playersport_active_link is unique over a column
+    // that is NULL on inactive rows, so again only a second active link conflicts
+    private static final String H2_INSERT_IF_ABSENT_SQL = INSERT_SQL + "ON CONFLICT DO NOTHING";
+    
     private final SpringPlayerSportRepository springPlayerSportRepository;
     private final PlayerSportMapper playerSportMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private volatile String insertIfAbsentSql;
     
     @Autowired
     public PlayerSportRepositoryAdapter(SpringPlayerSportRepository springPlayerSportRepository, 
-                                       PlayerSportMapper playerSportMapper) {
+                                       PlayerSportMapper playerSportMapper,
+                                       JdbcTemplate jdbcTemplate,
+                                       NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
         this.springPlayerSportRepository = springPlayerSportRepository;
         this.playerSportMapper = playerSportMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
     }
     
     @Override
@@ -40,6 +70,38 @@ public class PlayerSportRepositoryAdapter implements PlayerSportRepository {
         return playerSportMapper.toDomain(savedEntity);
     }
     
+    @Override
+    public List<PlayerSport> insertMissing(List<PlayerSport> associations) {
+        if (associations.isEmpty()) {
+            return List.of();
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(insertIfAbsentSql(), associations, associations.size(),
+            this::bindPlayerSport);
+        
+        List<PlayerSport> inserted = new ArrayList<>();
+        boolean countsKnown = true;
+        for (int i = 0; i < associations.size(); i++) {
+            int count = counts[0][i];
+            if (count == Statement.SUCCESS_NO_INFO) {
+                countsKnown = false;
+                break;
+            }
+            if (count > 0) {
+                inserted.add(associations.get(i));
+            }
+        }
+        if (countsKnown) {
+            return inserted;
+        }
+        
+        // Driver rewrote the batch (reWriteBatchedInserts) and lost per-row counts: ids are ours, so look them up
+        Set<UUID> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+            "SELECT id FROM playersport WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", associations.stream().map(PlayerSport::getId).toList()),
+            UUID.class));
+        return associations.stream().filter(association -> existing.contains(association.getId())).toList();
+    }
+    
     @Override
     public Optional<PlayerSport> findById(UUID id) {
         Optional<PlayerSportEntity> entityOpt = springPlayerSportRepository.findById(id);
@@ -101,4 +163,24 @@ public class PlayerSportRepositoryAdapter implements PlayerSportRepository {
     public void deleteById(UUID id) {
         springPlayerSportRepository.deleteById(id);
     }
+    
+    private String insertIfAbsentSql() {
+        String sql = insertIfAbsentSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equals(product) ? H2_INSERT_IF_ABSENT_SQL : INSERT_IF_ABSENT_SQL;
+            insertIfAbsentSql = sql;
+        }
+        return sql;
+    }
+    
+    private void bindPlayerSport(PreparedStatement ps, PlayerSport playerSport) throws SQLException {
+        ps.setObject(1, playerSport.getId());
+        ps.setObject(2, playerSport.getUserId().getValue());
+        ps.setObject(3, playerSport.getPlayerId().getValue());
+        ps.setObject(4, playerSport.getSportId().getValue());
+        ps.setObject(5, playerSport.getCreatedAt(), Types.TIMESTAMP);
+        ps.setObject(6, playerSport.getUpdatedAt(), Types.TIMESTAMP);
+    }
 }
@@ -0,0 +1,67 @@
+package com.wesports.backend.infrastructure.persistence.repository;
+
+import com.wesports.backend.domain.model.Post;
+import com.wesports.backend.domain.repository.PostRepository;
+import com.wesports.backend.infrastructure.persistence.entity.PostEntity;
+import com.wesports.backend.infrastructure.persistence.jpa.SpringPostRepository;
+import com.wesports.backend.infrastructure.persistence.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PostRepositoryAdapter implements PostRepository {
+
+    private final SpringPostRepository springPostRepository;
+    private final PostMapper postMapper;
+
+    @Override
+    public Post save(Post post) {
+        log.debug("Saving post: {}", post.getCode());
+        PostEntity entity = postMapper.toEntity(post);
+        PostEntity savedEntity = springPostRepository.save(entity);
+        return postMapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Optional<Post> findById(UUID postId) {
+        return springPostRepository.findById(postId)
+                .map(postMapper::toDomain);
+    }
+
+    @Override
+    public Optional<Post> findByCode(String code) {
+        return springPostRepository.findByCode(code)
+                .map(postMapper::toDomain);
+    }
+
+    @Override
+    public List<Post> findAll() {
+        return springPostRepository.findAll()
+                .stream()
+                .map(postMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsByCode(String code) {
+        return springPostRepository.existsByCode(code);
+    }
+
+    @Override
+    public void delete(Post post) {
+        springPostRepository.delete(postMapper.toEntity(post));
+    }
+
+    @Override
+    public void deleteById(UUID postId) {
+        springPostRepository.deleteById(postId);
+    }
+}
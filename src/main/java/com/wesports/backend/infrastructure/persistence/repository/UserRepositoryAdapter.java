@@ -3,6 +3,7 @@ package com.wesports.backend.infrastructure.persistence.repository;
 import com.wesports.backend.domain.model.User;
 import com.wesports.backend.domain.repository.UserRepository;
 import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.RegistrationStep;
 import com.wesports.backend.domain.valueobject.UserId;
 import com.wesports.backend.infrastructure.persistence.jpa.SpringUserRepository;
 import com.wesports.backend.infrastructure.persistence.mapper.UserMapper;
@@ -42,6 +43,13 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(userMapper::toDomain);
     }
 
+    @Override
+    public Optional<RegistrationStep> findRegistrationStep(UserId userId) {
+        // Single column by primary key: the onboarding status needs nothing else from the row
+        return springUserRepository.findRegistrationStepById(userId.getValue())
+                .map(userMapper::toRegistrationStep);
+    }
+
     @Override
     public boolean existsByEmail(Email email) {
         return springUserRepository.existsByEmail(email.getValue());
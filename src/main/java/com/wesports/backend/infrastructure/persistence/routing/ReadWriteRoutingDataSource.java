@@ -0,0 +1,46 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Application DataSource that routes read-only transactions to the replica pool
+ * Connections are fetched lazily, on the first statement, so the transaction's read-only flag
+ * is already known when the target is chosen. Read-write connections always come from the primary
+ * and pin the rest of the current request to it.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+    private final ReplicaDataSourcePool replicaPool;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSourcePool replicaPool,
+                                      ReadYourWritesTracker tracker) {
+        super(new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                tracker.pinCurrentRequest();
+                return super.getConnection();
+            }
+        });
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        setReadOnlyDataSource(replicaPool);
+    }
+
+    public ReplicaDataSourcePool getReplicaPool() {
+        return replicaPool;
+    }
+
+    @Override
+    public void close() throws Exception {
+        replicaPool.close();
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import com.wesports.backend.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Binds the authenticated user to the ReadYourWritesTracker for the duration of a request
+ * and opens the user's read-your-writes window after a successful mutating request
+ * Mutating requests of an authenticated user also hand the client a signed write time (ReadYourWritesToken),
+ * in the X-Read-Your-Writes header and the read_your_writes cookie; sent back by the same user with the
+ * following requests (browsers do so with the cookie), it keeps their reads on the primary whichever node
+ * serves them. Anonymous requests get no token, and tokens that do not verify for the current user are ignored.
+ * It is set before the handler runs, while the response can still take headers, so a failed write pins the
+ * client too, which only costs a few primary reads.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Read-Your-Writes";
+    static final String COOKIE = "read_your_writes";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ReadYourWritesTracker tracker;
+    private final ReadYourWritesToken tokens;
+
+    public ReadYourWritesInterceptor(ReadYourWritesTracker tracker, ReadYourWritesToken tokens) {
+        this.tracker = tracker;
+        this.tokens = tokens;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String userKey = currentUserKey();
+        tracker.bind(userKey, tokens.verify(clientToken(request), userKey));
+        String token = SAFE_METHODS.contains(request.getMethod())
+            ? null
+            : tokens.issue(userKey, System.currentTimeMillis());
+        if (token != null) {
+            response.setHeader(HEADER, token);
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, token)
+                .path("/")
+                .maxAge(tracker.window().toSeconds() + 1)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .build()
+                .toString());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        try {
+            if (ex == null && response.getStatus() < 400 && !SAFE_METHODS.contains(request.getMethod())) {
+                tracker.recordWrite(currentUserKey());
+            }
+        } finally {
+            tracker.clear();
+        }
+    }
+
+    /**
+     * The token the client sent back (header first, then cookie); null when absent
+     */
+    static String clientToken(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        return value != null ? value.trim() : null;
+    }
+
+    private static String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof JwtAuthenticationFilter.JwtUserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Signed write time handed to clients so another node can pin their reads to the primary
+ * The token is "writeMillis.signature", an HMAC-SHA256 over the write time and the user it was issued to,
+ * keyed with a secret shared by all nodes. Only tokens signed here and presented by that same user count,
+ * so a client cannot keep its reads on the primary by making up write times.
+ * Without a secret, nothing is issued and nothing is accepted.
+ */
+public class ReadYourWritesToken {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public ReadYourWritesToken(String secret) {
+        this.key = secret == null || secret.isBlank()
+            ? null
+            : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    /**
+     * The token for a write made by userKey at writeMillis (epoch millis); null when signing is disabled
+     */
+    public String issue(String userKey, long writeMillis) {
+        if (key == null || userKey == null) {
+            return null;
+        }
+        return writeMillis + "." + sign(userKey, writeMillis);
+    }
+
+    /**
+     * The write time carried by the token, or null unless it was issued here to userKey
+     */
+    public Long verify(String token, String userKey) {
+        if (key == null || userKey == null || token == null) {
+            return null;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        long writeMillis;
+        try {
+            writeMillis = Long.parseLong(token.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        byte[] expected = sign(userKey, writeMillis).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? writeMillis : null;
+    }
+
+    private String sign(String userKey, long writeMillis) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal(("read-your-writes\n" + userKey + "\n" + writeMillis)
+                .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
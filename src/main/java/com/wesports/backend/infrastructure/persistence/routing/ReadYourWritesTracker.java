@@ -0,0 +1,109 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently so their reads stay on the primary until replicas caught up
+ * A request binds its user to the current thread; reads are pinned to the primary when that user
+ * wrote within the window, or when the request itself already used a read-write connection.
+ * The users recorded here are only those who wrote through this node. A client that wrote through another
+ * node is pinned by the signed write time it carries back (see ReadYourWritesInterceptor), compared to this
+ * node's wall clock, so the nodes' clocks have to agree to well within the window.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final long windowMillis;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestScope> currentRequest = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.windowMillis = window.toMillis();
+    }
+
+    public Duration window() {
+        return Duration.ofNanos(windowNanos);
+    }
+
+    /**
+     * Bind the current thread to a request; userKey may be null for anonymous requests
+     */
+    public void bind(String userKey) {
+        bind(userKey, null);
+    }
+
+    /**
+     * Bind the current thread to a request whose client last wrote at clientWriteMillis (epoch millis, null if unknown)
+     * The caller must have verified that time; it is trusted as is
+     */
+    public void bind(String userKey, Long clientWriteMillis) {
+        currentRequest.set(new RequestScope(userKey, clientWriteMillis));
+    }
+
+    public void clear() {
+        currentRequest.remove();
+    }
+
+    /**
+     * Start the read-your-writes window for a user
+     */
+    public void recordWrite(String userKey) {
+        if (userKey == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWrites.put(userKey, now);
+        if (lastWrites.size() > PRUNE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    /**
+     * Called whenever the bound request obtains a read-write connection
+     */
+    void pinCurrentRequest() {
+        RequestScope scope = currentRequest.get();
+        if (scope != null) {
+            scope.pinned = true;
+        }
+    }
+
+    /**
+     * Whether reads of the current thread must go to the primary
+     */
+    public boolean requiresPrimary() {
+        RequestScope scope = currentRequest.get();
+        if (scope == null) {
+            return false;
+        }
+        if (scope.pinned) {
+            return true;
+        }
+        // Also accepts times slightly ahead of this node's clock; anything further off is ignored
+        if (scope.clientWriteMillis != null
+                && Math.abs(System.currentTimeMillis() - scope.clientWriteMillis) <= windowMillis) {
+            return true;
+        }
+        if (scope.userKey == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(scope.userKey);
+        return writtenAt != null && System.nanoTime() - writtenAt <= windowNanos;
+    }
+
+    private static final class RequestScope {
+        private final String userKey;
+        private final Long clientWriteMillis;
+        private boolean pinned;
+
+        private RequestScope(String userKey, Long clientWriteMillis) {
+            this.userKey = userKey;
+            this.clientWriteMillis = clientWriteMillis;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource handed out for read-only transactions
+ * Spreads connections round-robin over the healthy replicas and falls back to the primary when
+ * the caller is inside its read-your-writes window, when every replica lags more than maxLag,
+ * or when a replica refuses a connection. Health is updated by checkLag().
+ */
+@Slf4j
+public class ReplicaDataSourcePool extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesTracker tracker;
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param lagQuery query returning the replica lag in milliseconds; blank assumes no lag
+     */
+    public ReplicaDataSourcePool(DataSource primary, Map<String, DataSource> replicas,
+                                 ReadYourWritesTracker tracker, Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.tracker = tracker;
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (tracker.requiresPrimary()) {
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markHealthy(replica, false, "connection failed: " + e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Replica pools only hold connections for the configured replica user, so explicit credentials go to the primary
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Measure every replica's lag and take the ones behind by more than maxLag out of rotation
+     */
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                long lagMillis = measureLag(connection);
+                markHealthy(replica, lagMillis <= maxLagMillis, "lag " + lagMillis + " ms");
+            } catch (SQLException e) {
+                markHealthy(replica, false, "lag check failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public boolean isHealthy(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.healthy);
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return connection.isValid(1) ? 0 : Long.MAX_VALUE;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private void markHealthy(Replica replica, boolean healthy, String reason) {
+        if (replica.healthy != healthy) {
+            if (healthy) {
+                log.info("Replica {} back in rotation ({})", replica.name, reason);
+            } else {
+                log.warn("Replica {} taken out of rotation ({}), reads fall back to the primary", replica.name, reason);
+            }
+        }
+        replica.healthy = healthy;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with a read/write router once replicas are configured
+ * (app.datasource.replica.urls, comma separated). Without replicas nothing here is registered
+ * and every transaction keeps using the single spring.datasource pool.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Lag of a PostgreSQL standby in milliseconds; 0 when it has replayed everything it received
+     */
+    static final String POSTGRES_LAG_QUERY =
+        "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.read-your-writes-window:PT5S}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 ReadYourWritesTracker tracker,
+                                 @Value("${app.datasource.replica.urls}") String urls,
+                                 @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                 @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                 @Value("${app.datasource.replica.pool-size:10}") int poolSize,
+                                 @Value("${app.datasource.replica.max-lag:PT2S}") Duration maxLag,
+                                 @Value("${app.datasource.replica.lag-query:#{null}}") String lagQuery) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        ReplicaDataSourcePool replicaPool = new ReplicaDataSourcePool(primary, replicas, tracker, maxLag,
+            lagQuery != null ? lagQuery : POSTGRES_LAG_QUERY);
+        log.info("Routing read-only transactions to {} replica(s), max lag {}", replicas.size(), maxLag);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replicaPool, tracker);
+        return routingDataSource;
+    }
+
+    /**
+     * Signs the write times handed to clients; every node must share the secret
+     */
+    @Bean
+    public ReadYourWritesToken readYourWritesToken(
+            @Value("${app.datasource.read-your-writes-secret:${app.jwt.secret:}}") String secret) {
+        ReadYourWritesToken tokens = new ReadYourWritesToken(secret);
+        if (!tokens.isEnabled()) {
+            log.warn("No read-your-writes secret: reads after a write are only pinned on the node that took it");
+        }
+        return tokens;
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesConfigurer(ReadYourWritesTracker tracker, ReadYourWritesToken tokens) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ReadYourWritesInterceptor(tracker, tokens));
+            }
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT5S}")
+    public void checkReplicaLag() {
+        if (routingDataSource != null) {
+            routingDataSource.getReplicaPool().checkLag();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.wesports.backend.infrastructure.referencedata;
+
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import com.wesports.backend.application.port.outbound.ReferenceDataRegistry;
+import com.wesports.backend.domain.model.Language;
+import com.wesports.backend.domain.model.Post;
+import com.wesports.backend.domain.model.Sport;
+import com.wesports.backend.domain.repository.LanguageRepository;
+import com.wesports.backend.domain.repository.PostRepository;
+import com.wesports.backend.domain.repository.SportRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ReferenceDataRegistry backed by an immutable snapshot swapped atomically on reload
+ * The snapshot is loaded once the application is ready and refreshed on a fixed delay or after writes.
+ * Reloads run off the request path: readers always get the current snapshot, even a stale one
+ * while a reload is slow or failing (stale-while-revalidate). Only the very first access before
+ * the startup load has finished is allowed to block on the database.
+ * Writes also tell the other nodes to reload through the CacheInvalidationBus; while it is disconnected
+ * the snapshot is revalidated once older than app.reference-data.degraded-max-age instead.
+ * Reloads read from the primary: a replica may not have replayed the write an invalidation is about yet.
+ */
+@Slf4j
+@Component
+public class SnapshotReferenceDataRegistry implements ReferenceDataRegistry {
+
+    private static final String CACHE_NAME = "reference-data";
+
+    private final LanguageRepository languageRepository;
+    private final SportRepository sportRepository;
+    private final PostRepository postRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate primaryTransaction;
+    private final long maxAgeNanos;
+    private final long degradedMaxAgeNanos;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reference-data-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SnapshotReferenceDataRegistry(LanguageRepository languageRepository,
+                                         SportRepository sportRepository,
+                                         PostRepository postRepository,
+                                         CacheInvalidationBus invalidationBus,
+                                         TransactionTemplate transactionTemplate,
+                                         @Value("${app.reference-data.max-age:PT15M}") Duration maxAge,
+                                         @Value("${app.reference-data.degraded-max-age:PT30S}") Duration degradedMaxAge) {
+        this.languageRepository = languageRepository;
+        this.sportRepository = sportRepository;
+        this.postRepository = postRepository;
+        this.invalidationBus = invalidationBus;
+        // Read-write, so that the routing DataSource never sends the reload to a replica
+        this.primaryTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.maxAgeNanos = maxAge.toNanos();
+        this.degradedMaxAgeNanos = Math.min(degradedMaxAge.toNanos(), maxAgeNanos);
+        // The snapshot is small: any change reloads all of it
+        invalidationBus.subscribe(CACHE_NAME, new CacheInvalidationBus.Listener() {
+            @Override
+            public void invalidate(String key) {
+                reloadInBackground();
+            }
+
+            @Override
+            public void invalidateAll() {
+                reloadInBackground();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Language> findLanguageByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(current().languagesByCode().get(normalize(code)));
+    }
+
+    @Override
+    public List<Language> findActiveLanguages() {
+        return current().activeLanguages();
+    }
+
+    @Override
+    public Optional<Sport> findSportByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(current().sportsByCode().get(normalize(code)));
+    }
+
+    @Override
+    public List<Sport> findActiveSports() {
+        return current().activeSports();
+    }
+
+    @Override
+    public Optional<Post> findPostByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(current().postsByCode().get(normalize(code)));
+    }
+
+    @Override
+    public List<Post> findAllPosts() {
+        return current().posts();
+    }
+
+    @Override
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadInBackground();
+                }
+            });
+        } else {
+            reloadInBackground();
+        }
+        invalidationBus.publishAfterCommit(CACHE_NAME, "all");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // Lookups will retry the load on first access
+            log.error("Failed to load reference data at startup: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reference-data.refresh-interval:PT5M}",
+               initialDelayString = "${app.reference-data.refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        reloadInBackground();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloadExecutor.shutdownNow();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return loadBlocking();
+        }
+        long maxAge = invalidationBus.isConnected() ? maxAgeNanos : degradedMaxAgeNanos;
+        if (System.nanoTime() - current.loadedAt() > maxAge) {
+            // Scheduled refreshes stopped keeping up: serve the stale copy and revalidate asynchronously
+            reloadInBackground();
+        }
+        return current;
+    }
+
+    private Snapshot loadBlocking() {
+        // A lock rather than synchronized: the load blocks on JDBC and would pin a virtual thread's carrier
+        loadLock.lock();
+        try {
+            Snapshot current = snapshot.get();
+            return current != null ? current : reload();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void reloadInBackground() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reloadExecutor.execute(() -> {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    log.warn("Reference data reload failed, keeping the previous snapshot: {}", e.getMessage());
+                } finally {
+                    reloading.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            reloading.set(false);
+            log.warn("Could not schedule reference data reload: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot reload() {
+        long startedAt = System.nanoTime();
+        Snapshot loaded = primaryTransaction.execute(status -> load());
+        snapshot.set(loaded);
+        log.info("Loaded reference data snapshot: {} languages, {} sports, {} posts in {} ms",
+            loaded.languagesByCode().size(), loaded.sportsByCode().size(), loaded.posts().size(),
+            (System.nanoTime() - startedAt) / 1_000_000);
+        return loaded;
+    }
+
+    private Snapshot load() {
+        List<Language> languages = languageRepository.findAll();
+        List<Sport> sports = sportRepository.findAll();
+        List<Post> posts = postRepository.findAll();
+
+        Map<String, Language> languagesByCode = new LinkedHashMap<>();
+        languages.forEach(language -> languagesByCode.put(normalize(language.getCode()), language));
+        Map<String, Sport> sportsByCode = new LinkedHashMap<>();
+        sports.forEach(sport -> sportsByCode.put(normalize(sport.getCode()), sport));
+        Map<String, Post> postsByCode = new LinkedHashMap<>();
+        posts.forEach(post -> postsByCode.put(normalize(post.getCode()), post));
+
+        return new Snapshot(
+            Map.copyOf(languagesByCode),
+            languages.stream().filter(Language::isActive).toList(),
+            Map.copyOf(sportsByCode),
+            sports.stream().filter(Sport::isActive).toList(),
+            Map.copyOf(postsByCode),
+            List.copyOf(posts),
+            System.nanoTime()
+        );
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(
+        Map<String, Language> languagesByCode,
+        List<Language> activeLanguages,
+        Map<String, Sport> sportsByCode,
+        List<Sport> activeSports,
+        Map<String, Post> postsByCode,
+        List<Post> posts,
+        long loadedAt
+    ) {
+    }
+}
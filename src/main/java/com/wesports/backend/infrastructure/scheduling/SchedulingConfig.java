@@ -0,0 +1,12 @@
+package com.wesports.backend.infrastructure.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled jobs (OTP cleanup, reference data refresh)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
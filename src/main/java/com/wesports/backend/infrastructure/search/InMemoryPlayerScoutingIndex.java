@@ -0,0 +1,574 @@
+package com.wesports.backend.infrastructure.search;
+
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import com.wesports.backend.application.port.outbound.PlayerScoutingIndex;
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process columnar index over active players for interactive scouting filters
+ * Every player gets a slot; positions, categories and preferred foot are one BitSet per value,
+ * height and weight are primitive arrays kept sorted, and a query is a handful of BitSet ANDs.
+ * Kept current by PlayerRepositoryAdapter (after commit) and rebuilt by ScoutingIndexBootstrap at startup.
+ * Changes are also published on the CacheInvalidationBus: other nodes re-read those players from the primary
+ * (a replica may not have replayed the write yet), and rebuild from the primary when events may have been missed.
+ */
+@Component
+@Slf4j
+public class InMemoryPlayerScoutingIndex implements PlayerScoutingIndex {
+
+    private static final String SCAN_SQL =
+        "SELECT id, position, category, preferred_foot, height, weight FROM players WHERE active = TRUE";
+    private static final String REFRESH_SQL = SCAN_SQL + " AND id = ?";
+    private static final int SCAN_FETCH_SIZE = 1000;
+    static final String CACHE_NAME = "scouting-index";
+
+    private final JdbcTemplate scanTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryTransaction;
+    private final CacheInvalidationBus invalidationBus;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // One rebuild at a time: they share writesDuringRebuild
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scouting-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Columns columns = new Columns();
+    private List<Consumer<Columns>> writesDuringRebuild;
+    private volatile boolean ready;
+
+    public InMemoryPlayerScoutingIndex(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                       CacheInvalidationBus invalidationBus) {
+        this.scanTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.scanTemplate.setFetchSize(SCAN_FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.primaryTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CACHE_NAME, new CacheInvalidationBus.Listener() {
+            @Override
+            public void invalidate(String key) {
+                refresh(UUID.fromString(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                rebuildInBackground();
+            }
+        });
+    }
+
+    @Override
+    public Matches query(PlayerSearchCriteria criteria, int limit) {
+        lock.readLock().lock();
+        try {
+            return columns.query(criteria, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Reflect a saved player once the surrounding transaction commits (immediately if there is none)
+     */
+    public void indexAfterCommit(Player player) {
+        UUID id = player.getId().getValue();
+        if (!player.isActive()) {
+            removeAfterCommit(id);
+            return;
+        }
+        Position position = player.getPosition();
+        Category category = player.getCategory();
+        PreferredFoot preferredFoot = player.getPreferredFoot();
+        Float height = player.getHeight();
+        Float weight = player.getWeight();
+        afterCommit(target -> target.upsert(id, position, category, preferredFoot, height, weight));
+        invalidationBus.publishAfterCommit(CACHE_NAME, id.toString());
+    }
+
+    public void removeAfterCommit(UUID playerId) {
+        afterCommit(target -> target.remove(playerId));
+        invalidationBus.publishAfterCommit(CACHE_NAME, playerId.toString());
+    }
+
+    /**
+     * Reload the whole index with a forward-only scan of the players table
+     * The new columns are built off-lock; writes that arrive meanwhile are replayed before the swap
+     */
+    public void rebuild() {
+        rebuild(readOnlyTransaction);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Re-read one player changed by another node, from the primary, and apply what it holds now
+     */
+    void refresh(UUID playerId) {
+        List<Row> rows = primaryTransaction.execute(status ->
+            scanTemplate.query(REFRESH_SQL, (rs, rowNum) -> Row.read(rs), playerId));
+        if (rows == null || rows.isEmpty()) {
+            apply(target -> target.remove(playerId));
+        } else {
+            Row row = rows.get(0);
+            apply(row::upsertInto);
+        }
+    }
+
+    private void rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild(primaryTransaction);
+                } catch (RuntimeException e) {
+                    log.warn("Scouting index rebuild failed, keeping the previous one: {}", e.getMessage());
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+            log.warn("Could not schedule scouting index rebuild: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild(TransactionTemplate transaction) {
+        rebuildLock.lock();
+        try {
+            swapIn(scan(transaction));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Columns scan(TransactionTemplate transaction) {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Columns rebuilt = new Columns();
+        try {
+            // Rows come in no particular order: append them all, then sort each range column once
+            transaction.executeWithoutResult(status -> scanTemplate.query(SCAN_SQL,
+                (RowCallbackHandler) rs -> Row.read(rs).appendTo(rebuilt)));
+            rebuilt.sortColumns();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        log.info("Scouting index rebuilt with {} players in {} ms",
+            rebuilt.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return rebuilt;
+    }
+
+    private void swapIn(Columns rebuilt) {
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild.forEach(write -> write.accept(rebuilt));
+            writesDuringRebuild = null;
+            columns = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Consumer<Columns> write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(write);
+                }
+            });
+        } else {
+            apply(write);
+        }
+    }
+
+    private void apply(Consumer<Columns> write) {
+        lock.writeLock().lock();
+        try {
+            write.accept(columns);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.add(write);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Row(UUID id, Position position, Category category, PreferredFoot preferredFoot,
+                       Float height, Float weight) {
+
+        static Row read(ResultSet rs) throws SQLException {
+            String position = rs.getString("position");
+            String category = rs.getString("category");
+            String preferredFoot = rs.getString("preferred_foot");
+            return new Row(
+                rs.getObject("id", UUID.class),
+                position != null ? Position.valueOf(position) : null,
+                category != null ? Category.valueOf(category) : null,
+                preferredFoot != null ? PreferredFoot.valueOf(preferredFoot) : null,
+                rs.getObject("height") != null ? rs.getFloat("height") : null,
+                rs.getObject("weight") != null ? rs.getFloat("weight") : null
+            );
+        }
+
+        void upsertInto(Columns target) {
+            target.upsert(id, position, category, preferredFoot, height, weight);
+        }
+
+        void appendTo(Columns target) {
+            target.append(id, position, category, preferredFoot, height, weight);
+        }
+    }
+
+    /**
+     * The index data itself; not thread-safe, guarded by the outer lock
+     */
+    static final class Columns {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<UUID, Integer> slotById = new HashMap<>();
+        private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final BitSet[] byPosition = newBitSets(Position.values().length);
+        private final BitSet[] byCategory = newBitSets(Category.values().length);
+        private final BitSet[] byPreferredFoot = newBitSets(PreferredFoot.values().length);
+        private final SortedColumn heights = new SortedColumn();
+        private final SortedColumn weights = new SortedColumn();
+        private UUID[] idBySlot = new UUID[INITIAL_CAPACITY];
+        private int nextSlot;
+
+        void upsert(UUID id, Position position, Category category, PreferredFoot preferredFoot,
+                    Float height, Float weight) {
+            Integer existing = slotById.get(id);
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                clear(slot);
+            } else {
+                slot = allocate(id);
+            }
+
+            setFlags(slot, position, category, preferredFoot);
+            if (height != null) {
+                heights.insert(height, slot);
+            }
+            if (weight != null) {
+                weights.insert(weight, slot);
+            }
+        }
+
+        /**
+         * Add a player not yet in the columns during a bulk load, leaving heights and weights unsorted
+         * Nothing may be queried, upserted or removed until sortColumns() has run
+         */
+        void append(UUID id, Position position, Category category, PreferredFoot preferredFoot,
+                    Float height, Float weight) {
+            if (slotById.containsKey(id)) {
+                throw new IllegalStateException("Player appended twice: " + id);
+            }
+            int slot = allocate(id);
+            setFlags(slot, position, category, preferredFoot);
+            if (height != null) {
+                heights.append(height, slot);
+            }
+            if (weight != null) {
+                weights.append(weight, slot);
+            }
+        }
+
+        /**
+         * Ends a bulk load: one sort per range column instead of a shifting insert per row
+         */
+        void sortColumns() {
+            heights.sort();
+            weights.sort();
+        }
+
+        void remove(UUID id) {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            clear(slot);
+            idBySlot[slot] = null;
+            freeSlots.push(slot);
+        }
+
+        Matches query(PlayerSearchCriteria criteria, int limit) {
+            BitSet result = (BitSet) live.clone();
+            if (!criteria.positions().isEmpty()) {
+                result.and(union(byPosition, criteria.positions()));
+            }
+            if (!criteria.categories().isEmpty()) {
+                result.and(union(byCategory, criteria.categories()));
+            }
+            if (criteria.preferredFoot() != null) {
+                result.and(byPreferredFoot[criteria.preferredFoot().ordinal()]);
+            }
+            if (criteria.minHeight() != null || criteria.maxHeight() != null) {
+                result.and(heights.range(criteria.minHeight(), criteria.maxHeight()));
+            }
+            if (criteria.minWeight() != null || criteria.maxWeight() != null) {
+                result.and(weights.range(criteria.minWeight(), criteria.maxWeight()));
+            }
+
+            int count = result.cardinality();
+            List<UUID> ids = new ArrayList<>(Math.min(limit, count));
+            for (int slot = result.nextSetBit(0); slot >= 0 && ids.size() < limit; slot = result.nextSetBit(slot + 1)) {
+                ids.add(idBySlot[slot]);
+            }
+            return new Matches(count, ids);
+        }
+
+        int size() {
+            return slotById.size();
+        }
+
+        private void setFlags(int slot, Position position, Category category, PreferredFoot preferredFoot) {
+            live.set(slot);
+            if (position != null) {
+                byPosition[position.ordinal()].set(slot);
+            }
+            if (category != null) {
+                byCategory[category.ordinal()].set(slot);
+            }
+            if (preferredFoot != null) {
+                byPreferredFoot[preferredFoot.ordinal()].set(slot);
+            }
+        }
+
+        private int allocate(UUID id) {
+            int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+            if (slot >= idBySlot.length) {
+                idBySlot = Arrays.copyOf(idBySlot, idBySlot.length * 2);
+            }
+            idBySlot[slot] = id;
+            slotById.put(id, slot);
+            return slot;
+        }
+
+        private void clear(int slot) {
+            live.clear(slot);
+            for (BitSet bits : byPosition) {
+                bits.clear(slot);
+            }
+            for (BitSet bits : byCategory) {
+                bits.clear(slot);
+            }
+            for (BitSet bits : byPreferredFoot) {
+                bits.clear(slot);
+            }
+            heights.remove(slot);
+            weights.remove(slot);
+        }
+
+        private static BitSet union(BitSet[] column, Set<? extends Enum<?>> values) {
+            BitSet union = new BitSet();
+            for (Enum<?> value : values) {
+                union.or(column[value.ordinal()]);
+            }
+            return union;
+        }
+
+        private static BitSet[] newBitSets(int count) {
+            BitSet[] bitSets = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                bitSets[i] = new BitSet();
+            }
+            return bitSets;
+        }
+    }
+
+    /**
+     * A float column sorted by value, with the owning slot alongside each value
+     * Range filters are two binary searches plus a walk over the matching stretch
+     */
+    static final class SortedColumn {
+        private float[] values = new float[Columns.INITIAL_CAPACITY];
+        private int[] slots = new int[Columns.INITIAL_CAPACITY];
+        private float[] valueBySlot = newAbsentValues(Columns.INITIAL_CAPACITY);
+        private int size;
+
+        void insert(float value, int slot) {
+            if (Float.isNaN(value)) {
+                return;
+            }
+            ensureCapacity(slot);
+
+            int at = upperBound(value);
+            System.arraycopy(values, at, values, at + 1, size - at);
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            values[at] = value;
+            slots[at] = slot;
+            valueBySlot[slot] = value;
+            size++;
+        }
+
+        /**
+         * Add a value at the end, out of order; sort() must run before any other call
+         */
+        void append(float value, int slot) {
+            if (Float.isNaN(value)) {
+                return;
+            }
+            ensureCapacity(slot);
+            values[size] = value;
+            slots[size] = slot;
+            valueBySlot[slot] = value;
+            size++;
+        }
+
+        /**
+         * Sort the column by value, then slot, in one pass of Arrays.sort over (value, slot) packed into longs
+         */
+        void sort() {
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) orderedBits(values[i]) << 32) | (slots[i] & 0xFFFFFFFFL);
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < size; i++) {
+                slots[i] = (int) keys[i];
+                values[i] = valueBySlot[slots[i]];
+            }
+        }
+
+        void remove(int slot) {
+            if (slot >= valueBySlot.length || Float.isNaN(valueBySlot[slot])) {
+                return;
+            }
+            // Equal values are contiguous, so the slot is within the run starting at lowerBound
+            int i = lowerBound(valueBySlot[slot]);
+            while (i < size && slots[i] != slot) {
+                i++;
+            }
+            if (i < size) {
+                System.arraycopy(values, i + 1, values, i, size - i - 1);
+                System.arraycopy(slots, i + 1, slots, i, size - i - 1);
+                size--;
+            }
+            valueBySlot[slot] = Float.NaN;
+        }
+
+        BitSet range(Float min, Float max) {
+            int from = min != null ? lowerBound(min) : 0;
+            int to = max != null ? upperBound(max) : size;
+            BitSet matches = new BitSet();
+            for (int i = from; i < to; i++) {
+                matches.set(slots[i]);
+            }
+            return matches;
+        }
+
+        private void ensureCapacity(int slot) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            if (slot >= valueBySlot.length) {
+                int previousLength = valueBySlot.length;
+                valueBySlot = Arrays.copyOf(valueBySlot, Math.max(previousLength * 2, slot + 1));
+                Arrays.fill(valueBySlot, previousLength, valueBySlot.length, Float.NaN);
+            }
+        }
+
+        /** The float's bits flipped so that signed int order is numeric order (-0.0 counts as 0.0) */
+        private static int orderedBits(float value) {
+            int bits = Float.floatToIntBits(value + 0.0f);
+            return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+        }
+
+        /** First index whose value is >= the given value */
+        private int lowerBound(float value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /** First index whose value is > the given value */
+        private int upperBound(float value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static float[] newAbsentValues(int length) {
+            float[] absent = new float[length];
+            Arrays.fill(absent, Float.NaN);
+            return absent;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,8 +21,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,6 +43,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final AccessTokenService accessTokenService;
     private final UserRepository userRepository;
 
+    // Accounts granted ROLE_ADMIN (bulk import and export endpoints), by verified email
+    @Value("${app.security.admin-emails:}")
+    private List<String> adminEmails = List.of();
+
     /**
      * List of endpoints that should skip JWT authentication
      */
@@ -249,9 +255,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private UsernamePasswordAuthenticationToken createAuthenticationToken(User user, HttpServletRequest request) {
         // Create authorities based on user role (if implemented)
-        List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-            new SimpleGrantedAuthority("ROLE_USER")
-        );
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        if (isAdmin(user)) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + SecurityConfig.ADMIN_ROLE));
+        }
 
         // Create custom user principal with user details
         JwtUserPrincipal userPrincipal = new JwtUserPrincipal(
@@ -271,6 +279,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return authToken;
     }
 
+    private boolean isAdmin(User user) {
+        String email = user.getEmail().getValue();
+        return user.isEmailVerified() && adminEmails.stream()
+            .anyMatch(adminEmail -> adminEmail.trim().toLowerCase(Locale.ROOT).equals(email));
+    }
+
     /**
      * Check if the request path should skip JWT authentication
      */
@@ -137,6 +137,13 @@ public class RefreshTokenService implements com.wesports.backend.application.por
         throw new UnsupportedOperationException("Use AccessTokenService.generateAccessToken instead");
     }
     
+    /**
+     * Tokens currently held in memory, expired ones included until they are looked up again
+     */
+    public int storedTokenCount() {
+        return refreshTokenStore.size();
+    }
+    
     /**
      * Token information record
      */
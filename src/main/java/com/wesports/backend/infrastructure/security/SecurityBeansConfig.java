@@ -1,5 +1,8 @@
 package com.wesports.backend.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -13,10 +16,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class SecurityBeansConfig {
 
     /**
-     * Password encoder bean for secure password hashing
+     * Password encoder bean for secure password hashing, timed as auth.password.hash and traced
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<Tracer> tracer) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry, tracer);
     }
 }
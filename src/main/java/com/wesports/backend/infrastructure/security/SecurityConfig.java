@@ -1,29 +1,82 @@
 package com.wesports.backend.infrastructure.security;
 
+import com.wesports.backend.infrastructure.persistence.routing.ReadYourWritesInterceptor;
+import com.wesports.backend.infrastructure.web.idempotency.IdempotencyKeyFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // Granted to the accounts listed in app.security.admin-emails
+    static final String ADMIN_ROLE = "ADMIN";
+    // Granted to the app.metrics.scrape-username account, which can only read /actuator/prometheus
+    static final String METRICS_SCRAPER_ROLE = "METRICS_SCRAPER";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    /**
+     * The Prometheus scrape endpoint takes HTTP basic credentials instead of access tokens, since a scraper
+     * has no user account. Without app.metrics.scrape-password no account exists and every scrape gets a 401.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http,
+            @Value("${app.metrics.scrape-username:prometheus}") String username,
+            @Value("${app.metrics.scrape-password:}") String password) throws Exception {
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        List<UserDetails> scrapers = new ArrayList<>();
+        if (!password.isBlank()) {
+            scrapers.add(User.withUsername(username)
+                .password(passwordEncoder.encode(password))
+                .roles(METRICS_SCRAPER_ROLE)
+                .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(scrapers));
+        provider.setPasswordEncoder(passwordEncoder);
+
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .authenticationManager(new ProviderManager(provider))
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasRole(METRICS_SCRAPER_ROLE))
+            .httpBasic(basic -> {});
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -62,7 +115,8 @@ public class SecurityConfig {
                 // Public utility endpoints
                 .requestMatchers(
                     "/api/health",
-                    "/api/test"
+                    "/api/test",
+                    "/actuator/health"
                 ).permitAll()
                 // Swagger/OpenAPI documentation endpoints
                 .requestMatchers(
@@ -73,6 +127,9 @@ public class SecurityConfig {
                     "/swagger-resources/**",
                     "/webjars/**"
                 ).permitAll()
+                // Bulk account creation and full-table exports (personal data of every user) are for operators only
+                .requestMatchers(HttpMethod.POST, "/api/player/import").hasRole(ADMIN_ROLE)
+                .requestMatchers("/api/export/**").hasRole(ADMIN_ROLE)
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
@@ -109,8 +166,10 @@ public class SecurityConfig {
         // Allow common headers
         configuration.setAllowedHeaders(Arrays.asList(
             "Authorization", "Content-Type", "X-Requested-With", "Accept", "Origin", 
-            "Access-Control-Request-Method", "Access-Control-Request-Headers", "X-User-Id"
+            "Access-Control-Request-Method", "Access-Control-Request-Headers", "X-User-Id",
+            IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, ReadYourWritesInterceptor.HEADER
         ));
+        configuration.setExposedHeaders(Arrays.asList(IdempotencyKeyFilter.REPLAYED_HEADER, ReadYourWritesInterceptor.HEADER));
         
         // Allow credentials (cookies, authorization headers, etc.)
         configuration.setAllowCredentials(true);
@@ -0,0 +1,74 @@
+package com.wesports.backend.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records how long password hashing takes (BCrypt is deliberately slow and CPU bound)
+ * Meter: auth.password.hash, tagged operation (encode, matches) and, for matches, result (match, mismatch);
+ * each call is also a password.hash span, so slow logins show how much of the time was hashing
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<Tracer> tracer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, ObjectProvider<MeterRegistry> meterRegistry,
+                                ObjectProvider<Tracer> tracer) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long startedAt = System.nanoTime();
+        String encoded = traced("encode", () -> delegate.encode(rawPassword));
+        record("encode", "none", System.nanoTime() - startedAt);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long startedAt = System.nanoTime();
+        boolean matches = traced("matches", () -> delegate.matches(rawPassword, encodedPassword));
+        record("matches", matches ? "match" : "mismatch", System.nanoTime() - startedAt);
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T traced(String operation, Supplier<T> work) {
+        Tracer activeTracer = tracer.getIfAvailable();
+        if (activeTracer == null) {
+            return work.get();
+        }
+        Span span = activeTracer.nextSpan().name("password.hash").tag("operation", operation).start();
+        try (Tracer.SpanInScope scope = activeTracer.withSpan(span)) {
+            return work.get();
+        } finally {
+            span.end();
+        }
+    }
+
+    private void record(String operation, String result, long elapsedNanos) {
+        meterRegistry.ifAvailable(registry -> Timer.builder("auth.password.hash")
+            .description("Password hashing time")
+            .tag("operation", operation)
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,38 @@
+package com.wesports.backend.infrastructure.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Helpers for ETag based conditional GETs
+ * Per-user resources are marked private and vary on the credentials, so shared caches never mix users
+ * Every response also varies on Accept, since the same resource is served as JSON or CBOR
+ */
+final class ConditionalResponses {
+
+    private static final String PER_USER_VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.AUTHORIZATION + ", " + HttpHeaders.COOKIE;
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Answer 304 if If-None-Match matches the tag; the caller must then return without a body
+     */
+    static boolean notModifiedForUser(ServletWebRequest webRequest, String tag) {
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.VARY, PER_USER_VARY);
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        return webRequest.checkNotModified(tag);
+    }
+
+    static boolean notModified(ServletWebRequest webRequest, String tag) {
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return webRequest.checkNotModified(tag);
+    }
+}
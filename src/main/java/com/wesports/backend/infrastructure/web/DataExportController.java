@@ -0,0 +1,97 @@
+package com.wesports.backend.infrastructure.web;
+
+import com.wesports.backend.application.dto.ExportFormat;
+import com.wesports.backend.application.port.inbound.DataExportService;
+import com.wesports.backend.application.service.AuthenticationContextService;
+import com.wesports.backend.domain.valueobject.UserId;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST controller for analytics exports
+ * Writes directly to the servlet output stream so rows leave the JVM as soon as they are read
+ * Part of the infrastructure layer in hexagonal architecture
+ */
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequiredArgsConstructor
+public class DataExportController {
+
+    private static final Logger logger = Logger.getLogger(DataExportController.class.getName());
+
+    private final DataExportService dataExportService;
+    private final AuthenticationContextService authenticationContextService;
+
+    /**
+     * Export all players
+     * GET /api/export/players?format=csv|ndjson&gzip=true
+     */
+    @GetMapping("/players")
+    public void exportPlayers(@RequestParam(required = false) String format,
+                              @RequestParam(defaultValue = "false") boolean gzip,
+                              HttpServletRequest httpRequest,
+                              HttpServletResponse httpResponse) throws IOException {
+        export("players", format, gzip, httpRequest, httpResponse);
+    }
+
+    /**
+     * Export all users (password hashes and phone numbers are never included)
+     * GET /api/export/users?format=csv|ndjson&gzip=true
+     */
+    @GetMapping("/users")
+    public void exportUsers(@RequestParam(required = false) String format,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletRequest httpRequest,
+                            HttpServletResponse httpResponse) throws IOException {
+        export("users", format, gzip, httpRequest, httpResponse);
+    }
+
+    private void export(String dataset, String format, boolean gzip,
+                        HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        UserId userId;
+        ExportFormat exportFormat;
+        try {
+            userId = authenticationContextService.getAuthenticatedUserId(httpRequest);
+        } catch (RuntimeException e) {
+            logger.warning("Authentication failed: " + e.getMessage());
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Authentication required");
+            return;
+        }
+        try {
+            exportFormat = ExportFormat.fromString(format);
+        } catch (IllegalArgumentException e) {
+            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        logger.info("=== EXPORT " + dataset + " (" + exportFormat + (gzip ? ", gzip" : "") + ") by user: "
+            + userId.getValue() + " ===");
+
+        String fileName = dataset + "." + exportFormat.getFileExtension() + (gzip ? ".gz" : "");
+        httpResponse.setContentType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8");
+        httpResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        OutputStream output = gzip ? new GZIPOutputStream(httpResponse.getOutputStream(), 64 * 1024)
+                                   : httpResponse.getOutputStream();
+        try {
+            long rows = "players".equals(dataset)
+                ? dataExportService.exportPlayers(output, exportFormat)
+                : dataExportService.exportUsers(output, exportFormat);
+            logger.info("Export of " + dataset + " finished: " + rows + " rows");
+        } finally {
+            if (output instanceof GZIPOutputStream gzipOutput) {
+                gzipOutput.finish();
+            }
+            output.flush();
+        }
+    }
+}
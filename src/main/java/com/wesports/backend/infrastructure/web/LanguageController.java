@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -30,11 +31,15 @@ public class LanguageController {
     /**
      * Get all active languages
      * GET /api/languages
+     * Tagged with a content hash so polling clients get a 304 instead of the full list
      */
     @GetMapping
-    public ResponseEntity<List<LanguageResponse>> getActiveLanguages() {
+    public ResponseEntity<List<LanguageResponse>> getActiveLanguages(ServletWebRequest webRequest) {
         log.info("Fetching active languages");
         List<LanguageResponse> languages = languageService.getActiveLanguages();
+        if (ConditionalResponses.notModified(webRequest, languageService.getLanguagesTag(languages))) {
+            return null;
+        }
         return ResponseEntity.ok(languages);
     }
 
@@ -5,18 +5,22 @@ import com.wesports.backend.application.dto.GenderSelectionRequest;
 import com.wesports.backend.application.dto.PositionSelectionRequest;
 import com.wesports.backend.application.dto.CategorySelectionRequest;
 import com.wesports.backend.application.dto.PlayerProfileRequest;
+import com.wesports.backend.application.dto.OnboardingSubmissionRequest;
 import com.wesports.backend.application.service.OnboardingApplicationService;
 import com.wesports.backend.application.service.AuthenticationContextService;
 import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.web.cache.NegotiatedPrecomputedResponse;
+import com.wesports.backend.infrastructure.web.cache.PrecomputedResponseFactory;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
 import java.util.logging.Logger;
 
 /**
@@ -34,18 +38,30 @@ public class OnboardingController {
     private final OnboardingApplicationService onboardingApplicationService;
     private final AuthenticationContextService authenticationContextService;
     
+    // Positions and categories come from enums, so both payloads are rendered once at startup
+    private final NegotiatedPrecomputedResponse positionsResponse;
+    private final NegotiatedPrecomputedResponse categoriesResponse;
+    
     @Autowired
     public OnboardingController(OnboardingApplicationService onboardingApplicationService, 
-                              AuthenticationContextService authenticationContextService) {
+                              AuthenticationContextService authenticationContextService,
+                              PrecomputedResponseFactory precomputedResponseFactory) {
         this.onboardingApplicationService = onboardingApplicationService;
         this.authenticationContextService = authenticationContextService;
+        this.positionsResponse = precomputedResponseFactory.negotiated(onboardingApplicationService.getAvailablePositions());
+        this.categoriesResponse = precomputedResponseFactory.negotiated(onboardingApplicationService.getAvailableCategories());
     }
     
         
     @GetMapping("/status")
-    public ResponseEntity<OnboardingStepResponse> getOnboardingStatus(HttpServletRequest request) {
+    public ResponseEntity<OnboardingStepResponse> getOnboardingStatus(HttpServletRequest request,
+                                                                      ServletWebRequest webRequest) {
         try {
             UserId userId = authenticationContextService.getAuthenticatedUserId(request);
+            String versionTag = onboardingApplicationService.getOnboardingStatusVersionTag(userId).orElse(null);
+            if (versionTag != null && ConditionalResponses.notModifiedForUser(webRequest, versionTag)) {
+                return null;
+            }
             OnboardingStepResponse response = onboardingApplicationService.getOnboardingStatus(userId);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
@@ -135,25 +151,35 @@ public class OnboardingController {
         }
     }
     
-    @GetMapping("/positions")
-    public ResponseEntity<List<Map<String, String>>> getAvailablePositions() {
+    /**
+     * Gender, categories, position and profile in one round trip; the step endpoints above stay for older clients
+     */
+    @PostMapping("/submit")
+    public ResponseEntity<OnboardingStepResponse> submitOnboarding(
+            @Valid @RequestBody OnboardingSubmissionRequest request,
+            HttpServletRequest httpRequest) {
         try {
-            List<Map<String, String>> positions = onboardingApplicationService.getAvailablePositions();
-            return ResponseEntity.ok(positions);
+            UserId userId = authenticationContextService.getAuthenticatedUserId(httpRequest);
+            OnboardingStepResponse response = onboardingApplicationService.submitOnboarding(userId, request);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            log.warning("Authentication failed: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(OnboardingStepResponse.error("Authentication required"));
         } catch (Exception e) {
-            log.severe("Error getting positions: " + e.getMessage());
-            return ResponseEntity.internalServerError().body(null);
+            log.severe("Error submitting onboarding: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                .body(OnboardingStepResponse.error("Failed to submit onboarding"));
         }
     }
     
+    @GetMapping("/positions")
+    public void getAvailablePositions(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        positionsResponse.writeTo(request, response);
+    }
+    
     @GetMapping("/categories")
-    public ResponseEntity<List<Map<String, String>>> getAvailableCategories() {
-        try {
-            List<Map<String, String>> categories = onboardingApplicationService.getAvailableCategories();
-            return ResponseEntity.ok(categories);
-        } catch (Exception e) {
-            log.severe("Error getting categories: " + e.getMessage());
-            return ResponseEntity.internalServerError().body(null);
-        }
+    public void getAvailableCategories(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        categoriesResponse.writeTo(request, response);
     }
 }
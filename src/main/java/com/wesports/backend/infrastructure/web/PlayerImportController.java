@@ -0,0 +1,70 @@
+package com.wesports.backend.infrastructure.web;
+
+import com.wesports.backend.application.dto.PlayerImportFormat;
+import com.wesports.backend.application.dto.PlayerImportReport;
+import com.wesports.backend.application.port.inbound.PlayerImportService;
+import com.wesports.backend.application.service.AuthenticationContextService;
+import com.wesports.backend.domain.valueobject.UserId;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * REST controller for bulk roster imports
+ * Streams the raw request body to the import service instead of binding it to a DTO
+ * Part of the infrastructure layer in hexagonal architecture
+ */
+@RestController
+@RequestMapping("/api/player")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequiredArgsConstructor
+public class PlayerImportController {
+
+    private static final Logger logger = Logger.getLogger(PlayerImportController.class.getName());
+
+    private final PlayerImportService playerImportService;
+    private final AuthenticationContextService authenticationContextService;
+
+    /**
+     * Import players from a CSV (text/csv) or NDJSON (application/x-ndjson) body
+     * POST /api/player/import
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/ndjson"})
+    public ResponseEntity<PlayerImportReport> importPlayers(HttpServletRequest httpRequest) {
+        UserId userId;
+        try {
+            userId = authenticationContextService.getAuthenticatedUserId(httpRequest);
+        } catch (RuntimeException e) {
+            logger.warning("Authentication failed: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(PlayerImportReport.error("Authentication required"));
+        }
+
+        try {
+            PlayerImportFormat format = PlayerImportFormat.fromContentType(httpRequest.getContentType());
+            logger.info("=== PLAYER IMPORT (" + format + ") by user: " + userId.getValue() + " ===");
+
+            PlayerImportReport report = playerImportService.importPlayers(httpRequest.getInputStream(), format);
+
+            logger.info("Player import " + report.status() + ": " + report.importedRows() + " imported, "
+                + report.failedRows() + " failed, " + String.format("%.1f", report.rowsPerSecond()) + " rows/s");
+            return ResponseEntity.ok(report);
+
+        } catch (IllegalArgumentException e) {
+            logger.warning("Player import rejected: " + e.getMessage());
+            return ResponseEntity.badRequest().body(PlayerImportReport.error(e.getMessage()));
+        } catch (IOException e) {
+            logger.warning("Failed to read import body: " + e.getMessage());
+            return ResponseEntity.badRequest().body(PlayerImportReport.error("Failed to read request body"));
+        } catch (Exception e) {
+            logger.severe("Error importing players: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                .body(PlayerImportReport.error("Failed to import players"));
+        }
+    }
+}
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.logging.Logger;
 
@@ -33,9 +34,11 @@ public class PlayerProfileController {
     /**
      * Get current authenticated player's complete profile
      * GET /api/player/me
+     * Answers 304 from a version-only lookup when If-None-Match still matches
      */
     @GetMapping("/me")
-    public ResponseEntity<PlayerProfileResponse> getCurrentPlayer(HttpServletRequest httpRequest) {
+    public ResponseEntity<PlayerProfileResponse> getCurrentPlayer(HttpServletRequest httpRequest,
+                                                                  ServletWebRequest webRequest) {
         try {
             logger.info("=== GET PLAYER PROFILE /me ===");
             
@@ -43,6 +46,12 @@ public class PlayerProfileController {
             UserId userId = authenticationContextService.getAuthenticatedUserId(httpRequest);
             logger.info("Authenticated user ID: " + userId.getValue());
             
+            String versionTag = playerProfileService.getProfileVersionTag(userId).orElse(null);
+            if (versionTag != null && ConditionalResponses.notModifiedForUser(webRequest, versionTag)) {
+                logger.info("Player profile not modified for user: " + userId.getValue());
+                return null;
+            }
+            
             PlayerProfileResponse response = playerProfileService.getCurrentPlayerProfile(userId);
             
             logger.info("Player profile retrieved successfully for user: " + userId.getValue());
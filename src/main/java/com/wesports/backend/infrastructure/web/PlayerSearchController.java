@@ -0,0 +1,146 @@
+package com.wesports.backend.infrastructure.web;
+
+import com.wesports.backend.application.dto.PlayerSearchResponse;
+import com.wesports.backend.application.dto.ScoutingResult;
+import com.wesports.backend.application.port.inbound.PlayerSearchService;
+import com.wesports.backend.application.service.AuthenticationContextService;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.logging.Logger;
+
+/**
+ * REST controller for scouting searches over players
+ * Part of the infrastructure layer in hexagonal architecture
+ */
+@RestController
+@RequestMapping("/api/player")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequiredArgsConstructor
+public class PlayerSearchController {
+
+    private static final Logger logger = Logger.getLogger(PlayerSearchController.class.getName());
+
+    private final PlayerSearchService playerSearchService;
+    private final AuthenticationContextService authenticationContextService;
+
+    /**
+     * Search players with keyset pagination
+     * GET /api/player/search?position=ST&position=CF&category=U17&preferredFoot=LEFT&minHeight=1.70&language=fr&cursor=...
+     * Heights are in meters and weights in kilograms, as stored
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PlayerSearchResponse> searchPlayers(
+            @RequestParam(name = "position", required = false) List<String> positions,
+            @RequestParam(name = "category", required = false) List<String> categories,
+            @RequestParam(required = false) String preferredFoot,
+            @RequestParam(required = false) Float minHeight,
+            @RequestParam(required = false) Float maxHeight,
+            @RequestParam(required = false) Float minWeight,
+            @RequestParam(required = false) Float maxWeight,
+            @RequestParam(required = false) String nationality,
+            @RequestParam(name = "language", required = false) List<String> languages,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest httpRequest) {
+        try {
+            authenticationContextService.getAuthenticatedUserId(httpRequest);
+        } catch (RuntimeException e) {
+            logger.warning("Authentication failed: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(PlayerSearchResponse.error("Authentication required"));
+        }
+
+        try {
+            PlayerSearchCriteria criteria = new PlayerSearchCriteria(
+                toSet(positions, Position::fromString),
+                toSet(categories, Category::fromString),
+                preferredFoot != null ? PreferredFoot.fromString(preferredFoot) : null,
+                minHeight,
+                maxHeight,
+                minWeight,
+                maxWeight,
+                nationality,
+                languages
+            );
+            return ResponseEntity.ok(playerSearchService.search(criteria, cursor, size));
+
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid player search: " + e.getMessage());
+            return ResponseEntity.badRequest().body(PlayerSearchResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.severe("Error searching players: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                .body(PlayerSearchResponse.error("Failed to search players"));
+        }
+    }
+
+    /**
+     * Count and list matching players from the in-memory scouting index
+     * GET /api/player/scouting?position=ST&category=U17&minHeight=1.70&limit=50
+     */
+    @GetMapping("/scouting")
+    public ResponseEntity<ScoutingResult> scoutPlayers(
+            @RequestParam(name = "position", required = false) List<String> positions,
+            @RequestParam(name = "category", required = false) List<String> categories,
+            @RequestParam(required = false) String preferredFoot,
+            @RequestParam(required = false) Float minHeight,
+            @RequestParam(required = false) Float maxHeight,
+            @RequestParam(required = false) Float minWeight,
+            @RequestParam(required = false) Float maxWeight,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest httpRequest) {
+        try {
+            authenticationContextService.getAuthenticatedUserId(httpRequest);
+        } catch (RuntimeException e) {
+            logger.warning("Authentication failed: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ScoutingResult.error("Authentication required"));
+        }
+
+        try {
+            PlayerSearchCriteria criteria = new PlayerSearchCriteria(
+                toSet(positions, Position::fromString),
+                toSet(categories, Category::fromString),
+                preferredFoot != null ? PreferredFoot.fromString(preferredFoot) : null,
+                minHeight,
+                maxHeight,
+                minWeight,
+                maxWeight,
+                null,
+                null
+            );
+            ScoutingResult result = playerSearchService.scout(criteria, limit);
+            if (!"success".equals(result.status())) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+            }
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid scouting query: " + e.getMessage());
+            return ResponseEntity.badRequest().body(ScoutingResult.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.severe("Error querying scouting index: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                .body(ScoutingResult.error("Failed to query scouting index"));
+        }
+    }
+
+    private static <T> Set<T> toSet(List<String> values, Function<String, T> parser) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream().map(parser).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,49 @@
+package com.wesports.backend.infrastructure.web.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+
+/**
+ * JSON and CBOR renderings of the same payload, chosen per request from the Accept header
+ * CBOR is served only when the client asks for it with a higher quality than JSON; anything else,
+ * including a missing or malformed header, gets JSON.
+ */
+public final class NegotiatedPrecomputedResponse {
+
+    private final PrecomputedResponse json;
+    private final PrecomputedResponse cbor;
+
+    NegotiatedPrecomputedResponse(PrecomputedResponse json, PrecomputedResponse cbor) {
+        this.json = json;
+        this.cbor = cbor;
+    }
+
+    public void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        (prefersCbor(request.getHeader(HttpHeaders.ACCEPT)) ? cbor : json).writeTo(request, response);
+    }
+
+    static boolean prefersCbor(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        double cborQuality = 0;
+        double jsonQuality = 0;
+        try {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                    cborQuality = mediaType.getQualityValue();
+                } else if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                    jsonQuality = mediaType.getQualityValue();
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return cborQuality > jsonQuality;
+    }
+}
@@ -0,0 +1,146 @@
+package com.wesports.backend.infrastructure.web.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response body rendered once and served as raw bytes
+ * Holds an identity and a gzip variant with their ETags, and answers conditional requests with 304,
+ * so serving it costs neither serialization nor compression
+ */
+public final class PrecomputedResponse {
+
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final String contentType;
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String identityETag;
+    private final String gzipETag;
+    private final String cacheControl;
+
+    private PrecomputedResponse(String contentType, byte[] identity, byte[] gzip,
+                                String identityETag, String gzipETag, String cacheControl) {
+        this.contentType = contentType;
+        this.identity = identity;
+        this.gzip = gzip;
+        this.identityETag = identityETag;
+        this.gzipETag = gzipETag;
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * Precompute the variants of an already rendered body
+     * The gzip variant is only kept when it is actually smaller
+     */
+    public static PrecomputedResponse of(byte[] body, String contentType, Duration maxAge) {
+        String tag = contentHash(body);
+        byte[] compressed = compress(body);
+        boolean useGzip = compressed.length < body.length;
+        return new PrecomputedResponse(
+            contentType,
+            body.clone(),
+            useGzip ? compressed : null,
+            "\"" + tag + "\"",
+            useGzip ? "\"" + tag + "-gz\"" : null,
+            "public, max-age=" + maxAge.toSeconds()
+        );
+    }
+
+    public void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean sendGzip = gzip != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = sendGzip ? gzipETag : identityETag;
+
+        response.setHeader(HttpHeaders.VARY, VARY);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ETAG, eTag);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = sendGzip ? gzip : identity;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(contentType);
+        if (sendGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    public String getIdentityETag() {
+        return identityETag;
+    }
+
+    public int getIdentityLength() {
+        return identity.length;
+    }
+
+    public int getGzipLength() {
+        return gzip != null ? gzip.length : identity.length;
+    }
+
+    private boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            // Weak comparison: either encoding of the same content is a match
+            if (tag.equals("*") || tag.equals(identityETag) || tag.equals(gzipETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 2));
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+            gzipStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String contentHash(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
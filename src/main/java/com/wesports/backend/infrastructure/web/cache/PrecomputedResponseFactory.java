@@ -0,0 +1,49 @@
+package com.wesports.backend.infrastructure.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Renders invariant payloads into PrecomputedResponse instances with the application's ObjectMapper
+ * (and the CBOR converter's mapper for the binary variant)
+ * Meant to be called once, when the serving controller is created
+ */
+@Component
+public class PrecomputedResponseFactory {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+
+    @Value("${app.static-responses.max-age:PT1H}")
+    private Duration maxAge;
+
+    public PrecomputedResponseFactory(ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+    }
+
+    public PrecomputedResponse json(Object payload) {
+        return render(objectMapper, payload, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    /**
+     * JSON and CBOR variants of the payload, served according to the request's Accept header
+     */
+    public NegotiatedPrecomputedResponse negotiated(Object payload) {
+        return new NegotiatedPrecomputedResponse(json(payload), render(cborMapper, payload, MediaType.APPLICATION_CBOR_VALUE));
+    }
+
+    private PrecomputedResponse render(ObjectMapper mapper, Object payload, String contentType) {
+        try {
+            return PrecomputedResponse.of(mapper.writeValueAsBytes(payload), contentType, maxAge);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render static response", e);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.wesports.backend.infrastructure.web.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wesports.backend.infrastructure.security.JwtAuthenticationFilter.JwtUserPrincipal;
+import com.wesports.backend.infrastructure.web.idempotency.IdempotencyStore.StoredResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Idempotency-Key support for the registration and onboarding POST endpoints
+ * A retried POST carrying the same key gets the first response replayed (marked Idempotent-Replayed)
+ * instead of running the transaction, sending the OTP mail or spending rate-limit budget again.
+ * Keys are scoped to the authenticated user, or to the body's email on the public registration
+ * steps; requests with neither are passed through. Concurrent duplicates wait for the first one.
+ * Reusing a key for a different body is rejected with 422, and 5xx responses are not kept so the
+ * client can retry them. Requests without the header are unaffected; those with it are read
+ * synchronously, as async (ReadListener) input is rejected on them.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1) // Inside the security chain's context, so the JWT user is known
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<String> PATHS = List.of("/api/auth/register/**", "/api/onboarding/**");
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Duration waitTimeout;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyKeyFilter(IdempotencyStore store,
+                                ObjectMapper objectMapper,
+                                MappingJackson2CborHttpMessageConverter cborConverter,
+                                ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${app.idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.meterRegistry = meterRegistry;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            record("invalid_key");
+            reject(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String scope = scope(cachedRequest);
+        if (scope == null) {
+            record("unscoped");
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+        String fingerprint = fingerprint(cachedRequest);
+        String scopedKey = scope + '\n' + key;
+
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(scopedKey, fingerprint);
+            if (claim.isOwner()) {
+                execute(cachedRequest, response, filterChain, claim);
+                return;
+            }
+            if (!claim.matches(fingerprint)) {
+                record("mismatch");
+                reject(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+                return;
+            }
+            StoredResponse stored = claim.await(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            if (stored != null) {
+                record("replayed");
+                replay(stored, response);
+                return;
+            }
+            if (claim.isPending()) {
+                record("in_progress");
+                reject(response, HttpStatus.CONFLICT, "IDEMPOTENT_REQUEST_IN_PROGRESS",
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+                return;
+            }
+            // The first request failed and gave the key up: claim it again
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         IdempotencyStore.Claim claim) throws ServletException, IOException {
+        ContentCachingResponseWrapper recording = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, recording);
+            if (recording.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                claim.complete(new StoredResponse(recording.getStatus(), recording.getContentType(),
+                    headersOf(recording), recording.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                claim.abandon();
+            }
+            record(completed ? "executed" : "failed");
+            recording.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * The authenticated user, else the email of a public registration step, else null
+     */
+    private String scope(CachedBodyRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal principal) {
+            return "user:" + principal.getUserId();
+        }
+        String email = emailOf(request);
+        return email != null ? "email:" + email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private String emailOf(CachedBodyRequest request) {
+        if (request.body.length == 0) {
+            return null;
+        }
+        String contentType = request.getContentType();
+        boolean cbor = contentType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(MediaType.parseMediaType(contentType));
+        try {
+            JsonNode email = (cbor ? cborMapper : objectMapper).readTree(request.body).get("email");
+            return email != null && email.isTextual() && !email.asText().isBlank() ? email.asText() : null;
+        } catch (IOException e) {
+            // Not a readable body: the controller will reject it, nothing to scope on
+            return null;
+        }
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '\n').getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(request.body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Headers to replay; CORS headers belong to the request's origin and are recomputed for every request
+     */
+    private static Map<String, List<String>> headersOf(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!name.regionMatches(true, 0, "Access-Control-", 0, 15)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            values.subList(1, values.size()).forEach(value -> response.addHeader(name, value));
+        });
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String code, String message) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("httpStatus", status.value());
+        body.put("status", "error");
+        body.put("message", message);
+        body.put("code", code);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    private void record(String outcome) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Counter.builder("http.idempotency.requests")
+                .description("POSTs carrying an Idempotency-Key, by what happened to them")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+        }
+    }
+
+    /**
+     * Request whose body has been read up front (for the scope and fingerprint) and can be read again downstream
+     * Reads are synchronous only: setReadListener throws UnsupportedOperationException, so handlers on these
+     * paths cannot use Servlet async (non-blocking) input
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException(
+                        "Non-blocking reads are not supported on requests carrying an " + IDEMPOTENCY_KEY_HEADER);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.wesports.backend.infrastructure.web.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * First responses of idempotent requests, per scoped Idempotency-Key, kept for a limited time
+ * The first request for a key claims it and runs; duplicates arriving meanwhile wait on the same
+ * entry instead of running again. Bounded: past the capacity the oldest keys are dropped first.
+ * In memory and per node, like the refresh token store.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final int capacity;
+    private final long ttlNanos;
+    // Insertion order = claim order, so the eldest entries are the first to expire
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    // A lock rather than synchronized: request threads may be virtual
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public IdempotencyStore(@Value("${app.idempotency.max-keys:10000}") int capacity,
+                            @Value("${app.idempotency.ttl:PT1H}") Duration ttl) {
+        this.capacity = capacity;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Claim the key, or join the request that already holds it
+     */
+    Claim claim(String key, String fingerprint) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry existing = entries.get(key);
+            if (existing != null && now - existing.createdAt < ttlNanos) {
+                return new Claim(key, existing, false);
+            }
+            Entry entry = new Entry(fingerprint, now);
+            entries.remove(key);
+            entries.put(key, entry);
+            evict(now);
+            return new Claim(key, entry, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Keys currently held, in flight or completed (http.idempotency.keys)
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(long now) {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (eldest.hasNext()) {
+            Entry entry = eldest.next();
+            if (entries.size() <= capacity && now - entry.createdAt < ttlNanos) {
+                return;
+            }
+            eldest.remove();
+            // Anyone still waiting on a dropped in-flight entry claims the key again
+            entry.response.complete(null);
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        lock.lock();
+        try {
+            entries.remove(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Response recorded for replay: status, content type, headers and body as the first request produced them
+     */
+    record StoredResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * Handle on a key: the owner completes or abandons it, everyone else awaits it
+     */
+    final class Claim {
+        private final String key;
+        private final Entry entry;
+        private final boolean owner;
+
+        private Claim(String key, Entry entry, boolean owner) {
+            this.key = key;
+            this.entry = entry;
+            this.owner = owner;
+        }
+
+        boolean isOwner() {
+            return owner;
+        }
+
+        /**
+         * Whether the key was first used for the same method, path and body
+         */
+        boolean matches(String fingerprint) {
+            return entry.fingerprint.equals(fingerprint);
+        }
+
+        void complete(StoredResponse response) {
+            entry.response.complete(response);
+        }
+
+        /**
+         * Forget the key (the request failed); waiting duplicates then run it themselves
+         */
+        void abandon() {
+            remove(key, entry);
+            entry.response.complete(null);
+        }
+
+        /**
+         * The first request's response; null if it was abandoned, or once the timeout has passed
+         * while it is still running (see {@link #isPending()})
+         */
+        StoredResponse await(Duration timeout) {
+            try {
+                return entry.response.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        boolean isPending() {
+            return !entry.response.isDone();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+-- H2 (PostgreSQL mode) copy of db/migration for the loadtest profile. The PostgreSQL migrations use
+-- TEXT[], GIN and partial indexes, which H2 does not understand. Keep the tables in step with them.
+
+CREATE TABLE languages (
+    id        UUID PRIMARY KEY,
+    name      VARCHAR(255) NOT NULL,
+    code      VARCHAR(255) NOT NULL CONSTRAINT uk_languages_code UNIQUE,
+    is_active BOOLEAN      NOT NULL
+);
+
+CREATE TABLE posts (
+    id    UUID PRIMARY KEY,
+    code  VARCHAR(255) NOT NULL CONSTRAINT uk_posts_code UNIQUE,
+    label VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE sports (
+    id          UUID PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    code        VARCHAR(20)  NOT NULL CONSTRAINT uk_sports_code UNIQUE,
+    description VARCHAR(500),
+    active      BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE users (
+    id                 UUID PRIMARY KEY,
+    first_name         VARCHAR(255) NOT NULL,
+    last_name          VARCHAR(255) NOT NULL,
+    email              VARCHAR(255) NOT NULL CONSTRAINT uk_users_email UNIQUE,
+    phone_country_code VARCHAR(255),
+    phone_number       VARCHAR(255),
+    gender             VARCHAR(255),
+    birthday           DATE,
+    language_id        UUID,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6),
+    password_hash      VARCHAR(255),
+    email_verified     BOOLEAN,
+    registration_step  VARCHAR(255) NOT NULL,
+    user_role          VARCHAR(255),
+    nationality        VARCHAR(255),
+    place_of_residence VARCHAR(255),
+    languages          VARCHAR(255) ARRAY,
+    version            BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX idx_users_nationality ON users (nationality);
+
+CREATE TABLE players (
+    id                UUID PRIMARY KEY,
+    profile_photo_url VARCHAR(255),
+    height            REAL,
+    weight            REAL,
+    post_id           UUID,
+    position          VARCHAR(255),
+    category          VARCHAR(255),
+    preferred_foot    VARCHAR(255),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    active            BOOLEAN      NOT NULL,
+    version           BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX idx_players_position_category_created ON players (position, category, created_at, id);
+CREATE INDEX idx_players_category_created ON players (category, created_at, id);
+CREATE INDEX idx_players_created ON players (created_at, id);
+
+CREATE TABLE playersport (
+    id          UUID PRIMARY KEY,
+    user_id     UUID         NOT NULL,
+    player_id   UUID         NOT NULL,
+    sport_id    UUID         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    active      BOOLEAN      NOT NULL,
+    -- NULL on inactive rows, which unique indexes never compare equal
+    active_link BOOLEAN GENERATED ALWAYS AS (CASE WHEN active THEN TRUE END)
+);
+
+-- Stands in for the partial ux_playersport_active_link: at most one active link per (user, player, sport)
+CREATE UNIQUE INDEX ux_playersport_active_link ON playersport (user_id, player_id, sport_id, active_link);
+CREATE INDEX idx_playersport_player ON playersport (player_id);
+CREATE INDEX idx_playersport_sport ON playersport (sport_id);
+
+CREATE TABLE user_auth_methods (
+    id               UUID PRIMARY KEY,
+    user_id          UUID         NOT NULL,
+    auth_method_type VARCHAR(255) NOT NULL,
+    auth_method_name VARCHAR(255) NOT NULL,
+    email            VARCHAR(255) NOT NULL,
+    password_hash    VARCHAR(255),
+    external_id      VARCHAR(255),
+    is_primary       BOOLEAN      NOT NULL,
+    is_active        BOOLEAN      NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    last_used_at     TIMESTAMP(6)
+);
+
+CREATE INDEX idx_user_auth_methods_user_type ON user_auth_methods (user_id, auth_method_type, is_active);
+CREATE INDEX idx_user_auth_methods_email_type ON user_auth_methods (email, auth_method_type);
+CREATE INDEX idx_user_auth_methods_external_type ON user_auth_methods (external_id, auth_method_type);
+
+CREATE TABLE otp (
+    id            UUID PRIMARY KEY,
+    user_id       UUID         NOT NULL,
+    otp_code      VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    attempts      INTEGER      NOT NULL,
+    type          VARCHAR(255) NOT NULL,
+    language_code VARCHAR(255)
+);
+
+CREATE INDEX idx_otp_user_type_created ON otp (user_id, type, created_at);
+CREATE INDEX idx_otp_created ON otp (created_at);
@@ -0,0 +1,95 @@
+-- Baseline: the schema as Hibernate generated it from the entities before migrations were introduced.
+-- Databases created that way are baselined at this version and only receive later migrations.
+
+CREATE TABLE languages (
+    id        UUID PRIMARY KEY,
+    name      VARCHAR(255) NOT NULL,
+    code      VARCHAR(255) NOT NULL CONSTRAINT uk_languages_code UNIQUE,
+    is_active BOOLEAN      NOT NULL
+);
+
+CREATE TABLE posts (
+    id    UUID PRIMARY KEY,
+    code  VARCHAR(255) NOT NULL CONSTRAINT uk_posts_code UNIQUE,
+    label VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE sports (
+    id          UUID PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    code        VARCHAR(20)  NOT NULL CONSTRAINT uk_sports_code UNIQUE,
+    description VARCHAR(500),
+    active      BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE users (
+    id                 UUID PRIMARY KEY,
+    first_name         VARCHAR(255) NOT NULL,
+    last_name          VARCHAR(255) NOT NULL,
+    email              VARCHAR(255) NOT NULL CONSTRAINT uk_users_email UNIQUE,
+    phone_country_code VARCHAR(255),
+    phone_number       VARCHAR(255),
+    gender             VARCHAR(255),
+    birthday           DATE,
+    language_id        UUID,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6),
+    password_hash      VARCHAR(255),
+    email_verified     BOOLEAN,
+    registration_step  VARCHAR(255),
+    user_role          VARCHAR(255),
+    nationality        VARCHAR(255),
+    place_of_residence VARCHAR(255),
+    languages          TEXT[]
+);
+
+CREATE TABLE players (
+    id                UUID PRIMARY KEY,
+    profile_photo_url VARCHAR(255),
+    height            REAL,
+    weight            REAL,
+    post_id           UUID,
+    position          VARCHAR(255),
+    category          VARCHAR(255),
+    preferred_foot    VARCHAR(255),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    active            BOOLEAN      NOT NULL
+);
+
+CREATE TABLE playersport (
+    id         UUID PRIMARY KEY,
+    user_id    UUID         NOT NULL,
+    player_id  UUID         NOT NULL,
+    sport_id   UUID         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    active     BOOLEAN      NOT NULL
+);
+
+CREATE TABLE user_auth_methods (
+    id               UUID PRIMARY KEY,
+    user_id          UUID         NOT NULL,
+    auth_method_type VARCHAR(255) NOT NULL,
+    auth_method_name VARCHAR(255) NOT NULL,
+    email            VARCHAR(255) NOT NULL,
+    password_hash    VARCHAR(255),
+    external_id      VARCHAR(255),
+    is_primary       BOOLEAN      NOT NULL,
+    is_active        BOOLEAN      NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    last_used_at     TIMESTAMP(6)
+);
+
+CREATE TABLE otp (
+    id            UUID PRIMARY KEY,
+    user_id       UUID         NOT NULL,
+    otp_code      VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    attempts      INTEGER      NOT NULL,
+    type          VARCHAR(255) NOT NULL,
+    language_code VARCHAR(255)
+);
@@ -0,0 +1,32 @@
+-- Indexes for the lookups done on every login, OTP check, onboarding step and profile read.
+-- Most queries only ever look at active rows, so those indexes are partial and stay small.
+
+-- OTP verification: user + type, newest first; cleanup job: created_at range
+CREATE INDEX IF NOT EXISTS idx_otp_user_type_created ON otp (user_id, type, created_at);
+CREATE INDEX IF NOT EXISTS idx_otp_created ON otp (created_at);
+
+-- Auth methods per user (all, active, by type); leading user_id also serves findAllByUserId
+CREATE INDEX IF NOT EXISTS idx_user_auth_methods_user_type_active
+    ON user_auth_methods (user_id, auth_method_type, is_active);
+
+-- Login and registration checks by email, OAuth login by provider id
+CREATE INDEX IF NOT EXISTS idx_user_auth_methods_email_type_active
+    ON user_auth_methods (email, auth_method_type) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_user_auth_methods_external_type_active
+    ON user_auth_methods (external_id, auth_method_type) WHERE is_active AND external_id IS NOT NULL;
+
+-- Active sport links by user, by player and by sport
+CREATE INDEX IF NOT EXISTS idx_playersport_user_active ON playersport (user_id) WHERE active;
+CREATE INDEX IF NOT EXISTS idx_playersport_player_active ON playersport (player_id) WHERE active;
+CREATE INDEX IF NOT EXISTS idx_playersport_sport_active ON playersport (sport_id) WHERE active;
+
+-- Position/category keyset index of the search, which only ever reads active players
+CREATE INDEX IF NOT EXISTS idx_players_active_position_category_created
+    ON players (position, category, created_at, id) WHERE active;
+
+-- Language overlap filter of the player search (u.languages && ARRAY[...])
+CREATE INDEX IF NOT EXISTS idx_users_languages_gin ON users USING gin (languages);
+
+-- Emails are unique regardless of case; fails if the table already holds case-only duplicates,
+-- which then have to be merged by hand before the migration can run
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email));
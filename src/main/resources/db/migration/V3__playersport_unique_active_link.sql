@@ -0,0 +1,19 @@
+-- At most one active link per (user, player, sport). Inserts rely on this index (ON CONFLICT DO NOTHING)
+-- instead of checking for an existing link first.
+
+-- Keep the oldest of any active duplicates created before the constraint existed
+UPDATE playersport ps
+SET active = FALSE, updated_at = now()
+WHERE ps.active
+  AND EXISTS (SELECT 1 FROM playersport older
+              WHERE older.active
+                AND older.user_id = ps.user_id
+                AND older.player_id = ps.player_id
+                AND older.sport_id = ps.sport_id
+                AND (older.created_at, older.id) < (ps.created_at, ps.id));
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_playersport_active_link
+    ON playersport (user_id, player_id, sport_id) WHERE active;
+
+-- Superseded: the unique index leads with user_id and covers the same active rows
+DROP INDEX IF EXISTS idx_playersport_user_active;
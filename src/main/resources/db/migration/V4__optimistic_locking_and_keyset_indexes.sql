@@ -0,0 +1,14 @@
+-- Row versions for optimistic locking (@Version on UserEntity and PlayerEntity); existing rows start at 0
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE players ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+-- Nationality filter of the player search
+CREATE INDEX IF NOT EXISTS idx_users_nationality ON users (nationality);
+
+-- Keyset indexes for the scouting search: filter columns first, then the (created_at, id) ordering.
+-- Partial like idx_players_active_position_category_created from V2, since the search always filters on active.
+CREATE INDEX IF NOT EXISTS idx_players_active_category_created
+    ON players (category, created_at, id) WHERE active;
+CREATE INDEX IF NOT EXISTS idx_players_active_preferred_foot_created
+    ON players (preferred_foot, created_at, id) WHERE active;
+CREATE INDEX IF NOT EXISTS idx_players_active_created ON players (created_at, id) WHERE active;
@@ -0,0 +1,19 @@
+-- users.registration_step becomes the source of the onboarding status: it holds the next step the user
+-- still has to complete, kept current by every registration and onboarding write (User.advanceOnboarding).
+-- Until now it was never advanced, so derive it for existing rows the way the status used to be computed.
+-- Accounts without any auth method never finished setting a password.
+UPDATE users u
+SET registration_step = CASE
+        WHEN NOT EXISTS (SELECT 1 FROM user_auth_methods m WHERE m.user_id = u.id) THEN 'PASSWORD_SETUP'
+        WHEN u.user_role IS NULL THEN 'ROLE_SELECTION'
+        WHEN u.gender IS NULL THEN 'GENDER_SELECTION'
+        WHEN u.first_name = 'User' OR u.last_name = 'Name' THEN 'PROFILE_FORM'
+        WHEN u.user_role <> 'PLAYER' THEN 'COMPLETED'
+        WHEN NOT EXISTS (SELECT 1 FROM players p WHERE p.id = u.id AND p.position IS NOT NULL) THEN 'POSITION_SELECTION'
+        WHEN NOT EXISTS (SELECT 1 FROM players p WHERE p.id = u.id AND p.height IS NOT NULL AND p.weight IS NOT NULL)
+            THEN 'PLAYER_PROFILE'
+        ELSE 'COMPLETED'
+    END,
+    version = version + 1; -- Cached onboarding status ETags are built from the row version
+
+ALTER TABLE users ALTER COLUMN registration_step SET NOT NULL;
@@ -0,0 +1,7 @@
+-- Height and weight range filters of the player search; a narrow range would otherwise walk
+-- the (created_at, id) index until it has found a page of matches
+CREATE INDEX IF NOT EXISTS idx_players_active_height ON players (height) WHERE active;
+CREATE INDEX IF NOT EXISTS idx_players_active_weight ON players (weight) WHERE active;
+
+-- Case-insensitive sport lookup (LOWER(name) = LOWER(:name)); lookups by code use uk_sports_code
+CREATE INDEX IF NOT EXISTS idx_sports_name_lower ON sports (lower(name));
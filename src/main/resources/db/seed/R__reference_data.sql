@@ -0,0 +1,14 @@
+-- Reference data every environment needs. Repeatable migration: Flyway re-applies this file only when
+-- its checksum changes, so an unchanged seed costs no statement at startup.
+-- One statement per table; rows whose code already exists are left as they are (ON CONFLICT DO NOTHING
+-- without a target so the same file runs on the H2 load-test schema).
+
+INSERT INTO languages (id, name, code, is_active) VALUES
+    ('22b0ab26-4d66-4379-9eee-5a4bd7768f88', 'English', 'en', TRUE),
+    ('e1ca0eca-b5d6-4dd0-89c1-bf3170620963', 'Français', 'fr', TRUE),
+    ('0967d8d8-a7b5-41c6-9173-80640f547c77', 'العربية', 'ar', TRUE)
+ON CONFLICT DO NOTHING;
+
+INSERT INTO sports (id, name, code, description, active, created_at) VALUES
+    ('939a7049-0b4b-4946-9de8-b8a5a203c794', 'Football', 'FOOTBALL', 'Association football (soccer)', TRUE, CURRENT_TIMESTAMP)
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,263 @@
+package com.wesports.backend.application.service;
+
+import com.wesports.backend.application.dto.OnboardingStepResponse;
+import com.wesports.backend.application.dto.OnboardingSubmissionRequest;
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.PlayerRepository;
+import com.wesports.backend.domain.repository.UserRepository;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.Gender;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.RegistrationStep;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.domain.valueobject.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Submits the whole onboarding flow against in-memory repositories holding a freshly set-up account
+ */
+class OnboardingServiceImplTests {
+
+    private static final LocalDate BIRTHDAY = LocalDate.of(2008, 5, 14);
+
+    private InMemoryUsers users;
+    private InMemoryPlayers players;
+    private OnboardingServiceImpl service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        users = new InMemoryUsers();
+        players = new InMemoryPlayers();
+        PlayerProfileCache cache = new PlayerProfileCache(new LocalOnlyBus(), Duration.ofMinutes(10),
+            Duration.ofSeconds(5), 100);
+        service = new OnboardingServiceImpl(users, players, null, cache);
+
+        user = new User(UserId.of(UUID.randomUUID()), User.PLACEHOLDER_FIRST_NAME, User.PLACEHOLDER_LAST_NAME,
+            Email.of("jane@club.com"), null, null, null, null, LocalDateTime.now(), RegistrationStep.GENDER_SELECTION);
+        users.byId.put(user.getId(), user);
+    }
+
+    @Test
+    void aPlayerSubmittingEverythingCompletesOnboarding() {
+        Player player = registerPlayer();
+
+        OnboardingStepResponse response = service.submitOnboarding(user.getId(),
+            request(List.of("U17", "U18"), "ST", 1.68f, 58f));
+
+        assertEquals("completed", response.status());
+        assertEquals(RegistrationStep.COMPLETED, users.byId.get(user.getId()).getRegistrationStep());
+        assertEquals("Jane", user.getFirstName());
+        assertEquals(Gender.FEMALE, user.getGender());
+        assertEquals(Category.U17, player.getCategory());
+        assertEquals(Position.ST, player.getPosition());
+        assertEquals(Float.valueOf(1.68f), player.getHeight());
+        assertEquals(List.of(user.getId()), users.saved);
+        assertEquals(1, players.saved);
+    }
+
+    @Test
+    void aPlayerWithoutHeightAndWeightIsSavedAndSentToThePlayerProfileStep() {
+        Player player = registerPlayer();
+
+        OnboardingStepResponse response = service.submitOnboarding(user.getId(), request(List.of("U17"), "ST", null, null));
+
+        assertEquals("success", response.status());
+        assertEquals("complete-profile", response.nextStep());
+        assertEquals(RegistrationStep.PLAYER_PROFILE, user.getRegistrationStep());
+        assertEquals(Position.ST, player.getPosition());
+        assertEquals(1, players.saved);
+    }
+
+    @Test
+    void aPlayerMustGiveACategoryAndAPosition() {
+        registerPlayer();
+
+        OnboardingStepResponse withoutPosition = service.submitOnboarding(user.getId(),
+            request(List.of("U17"), null, 1.68f, 58f));
+        OnboardingStepResponse withoutCategory = service.submitOnboarding(user.getId(),
+            request(List.of(), "ST", 1.68f, 58f));
+
+        assertEquals("Category and position are required for players", withoutPosition.message());
+        assertEquals("Category and position are required for players", withoutCategory.message());
+        assertTrue(users.saved.isEmpty());
+        assertEquals(0, players.saved);
+    }
+
+    @Test
+    void aPlayerWithoutAPlayerRecordIsAnError() {
+        user.setUserRole(UserRole.PLAYER);
+
+        OnboardingStepResponse response = service.submitOnboarding(user.getId(), request(List.of("U17"), "ST", 1.68f, 58f));
+
+        assertEquals("error", response.status());
+        assertEquals("Player profile not found. Please contact support.", response.message());
+        assertTrue(users.saved.isEmpty());
+    }
+
+    @Test
+    void otherRolesCompleteWithoutPlayerFields() {
+        user.setUserRole(UserRole.COACH);
+
+        OnboardingStepResponse response = service.submitOnboarding(user.getId(), request(null, null, null, null));
+
+        assertEquals("completed", response.status());
+        assertEquals(RegistrationStep.COMPLETED, user.getRegistrationStep());
+        assertEquals(0, players.saved);
+    }
+
+    @Test
+    void everyInvalidChoiceIsReportedBeforeAnythingIsLoaded() {
+        registerPlayer();
+        OnboardingSubmissionRequest request = new OnboardingSubmissionRequest("OTHER", List.of("U17", "U99"), "PIVOT",
+            "Jane", "Doe", BIRTHDAY, 1.68f, 58f, null);
+
+        OnboardingStepResponse response = service.submitOnboarding(user.getId(), request);
+
+        assertEquals("error", response.status());
+        assertTrue(response.message().contains("OTHER"), response.message());
+        assertTrue(response.message().contains("U99"), response.message());
+        assertTrue(response.message().contains("PIVOT"), response.message());
+        assertEquals(0, users.lookups);
+        assertNull(user.getGender());
+    }
+
+    @Test
+    void anUnknownUserIsAnError() {
+        OnboardingStepResponse response = service.submitOnboarding(UserId.of(UUID.randomUUID()),
+            request(null, null, null, null));
+
+        assertEquals("User not found", response.message());
+    }
+
+    private Player registerPlayer() {
+        user.setUserRole(UserRole.PLAYER);
+        Player player = new Player(user.getId());
+        players.byId.put(user.getId(), player);
+        return player;
+    }
+
+    private static OnboardingSubmissionRequest request(List<String> categories, String position,
+                                                       Float height, Float weight) {
+        return new OnboardingSubmissionRequest("FEMALE", categories, position, "Jane", "Doe", BIRTHDAY,
+            height, weight, null);
+    }
+
+    private static class InMemoryUsers implements UserRepository {
+        private final Map<UserId, User> byId = new HashMap<>();
+        private final List<UserId> saved = new ArrayList<>();
+        private int lookups;
+
+        @Override
+        public User save(User user) {
+            saved.add(user.getId());
+            byId.put(user.getId(), user);
+            return user;
+        }
+
+        @Override
+        public Optional<User> findById(UserId userId) {
+            lookups++;
+            return Optional.ofNullable(byId.get(userId));
+        }
+
+        @Override
+        public Optional<User> findByEmail(Email email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<RegistrationStep> findRegistrationStep(UserId userId) {
+            return findById(userId).map(User::getRegistrationStep);
+        }
+
+        @Override
+        public boolean existsByEmail(Email email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(UserId userId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class InMemoryPlayers implements PlayerRepository {
+        private final Map<UserId, Player> byId = new HashMap<>();
+        private int saved;
+
+        @Override
+        public Player save(Player player) {
+            saved++;
+            return player;
+        }
+
+        @Override
+        public Player merge(Player player) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Player> findById(UserId playerId) {
+            return Optional.ofNullable(byId.get(playerId));
+        }
+
+        @Override
+        public List<Player> findByPostId(UUID postId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Player> findAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(Player player) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(UserId playerId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class LocalOnlyBus implements CacheInvalidationBus {
+        @Override
+        public void publishAfterCommit(String cache, String key) {
+        }
+
+        @Override
+        public void subscribe(String cache, Listener listener) {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.wesports.backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wesports.backend.application.dto.PlayerImportFormat;
+import com.wesports.backend.application.dto.PlayerImportReport;
+import com.wesports.backend.application.dto.PlayerImportRowError;
+import com.wesports.backend.application.port.outbound.ReferenceDataRegistry;
+import com.wesports.backend.domain.model.Language;
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.PlayerSport;
+import com.wesports.backend.domain.model.Post;
+import com.wesports.backend.domain.model.Sport;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.PlayerImportRepository;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.Gender;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Parses bodies through the real service against an in-memory PlayerImportRepository
+ */
+class PlayerImportServiceImplTests {
+
+    private final Sport football = new Sport("Football", "FOOTBALL", "Association football (soccer)");
+
+    private RecordingImportRepository repository;
+    private PlayerImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RecordingImportRepository();
+        service = new PlayerImportServiceImpl(repository, null, new FootballOnlyRegistry(),
+            new TransactionTemplate(new NoOpTransactionManager()), new ObjectMapper());
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 500);
+    }
+
+    @Test
+    void csvHeaderNamesAreNormalizedAndQuotedFieldsKeepCommasAndQuotes() throws IOException {
+        PlayerImportReport report = importCsv(
+            "Email,First Name,last_name,gender,birthday,nationality,position,category,preferred-foot,height,weight",
+            "JANE@club.com,\"Jane, Marie\",\"O\"\"Neil\",FEMALE,2008-04-12,FR,ST,U17,RIGHT,1.68,58");
+
+        assertEquals("success", report.status());
+        assertEquals(1, report.importedRows());
+        User user = repository.users.get(0);
+        Player player = repository.players.get(0);
+        assertEquals("jane@club.com", user.getEmail().getValue());
+        assertEquals("Jane, Marie", user.getFirstName());
+        assertEquals("O\"Neil", user.getLastName());
+        assertEquals(Gender.FEMALE, user.getGender());
+        assertEquals(LocalDate.of(2008, 4, 12), user.getBirthday());
+        assertEquals("FR", user.getNationality());
+        assertEquals(Position.ST, player.getPosition());
+        assertEquals(Category.U17, player.getCategory());
+        assertEquals(PreferredFoot.RIGHT, player.getPreferredFoot());
+        assertEquals(Float.valueOf(1.68f), player.getHeight());
+        assertEquals(Float.valueOf(58f), player.getWeight());
+        assertEquals(football.getId(), repository.associations.get(0).getSportId());
+        assertEquals(player.getId(), repository.associations.get(0).getPlayerId());
+    }
+
+    @Test
+    void ndjsonRowsIgnoreNullsAndUnknownKeys() throws IOException {
+        PlayerImportReport report = importNdjson(
+            "{\"email\":\"a@club.com\",\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"position\":null,\"shirt\":9}",
+            "",
+            "{\"email\":\"b@club.com\",\"first_name\":\"Bob\",\"last_name\":\"Ray\",\"category\":\"SENIOR\"}");
+
+        assertEquals("success", report.status());
+        assertEquals(2, report.totalRows());
+        assertEquals(2, report.importedRows());
+        assertNull(repository.players.get(0).getPosition());
+        assertEquals(Category.SENIOR, repository.players.get(1).getCategory());
+    }
+
+    @Test
+    void invalidRowsAreRejectedWithTheirLineWhileValidRowsAreImported() throws IOException {
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        repository.registered.add("taken@club.com");
+
+        PlayerImportReport report = importCsv(
+            "email,firstName,lastName,position,birthday,height",
+            "ok1@club.com,Ann,Lee,ST,,",
+            "not-an-email,Bob,Ray,,,",
+            "missing@club.com,Cid,,,,",
+            "pos@club.com,Dan,Fox,STRIKER,,",
+            "date@club.com,Eve,Kim,,12/04/2008,",
+            "height@club.com,Fay,Ng,,,tall",
+            "wide@club.com,Gus,Oh,,,,extra",
+            "\"open@club.com,Hal,Pi",
+            "taken@club.com,Ian,Qu,,,",
+            "OK1@club.com,Jon,Ro,,,",
+            "ok2@club.com,Kim,Su,CB,,1.80");
+
+        assertEquals("partial", report.status());
+        assertEquals(11, report.totalRows());
+        assertEquals(2, report.importedRows());
+        assertEquals(9, report.failedRows());
+        assertFalse(report.errorsTruncated());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L),
+            report.errors().stream().map(PlayerImportRowError::line).sorted().toList());
+        assertEquals(Set.of("ok1@club.com", "ok2@club.com"), repository.insertedEmails());
+        assertEquals("Email is already registered", errorAt(report, 10).message());
+        assertEquals("Duplicate email in import", errorAt(report, 11).message());
+        assertTrue(errorAt(report, 4).message().contains("lastname"));
+    }
+
+    @Test
+    void heightsAndWeightsOutsideTheOnboardingBoundsAreRejected() throws IOException {
+        PlayerImportReport report = importCsv(
+            "email,firstName,lastName,height,weight",
+            "cm@club.com,Ann,Lee,168,58",
+            "lb@club.com,Bob,Ray,1.80,350",
+            "ok@club.com,Cid,Fox,1.68,58");
+
+        assertEquals(1, report.importedRows());
+        assertTrue(errorAt(report, 2).message().contains("height must be between 1.0 and 3.0 meters"));
+        assertTrue(errorAt(report, 3).message().contains("weight must be between 30.0 and 200.0 kg"));
+    }
+
+    @Test
+    void rowsAreWrittenInBatchesOfBatchSize() throws IOException {
+        PlayerImportReport report = importCsv(
+            "email,firstName,lastName",
+            "p1@club.com,A,A",
+            "p2@club.com,B,B",
+            "p3@club.com,C,C",
+            "p4@club.com,D,D",
+            "p5@club.com,E,E");
+
+        assertEquals(5, report.importedRows());
+        assertEquals(List.of(2, 2, 1), repository.batchSizes);
+    }
+
+    @Test
+    void duplicatesAcrossBatchesAreCaughtAgainstCommittedRows() throws IOException {
+        PlayerImportReport report = importCsv(
+            "email,firstName,lastName",
+            "p1@club.com,A,A",
+            "p2@club.com,B,B",
+            "p1@club.com,C,C");
+
+        assertEquals(2, report.importedRows());
+        assertEquals(List.of(2), repository.batchSizes);
+        assertEquals("Email is already registered", errorAt(report, 4).message());
+    }
+
+    @Test
+    void aBatchRejectedByTheDatabaseFailsOnlyItsOwnRows() throws IOException {
+        repository.failOnBatch = 2;
+
+        PlayerImportReport report = importCsv(
+            "email,firstName,lastName",
+            "p1@club.com,A,A",
+            "p2@club.com,B,B",
+            "p3@club.com,C,C",
+            "p4@club.com,D,D",
+            "p5@club.com,E,E");
+
+        assertEquals("partial", report.status());
+        assertEquals(3, report.importedRows());
+        assertEquals(2, report.failedRows());
+        assertEquals(List.of(4L, 5L), report.errors().stream().map(PlayerImportRowError::line).toList());
+        assertTrue(report.errors().get(0).message().startsWith("Batch rejected by the database"));
+    }
+
+    @Test
+    void reportedErrorsAreCapped() throws IOException {
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 2);
+
+        PlayerImportReport report = importCsv("email,firstName,lastName", "x,A,A", "y,B,B", "z,C,C");
+
+        assertEquals("error", report.status());
+        assertEquals(3, report.failedRows());
+        assertEquals(2, report.errors().size());
+        assertTrue(report.errorsTruncated());
+    }
+
+    @Test
+    void csvWithoutTheRequiredColumnsIsRefused() {
+        assertThrows(IllegalArgumentException.class, () -> importCsv("email,name", "a@club.com,Ann"));
+        assertTrue(repository.batchSizes.isEmpty());
+    }
+
+    @Test
+    void csvLineParsing() {
+        assertEquals(List.of("a", "", "c"), PlayerImportServiceImpl.parseCsvLine("a,,c"));
+        assertEquals(List.of("a,b", "say \"hi\"", ""), PlayerImportServiceImpl.parseCsvLine("\"a,b\",\"say \"\"hi\"\"\","));
+        assertThrows(IllegalArgumentException.class, () -> PlayerImportServiceImpl.parseCsvLine("\"open,field"));
+    }
+
+    private PlayerImportReport importCsv(String... lines) throws IOException {
+        return importBody(PlayerImportFormat.CSV, lines);
+    }
+
+    private PlayerImportReport importNdjson(String... lines) throws IOException {
+        return importBody(PlayerImportFormat.NDJSON, lines);
+    }
+
+    private PlayerImportReport importBody(PlayerImportFormat format, String... lines) throws IOException {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return service.importPlayers(new ByteArrayInputStream(body), format);
+    }
+
+    private static PlayerImportRowError errorAt(PlayerImportReport report, long line) {
+        return report.errors().stream().filter(error -> error.line() == line).findFirst().orElseThrow();
+    }
+
+    /**
+     * Keeps what was inserted; committed emails count as registered for the following batches
+     */
+    private static class RecordingImportRepository implements PlayerImportRepository {
+        private final Set<String> registered = new HashSet<>();
+        private final List<User> users = new ArrayList<>();
+        private final List<Player> players = new ArrayList<>();
+        private final List<PlayerSport> associations = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private int failOnBatch;
+
+        @Override
+        public Set<String> findExistingEmails(Collection<String> emails) {
+            return emails.stream().filter(registered::contains).collect(Collectors.toSet());
+        }
+
+        @Override
+        public void insertBatch(List<User> users, List<Player> players, List<PlayerSport> associations) {
+            batchSizes.add(users.size());
+            if (batchSizes.size() == failOnBatch) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            users.forEach(user -> registered.add(user.getEmail().getValue()));
+            this.users.addAll(users);
+            this.players.addAll(players);
+            this.associations.addAll(associations);
+        }
+
+        private Set<String> insertedEmails() {
+            return users.stream().map(user -> user.getEmail().getValue()).collect(Collectors.toSet());
+        }
+    }
+
+    private class FootballOnlyRegistry implements ReferenceDataRegistry {
+
+        @Override
+        public Optional<Language> findLanguageByCode(String code) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Language> findActiveLanguages() {
+            return List.of();
+        }
+
+        @Override
+        public Optional<Sport> findSportByCode(String code) {
+            return "FOOTBALL".equals(code) ? Optional.of(football) : Optional.empty();
+        }
+
+        @Override
+        public List<Sport> findActiveSports() {
+            return List.of(football);
+        }
+
+        @Override
+        public Optional<Post> findPostByCode(String code) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Post> findAllPosts() {
+            return List.of();
+        }
+
+        @Override
+        public void refreshAfterCommit() {
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
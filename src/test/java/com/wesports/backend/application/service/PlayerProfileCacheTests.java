@@ -0,0 +1,117 @@
+package com.wesports.backend.application.service;
+
+import com.wesports.backend.application.dto.PlayerProfileResponse;
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import com.wesports.backend.domain.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Drives the cache through an in-memory bus standing in for the events of another node
+ */
+class PlayerProfileCacheTests {
+
+    private final UserId userId = UserId.of(UUID.randomUUID());
+
+    private FakeInvalidationBus bus;
+    private PlayerProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        bus = new FakeInvalidationBus();
+        cache = new PlayerProfileCache(bus, Duration.ofMinutes(10), Duration.ofMillis(1), 100);
+    }
+
+    @Test
+    void anotherNodesWriteEvictsTheEntryAndTheNextReadIsCachedAgain() {
+        cache.populate(userId, profile(1.70f), cache.readStamp());
+
+        bus.remoteInvalidate(userId.getValue().toString());
+        assertNull(cache.get(userId));
+
+        PlayerProfileResponse reloaded = profile(1.72f);
+        cache.populate(userId, reloaded, cache.readStamp());
+        assertSame(reloaded, cache.get(userId));
+    }
+
+    @Test
+    void aLoadStartedBeforeTheEvictionIsNotCached() {
+        long readStamp = cache.readStamp();
+        bus.remoteInvalidate(userId.getValue().toString());
+
+        cache.populate(userId, profile(1.70f), readStamp);
+
+        assertNull(cache.get(userId));
+    }
+
+    @Test
+    void losingTheChannelDropsEverything() {
+        cache.populate(userId, profile(1.70f), cache.readStamp());
+
+        bus.listener.invalidateAll();
+
+        assertNull(cache.get(userId));
+    }
+
+    @Test
+    void whileDisconnectedEntriesOnlyLiveForTheDegradedTtl() throws InterruptedException {
+        bus.connected = false;
+        cache.populate(userId, profile(1.70f), cache.readStamp());
+
+        Thread.sleep(5);
+
+        assertNull(cache.get(userId));
+    }
+
+    @Test
+    void writesAreCachedLocallyAndPublished() {
+        PlayerProfileResponse updated = profile(1.75f);
+
+        cache.putAfterCommit(userId, updated);
+        cache.evict(UserId.of(UUID.randomUUID()));
+
+        assertSame(updated, cache.get(userId));
+        assertEquals(2, bus.published.size());
+        assertEquals("player-profile " + userId.getValue(), bus.published.get(0));
+    }
+
+    private PlayerProfileResponse profile(float height) {
+        return new PlayerProfileResponse(userId.getValue(), "Jane", "Doe", "jane@club.com", null, null, null,
+            List.of(), null, null, "PLAYER", null, null, List.of(), true, null, height, 58f, null, null, null,
+            false, false, false, true);
+    }
+
+    private static class FakeInvalidationBus implements CacheInvalidationBus {
+        private final List<String> published = new ArrayList<>();
+        private Listener listener;
+        private boolean connected = true;
+
+        @Override
+        public void publishAfterCommit(String cache, String key) {
+            published.add(cache + " " + key);
+        }
+
+        @Override
+        public void subscribe(String cache, Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        void remoteInvalidate(String key) {
+            listener.invalidate(key);
+        }
+    }
+}
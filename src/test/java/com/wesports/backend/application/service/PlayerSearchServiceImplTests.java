@@ -0,0 +1,129 @@
+package com.wesports.backend.application.service;
+
+import com.wesports.backend.application.dto.PlayerSearchItem;
+import com.wesports.backend.application.dto.PlayerSearchResponse;
+import com.wesports.backend.domain.model.PlayerSummary;
+import com.wesports.backend.domain.repository.PlayerSearchRepository;
+import com.wesports.backend.domain.valueobject.PlayerId;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.PlayerSearchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pages through an in-memory repository that seeks past the cursor the way the SQL does
+ */
+class PlayerSearchServiceImplTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 9, 17, 45);
+
+    private FakePlayerSearchRepository repository;
+    private PlayerSearchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FakePlayerSearchRepository();
+        service = new PlayerSearchServiceImpl(repository, null);
+    }
+
+    @Test
+    void oneRowMoreThanThePageIsFetched() {
+        service.search(PlayerSearchCriteria.any(), null, 2);
+        service.search(PlayerSearchCriteria.any(), null, null);
+        service.search(PlayerSearchCriteria.any(), null, 500);
+        service.search(PlayerSearchCriteria.any(), null, 0);
+
+        assertEquals(List.of(3, 21, 101, 2), repository.limits);
+    }
+
+    @Test
+    void aFullPageWithNothingAfterItIsTheLastOne() {
+        repository.add(CREATED_AT);
+        repository.add(CREATED_AT.plusMinutes(1));
+
+        PlayerSearchResponse response = service.search(PlayerSearchCriteria.any(), null, 2);
+
+        assertEquals(2, response.items().size());
+        assertFalse(response.hasMore());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    void theExtraRowIsDroppedAndTheCursorPointsAtTheLastReturnedPlayer() {
+        repository.add(CREATED_AT);
+        PlayerSummary last = repository.add(CREATED_AT.plusMinutes(1));
+        repository.add(CREATED_AT.plusMinutes(2));
+
+        PlayerSearchResponse response = service.search(PlayerSearchCriteria.any(), null, 2);
+
+        assertEquals(2, response.items().size());
+        assertTrue(response.hasMore());
+        assertEquals(new PlayerSearchCursor(last.createdAt(), last.id().getValue()),
+            PlayerSearchCursor.decode(response.nextCursor()));
+    }
+
+    @Test
+    void pagingThroughPlayersCreatedAtTheSameInstantVisitsEachOnce() {
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            repository.add(CREATED_AT);
+        }
+        repository.add(CREATED_AT.plusSeconds(1));
+        repository.rows.forEach(row -> expected.add(row.id().getValue()));
+
+        List<UUID> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            PlayerSearchResponse page = service.search(PlayerSearchCriteria.any(), cursor, 2);
+            page.items().stream().map(PlayerSearchItem::id).forEach(visited::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void aMalformedCursorIsRejectedBeforeQuerying() {
+        assertThrows(IllegalArgumentException.class,
+            () -> service.search(PlayerSearchCriteria.any(), "not-a-cursor", 2));
+        assertTrue(repository.limits.isEmpty());
+    }
+
+    private static class FakePlayerSearchRepository implements PlayerSearchRepository {
+        private static final Comparator<PlayerSummary> ORDER =
+            Comparator.comparing(PlayerSummary::createdAt).thenComparing(row -> row.id().getValue());
+
+        private final List<PlayerSummary> rows = new ArrayList<>();
+        private final List<Integer> limits = new ArrayList<>();
+
+        PlayerSummary add(LocalDateTime createdAt) {
+            PlayerSummary row = new PlayerSummary(PlayerId.of(UUID.randomUUID()), "Jane", "Doe", null, null, null,
+                1.68f, 58f, null, List.of(), null, createdAt);
+            rows.add(row);
+            rows.sort(ORDER);
+            return row;
+        }
+
+        @Override
+        public List<PlayerSummary> search(PlayerSearchCriteria criteria, PlayerSearchCursor after, int limit) {
+            limits.add(limit);
+            return rows.stream()
+                .filter(row -> after == null || row.createdAt().isAfter(after.createdAt())
+                    || row.createdAt().isEqual(after.createdAt()) && row.id().getValue().compareTo(after.id()) > 0)
+                .limit(limit)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.wesports.backend.domain.model;
+
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.Gender;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.RegistrationStep;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.domain.valueobject.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserTests {
+
+    @Test
+    void accountsNotSetUpYetKeepTheirStep() {
+        for (RegistrationStep step : new RegistrationStep[] {RegistrationStep.EMAIL_VERIFICATION, RegistrationStep.PASSWORD_SETUP}) {
+            User user = user(step);
+            user.setUserRole(UserRole.COACH);
+
+            assertFalse(user.advanceOnboarding(null));
+            assertEquals(step, user.getRegistrationStep());
+        }
+    }
+
+    @Test
+    void withoutARoleTheRoleIsNext() {
+        User user = user(RegistrationStep.PROFILE_FORM);
+
+        assertTrue(user.advanceOnboarding(null));
+        assertEquals(RegistrationStep.ROLE_SELECTION, user.getRegistrationStep());
+    }
+
+    @Test
+    void withoutAGenderTheGenderIsNext() {
+        User user = user(RegistrationStep.ROLE_SELECTION);
+        user.setUserRole(UserRole.PLAYER);
+
+        assertTrue(user.advanceOnboarding(null));
+        assertEquals(RegistrationStep.GENDER_SELECTION, user.getRegistrationStep());
+    }
+
+    @Test
+    void aPlaceholderFirstOrLastNameSendsToTheProfileForm() {
+        User placeholderFirst = user(RegistrationStep.GENDER_SELECTION);
+        placeholderFirst.setUserRole(UserRole.COACH);
+        placeholderFirst.updateProfile(User.PLACEHOLDER_FIRST_NAME, "Doe", Gender.FEMALE, null);
+        User placeholderLast = user(RegistrationStep.GENDER_SELECTION);
+        placeholderLast.setUserRole(UserRole.COACH);
+        placeholderLast.updateProfile("Jane", User.PLACEHOLDER_LAST_NAME, Gender.FEMALE, null);
+
+        placeholderFirst.advanceOnboarding(null);
+        placeholderLast.advanceOnboarding(null);
+
+        assertEquals(RegistrationStep.PROFILE_FORM, placeholderFirst.getRegistrationStep());
+        assertEquals(RegistrationStep.PROFILE_FORM, placeholderLast.getRegistrationStep());
+    }
+
+    @Test
+    void otherRolesAreDoneOnceTheProfileIsFilled() {
+        User user = profiled(UserRole.CLUB);
+
+        assertTrue(user.advanceOnboarding(null));
+        assertEquals(RegistrationStep.COMPLETED, user.getRegistrationStep());
+    }
+
+    @Test
+    void aPlayerWithoutAPlayerRecordOrPositionChoosesAPosition() {
+        User withoutRecord = profiled(UserRole.PLAYER);
+        User withoutPosition = profiled(UserRole.PLAYER);
+
+        withoutRecord.advanceOnboarding(null);
+        withoutPosition.advanceOnboarding(new Player(withoutPosition.getId()));
+
+        assertEquals(RegistrationStep.POSITION_SELECTION, withoutRecord.getRegistrationStep());
+        assertEquals(RegistrationStep.POSITION_SELECTION, withoutPosition.getRegistrationStep());
+    }
+
+    @Test
+    void aPlayerWithoutHeightOrWeightCompletesThePlayerProfile() {
+        User user = profiled(UserRole.PLAYER);
+        Player player = new Player(Position.ST, Category.U17);
+        player.updateProfile(null, 1.68f, null);
+
+        user.advanceOnboarding(player);
+
+        assertEquals(RegistrationStep.PLAYER_PROFILE, user.getRegistrationStep());
+    }
+
+    @Test
+    void aPlayerWithAPositionHeightAndWeightIsDone() {
+        User user = profiled(UserRole.PLAYER);
+        Player player = new Player(Position.ST, Category.U17);
+        player.updateProfile(null, 1.68f, 58f);
+
+        assertTrue(user.advanceOnboarding(player));
+        assertEquals(RegistrationStep.COMPLETED, user.getRegistrationStep());
+    }
+
+    @Test
+    void theStepCanMoveBackWhenSomethingIsMissingAgain() {
+        User user = profiled(UserRole.COACH);
+        user.advanceOnboarding(null);
+
+        user.setUserRole(UserRole.PLAYER);
+
+        assertTrue(user.advanceOnboarding(null));
+        assertEquals(RegistrationStep.POSITION_SELECTION, user.getRegistrationStep());
+    }
+
+    @Test
+    void anUnchangedStepIsReportedAsSuch() {
+        User user = profiled(UserRole.COACH);
+
+        assertTrue(user.advanceOnboarding(null));
+        assertFalse(user.advanceOnboarding(null));
+        assertEquals(RegistrationStep.COMPLETED, user.getRegistrationStep());
+    }
+
+    private static User user(RegistrationStep step) {
+        return new User(UserId.of(UUID.randomUUID()), User.PLACEHOLDER_FIRST_NAME, User.PLACEHOLDER_LAST_NAME,
+            Email.of("jane@club.com"), null, null, null, null, LocalDateTime.now(), step);
+    }
+
+    private static User profiled(UserRole role) {
+        User user = user(RegistrationStep.ROLE_SELECTION);
+        user.setUserRole(role);
+        user.updateProfile("Jane", "Doe", Gender.FEMALE, LocalDate.of(2008, 5, 14));
+        return user;
+    }
+}
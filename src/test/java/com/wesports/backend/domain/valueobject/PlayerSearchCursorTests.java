@@ -0,0 +1,61 @@
+package com.wesports.backend.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlayerSearchCursorTests {
+
+    @Test
+    void encodedCursorsDecodeToTheSamePosition() {
+        PlayerSearchCursor cursor = new PlayerSearchCursor(
+            LocalDateTime.of(2024, 3, 9, 17, 45, 12, 123_456_000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertEquals(cursor, PlayerSearchCursor.decode(token));
+        assertFalse(token.contains("+") || token.contains("/") || token.contains("="), token);
+    }
+
+    @Test
+    void aCursorOnAWholeMinuteSurvivesTheRoundTrip() {
+        PlayerSearchCursor cursor = new PlayerSearchCursor(LocalDateTime.of(2024, 3, 9, 17, 45), UUID.randomUUID());
+
+        assertEquals(cursor, PlayerSearchCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void noCursorMeansTheFirstPage() {
+        assertNull(PlayerSearchCursor.decode(null));
+        assertNull(PlayerSearchCursor.decode(""));
+        assertNull(PlayerSearchCursor.decode("  "));
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        String[] tokens = {
+            "not base64!",
+            token("2024-03-09T17:45"),
+            token("2024-03-09T17:45|not-a-uuid"),
+            token("yesterday|" + UUID.randomUUID()),
+            token("|" + UUID.randomUUID())
+        };
+        for (String token : tokens) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> PlayerSearchCursor.decode(token), token);
+            assertEquals("Invalid search cursor", e.getMessage());
+        }
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
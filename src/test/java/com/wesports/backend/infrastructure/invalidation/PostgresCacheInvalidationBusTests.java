@@ -0,0 +1,96 @@
+package com.wesports.backend.infrastructure.invalidation;
+
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Feeds NOTIFY payloads straight to the bus, without a database: the listening thread is never started
+ */
+class PostgresCacheInvalidationBusTests {
+
+    private PostgresCacheInvalidationBus bus;
+    private RecordingListener profiles;
+    private RecordingListener index;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties dataSource = new DataSourceProperties();
+        dataSource.setUsername("wesports");
+        dataSource.setPassword("unused");
+        bus = new PostgresCacheInvalidationBus(dataSource,
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+            "jdbc:postgresql://localhost/unused", Duration.ofMillis(100), Duration.ofSeconds(10), 100);
+        profiles = new RecordingListener();
+        index = new RecordingListener();
+        bus.subscribe("player-profile", profiles);
+        bus.subscribe("scouting-index", index);
+    }
+
+    @Test
+    void eventsFromOtherNodesReachTheListenersOfTheirCache() {
+        bus.deliver("othernode\nplayer-profile 7f1c\nscouting-index 7f1c\nplayer-profile 9a2b");
+
+        assertEquals(List.of("7f1c", "9a2b"), profiles.keys);
+        assertEquals(List.of("7f1c"), index.keys);
+    }
+
+    @Test
+    void ownEventsAreIgnored() {
+        String nodeId = (String) ReflectionTestUtils.getField(bus, "nodeId");
+
+        bus.deliver(nodeId + "\nplayer-profile 7f1c");
+
+        assertTrue(profiles.keys.isEmpty());
+    }
+
+    @Test
+    void malformedLinesAndUnknownCachesAreSkipped() {
+        bus.deliver("othernode\nno-key\nunknown-cache 1\n\nplayer-profile 7f1c");
+
+        assertEquals(List.of("7f1c"), profiles.keys);
+        assertTrue(index.keys.isEmpty());
+    }
+
+    @Test
+    void aFailingListenerDoesNotStopTheOthers() {
+        bus.subscribe("player-profile", new RecordingListener() {
+            @Override
+            public void invalidate(String key) {
+                throw new IllegalArgumentException("Invalid UUID string: " + key);
+            }
+        });
+        RecordingListener last = new RecordingListener();
+        bus.subscribe("player-profile", last);
+
+        bus.deliver("othernode\nplayer-profile 7f1c\nplayer-profile 9a2b");
+
+        assertEquals(List.of("7f1c", "9a2b"), profiles.keys);
+        assertEquals(List.of("7f1c", "9a2b"), last.keys);
+    }
+
+    private static class RecordingListener implements CacheInvalidationBus.Listener {
+        private final List<String> keys = new ArrayList<>();
+
+        @Override
+        public void invalidate(String key) {
+            keys.add(key);
+        }
+
+        @Override
+        public void invalidateAll() {
+            keys.add("*");
+        }
+    }
+}
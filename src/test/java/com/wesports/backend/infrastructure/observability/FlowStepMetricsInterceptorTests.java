@@ -0,0 +1,101 @@
+package com.wesports.backend.infrastructure.observability;
+
+import com.wesports.backend.application.dto.AuthResponse;
+import com.wesports.backend.application.dto.LoginRequest;
+import com.wesports.backend.application.dto.LogoutResponse;
+import com.wesports.backend.application.port.inbound.LoginService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Proxies a fake LoginService through FlowStepInstrumentationPostProcessor and checks the flow.step timer
+ * each step records: success and error come from the response status, exception from a thrown step
+ */
+class FlowStepMetricsInterceptorTests {
+
+    private SimpleMeterRegistry meters;
+    private FakeLoginService target;
+    private LoginService login;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meters);
+        target = new FakeLoginService();
+        login = (LoginService) new FlowStepInstrumentationPostProcessor(beans.getBeanProvider(MeterRegistry.class))
+            .postProcessAfterInitialization(target, "loginService");
+    }
+
+    @Test
+    void aSuccessfulResponseIsCountedAsSuccess() {
+        login.logout("refresh-token");
+
+        assertEquals(1, step("logout", "success").count());
+        assertNull(meters.find("flow.step").tag("outcome", "error").timer());
+    }
+
+    @Test
+    void anErrorStatusResponseIsCountedAsError() {
+        AuthResponse response = login.login(new LoginRequest("jane@club.com", "wrong"));
+
+        assertEquals("error", response.status());
+        assertEquals(1, step("login", "error").count());
+        assertNull(meters.find("flow.step").tag("step", "login").tag("outcome", "success").timer());
+    }
+
+    @Test
+    void aThrownExceptionIsCountedAsExceptionAndRethrown() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> login.refreshToken("expired"));
+
+        assertSame(target.failure, thrown);
+        assertEquals(1, step("refreshToken", "exception").count());
+        assertEquals(1, meters.find("flow.step").timers().size());
+    }
+
+    @Test
+    void stepsAreTaggedWithTheirFlowAndMethod() {
+        login.logout("a");
+        login.logout("b");
+        login.login(new LoginRequest("jane@club.com", "wrong"));
+
+        assertEquals(2, step("logout", "success").count());
+        assertEquals(2, meters.find("flow.step").tag("flow", "login").timers().size());
+    }
+
+    private Timer step(String step, String outcome) {
+        return meters.get("flow.step").tag("flow", "login").tag("step", step).tag("outcome", outcome).timer();
+    }
+
+    /**
+     * Login rejects every password, logout always succeeds and refresh always throws
+     */
+    static class FakeLoginService implements LoginService {
+
+        private final IllegalStateException failure = new IllegalStateException("token store unavailable");
+
+        @Override
+        public AuthResponse login(LoginRequest request) {
+            return AuthResponse.error("Invalid email or password");
+        }
+
+        @Override
+        public LogoutResponse logout(String refreshToken) {
+            return LogoutResponse.success("Logged out");
+        }
+
+        @Override
+        public AuthResponse refreshToken(String refreshToken) {
+            throw failure;
+        }
+    }
+}
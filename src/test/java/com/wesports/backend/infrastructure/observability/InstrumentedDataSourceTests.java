@@ -0,0 +1,150 @@
+package com.wesports.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Wraps a fake pool whose connections record the calls that reach them
+ */
+class InstrumentedDataSourceTests {
+
+    private SimpleMeterRegistry meters;
+    private FakePool pool;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        pool = new FakePool();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meters);
+        dataSource = new InstrumentedDataSource(pool.dataSource(), beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void everyStatementFactoryCallIsCounted() throws SQLException {
+        long before = JdbcActivity.statements();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("select 1");
+            connection.prepareStatement("select 2", new String[] {"id"});
+            connection.createStatement();
+            connection.prepareCall("call refresh()");
+            connection.setAutoCommit(false);
+            connection.commit();
+        }
+
+        assertEquals(4, JdbcActivity.statements() - before);
+        assertEquals(List.of("prepareStatement", "prepareStatement", "createStatement", "prepareCall",
+            "setAutoCommit", "commit", "close"), pool.calls);
+    }
+
+    @Test
+    void connectionsObtainedWithCredentialsAreInstrumentedToo() throws SQLException {
+        long before = JdbcActivity.statements();
+
+        try (Connection connection = dataSource.getConnection("reporting", "secret")) {
+            connection.prepareStatement("select 1");
+        }
+
+        assertEquals(1, JdbcActivity.statements() - before);
+        assertEquals(1, holdTimer().count());
+    }
+
+    @Test
+    void holdTimeIsRecordedOnceOnClose() throws SQLException {
+        long holdBefore = JdbcActivity.connectionHoldNanos();
+        Connection connection = dataSource.getConnection();
+        assertEquals(0, meters.find("jdbc.connection.hold").timers().size());
+
+        connection.close();
+        connection.close();
+
+        assertEquals(1, holdTimer().count());
+        assertTrue(JdbcActivity.connectionHoldNanos() > holdBefore);
+        assertEquals(List.of("close", "close"), pool.calls);
+    }
+
+    @Test
+    void failingStatementsAreCountedAndRethrown() throws SQLException {
+        long before = JdbcActivity.statements();
+        pool.failure = new SQLException("relation does not exist");
+
+        try (Connection connection = dataSource.getConnection()) {
+            SQLException thrown = assertThrows(SQLException.class, () -> connection.prepareStatement("select"));
+            assertSame(pool.failure, thrown);
+        }
+
+        assertEquals(1, JdbcActivity.statements() - before);
+    }
+
+    @Test
+    void unwrappingToConnectionKeepsTheInstrumentation() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            assertSame(connection, connection.unwrap(Connection.class));
+        }
+        assertFalse(pool.calls.contains("unwrap"));
+    }
+
+    @Test
+    void withoutARegistryOnlyTheThreadCountersAreFed() throws SQLException {
+        InstrumentedDataSource unmetered = new InstrumentedDataSource(pool.dataSource(),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        long statementsBefore = JdbcActivity.statements();
+        long holdBefore = JdbcActivity.connectionHoldNanos();
+
+        try (Connection connection = unmetered.getConnection()) {
+            connection.createStatement();
+        }
+
+        assertEquals(1, JdbcActivity.statements() - statementsBefore);
+        assertTrue(JdbcActivity.connectionHoldNanos() > holdBefore);
+    }
+
+    private Timer holdTimer() {
+        return meters.get("jdbc.connection.hold").timer();
+    }
+
+    /**
+     * Hands out connections that log each call by name, answer statement factories with null
+     * and throw the configured failure from prepareStatement
+     */
+    private static final class FakePool {
+
+        private final List<String> calls = new ArrayList<>();
+        private SQLException failure;
+
+        DataSource dataSource() {
+            return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> method.getName().equals("getConnection") ? connection() : null);
+        }
+
+        private Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    if (failure != null && method.getName().equals("prepareStatement")) {
+                        throw failure;
+                    }
+                    return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                });
+        }
+    }
+}
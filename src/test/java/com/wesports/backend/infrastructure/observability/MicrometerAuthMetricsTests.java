@@ -0,0 +1,84 @@
+package com.wesports.backend.infrastructure.observability;
+
+import com.wesports.backend.application.port.outbound.AuthMetrics.LoginOutcome;
+import com.wesports.backend.application.port.outbound.AuthMetrics.OtpRequestOutcome;
+import com.wesports.backend.application.port.outbound.AuthMetrics.OtpVerificationOutcome;
+import com.wesports.backend.application.port.outbound.AuthMetrics.TokenType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Each auth event increments its own counter, tagged with the lower-cased enum value
+ */
+class MicrometerAuthMetricsTests {
+
+    private SimpleMeterRegistry meters;
+    private MicrometerAuthMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meters);
+        metrics = new MicrometerAuthMetrics(beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void loginAttemptsAreCountedPerOutcome() {
+        metrics.loginAttempt(LoginOutcome.SUCCESS);
+        metrics.loginAttempt(LoginOutcome.BAD_PASSWORD);
+        metrics.loginAttempt(LoginOutcome.BAD_PASSWORD);
+
+        assertEquals(1.0, count("auth.login.attempts", "outcome", "success"));
+        assertEquals(2.0, count("auth.login.attempts", "outcome", "bad_password"));
+        assertNull(meters.find("auth.login.attempts").tag("outcome", "unknown_user").counter());
+    }
+
+    @Test
+    void issuedTokensAreCountedPerType() {
+        metrics.tokenIssued(TokenType.ACCESS);
+        metrics.tokenIssued(TokenType.REFRESH);
+        metrics.tokenIssued(TokenType.REGISTRATION);
+        metrics.tokenIssued(TokenType.ACCESS);
+
+        assertEquals(2.0, count("auth.tokens.issued", "type", "access"));
+        assertEquals(1.0, count("auth.tokens.issued", "type", "refresh"));
+        assertEquals(1.0, count("auth.tokens.issued", "type", "registration"));
+    }
+
+    @Test
+    void otpRequestsAndVerificationsAreCountedPerOutcome() {
+        metrics.otpRequested(OtpRequestOutcome.ISSUED);
+        metrics.otpRequested(OtpRequestOutcome.RATE_LIMITED);
+        metrics.otpVerified(OtpVerificationOutcome.WRONG_CODE);
+        metrics.otpVerified(OtpVerificationOutcome.TOO_MANY_ATTEMPTS);
+
+        assertEquals(1.0, count("auth.otp.requests", "outcome", "issued"));
+        assertEquals(1.0, count("auth.otp.requests", "outcome", "rate_limited"));
+        assertEquals(1.0, count("auth.otp.verifications", "outcome", "wrong_code"));
+        assertEquals(1.0, count("auth.otp.verifications", "outcome", "too_many_attempts"));
+        assertEquals(4, meters.getMeters().size());
+    }
+
+    @Test
+    void withoutARegistryEventsAreIgnored() {
+        MicrometerAuthMetrics unmetered = new MicrometerAuthMetrics(
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+        assertDoesNotThrow(() -> {
+            unmetered.loginAttempt(LoginOutcome.ERROR);
+            unmetered.tokenIssued(TokenType.ACCESS);
+        });
+    }
+
+    private double count(String name, String tag, String value) {
+        return meters.get(name).tag(tag, value).counter().count();
+    }
+}
@@ -0,0 +1,185 @@
+package com.wesports.backend.infrastructure.observability;
+
+import com.wesports.backend.domain.repository.UserRepository;
+import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.UserId;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Invokes UserRepository port methods through the interceptor with a body that stands in for the adapter
+ * and bumps JdbcActivity the way InstrumentedDataSource would
+ */
+class RepositoryMetricsInterceptorTests {
+
+    private static final String SECRET_EMAIL = "jane.secret@club.com";
+
+    private SimpleMeterRegistry meters;
+    private SlowQueryLog slowQueryLog;
+    private RepositoryMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 10);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meters);
+        beans.addBean("slowQueryLog", slowQueryLog);
+        interceptor = new RepositoryMetricsInterceptor(beans.getBeanProvider(MeterRegistry.class),
+            beans.getBeanProvider(SlowQueryLog.class));
+    }
+
+    @Test
+    void statementsAreCountedPerCall() throws Throwable {
+        JdbcActivity.statementExecuted(); // Issued before the call, must not be attributed to it
+
+        interceptor.invoke(call("findById", statements(3)));
+        interceptor.invoke(call("findById", statements(1)));
+
+        DistributionSummary summary = meters.get("repository.statements")
+            .tag("repository", "UserRepository").tag("method", "findById").summary();
+        assertEquals(2, summary.count());
+        assertEquals(4.0, summary.totalAmount());
+        assertEquals(3.0, summary.max());
+    }
+
+    @Test
+    void successfulCallsAreTimedAsSuccess() throws Throwable {
+        Object result = interceptor.invoke(call("existsByEmail", () -> true));
+
+        assertEquals(true, result);
+        assertEquals(1, timer("existsByEmail", "success").count());
+        assertEquals(0, timer("existsByEmail", "error").count());
+    }
+
+    @Test
+    void failingCallsAreTimedAsErrorAndRethrown() {
+        IllegalStateException failure = new IllegalStateException("duplicate key");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> interceptor.invoke(call("save", () -> {
+                JdbcActivity.statementExecuted();
+                throw failure;
+            })));
+
+        assertSame(failure, thrown);
+        assertEquals(0, timer("save", "success").count());
+        assertEquals(1, timer("save", "error").count());
+        assertEquals(1.0, meters.get("repository.statements").tag("method", "save").summary().totalAmount());
+    }
+
+    @Test
+    void slowCallsAreLoggedWithTheirShapesOnly() throws Throwable {
+        interceptor.invoke(call("findByEmail", statements(2), Email.of(SECRET_EMAIL)));
+
+        SlowQueryLog.Entry entry = slowQueryLog.snapshot().get(0);
+        assertEquals("UserRepository", entry.repository());
+        assertEquals("findByEmail", entry.method());
+        assertEquals(2, entry.statements());
+        assertEquals(List.of("Email"), entry.argumentShapes());
+    }
+
+    @Test
+    void shapesNeverContainArgumentValues() {
+        Map<String, String> byEmail = new HashMap<>();
+        byEmail.put(SECRET_EMAIL, "Jane");
+        Object[] arguments = {
+            SECRET_EMAIL,
+            new StringBuilder("+34 600 000 000"),
+            UserId.of(UUID.fromString("11111111-2222-3333-4444-555555555555")),
+            new ArrayList<>(List.of(SECRET_EMAIL, "other@club.com")),
+            byEmail,
+            Optional.of(SECRET_EMAIL),
+            Optional.empty(),
+            new int[] {4242, 4243},
+            new String[] {SECRET_EMAIL},
+            null
+        };
+
+        List<String> shapes = RepositoryMetricsInterceptor.shapesOf(arguments);
+
+        assertEquals(List.of("String(20)", "String(15)", "UserId", "ArrayList[2]", "HashMap[1]",
+            "Optional<String(20)>", "Optional.empty", "int[2]", "String[1]", "null"), shapes);
+        for (String shape : shapes) {
+            for (String value : List.of("secret", "club.com", "600", "1111", "4242", "Jane")) {
+                assertFalse(shape.contains(value), shape + " leaks " + value);
+            }
+        }
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meters.get("repository.invocations")
+            .tag("repository", "UserRepository").tag("method", method).tag("outcome", outcome).timer();
+    }
+
+    private static Callable<Object> statements(int count) {
+        return () -> {
+            for (int i = 0; i < count; i++) {
+                JdbcActivity.statementExecuted();
+            }
+            return Optional.empty();
+        };
+    }
+
+    private static MethodInvocation call(String methodName, Callable<Object> body, Object... arguments) {
+        for (Method method : UserRepository.class.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new FakeInvocation(method, arguments, body);
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+
+    /**
+     * An invocation without a target, so the repository name comes from the port itself
+     */
+    private record FakeInvocation(Method method, Object[] arguments, Callable<Object> body) implements MethodInvocation {
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public Object proceed() throws Throwable {
+            return body.call();
+        }
+
+        @Override
+        public Object getThis() {
+            return null;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
+    }
+}
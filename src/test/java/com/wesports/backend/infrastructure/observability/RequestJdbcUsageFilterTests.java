@@ -0,0 +1,109 @@
+package com.wesports.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the filter around chains that stand in for a handler issuing statements and holding a connection
+ */
+class RequestJdbcUsageFilterTests {
+
+    private static final String PATTERN = "/api/players/{playerId}";
+
+    private SimpleMeterRegistry meters;
+    private RequestJdbcUsageFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meters);
+        filter = new RequestJdbcUsageFilter(beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void statementsAndHoldTimeAreRecordedPerRoute() throws Exception {
+        JdbcActivity.statementExecuted(); // Before the request, must not be attributed to it
+
+        MockHttpServletRequest request = request(PATTERN);
+        filter.doFilter(request, new MockHttpServletResponse(), handler(3, 2_000_000));
+
+        DistributionSummary statements = meters.get("http.request.jdbc.statements")
+            .tag("method", "GET").tag("uri", PATTERN).summary();
+        Timer hold = meters.get("http.request.jdbc.connection.hold")
+            .tag("method", "GET").tag("uri", PATTERN).timer();
+        assertEquals(1, statements.count());
+        assertEquals(3.0, statements.totalAmount());
+        assertEquals(1, hold.count());
+        assertEquals(2_000_000.0, hold.totalTime(TimeUnit.NANOSECONDS));
+        assertEquals(Long.valueOf(3), request.getAttribute(RequestJdbcUsageFilter.STATEMENTS_ATTRIBUTE));
+    }
+
+    @Test
+    void requestsWithoutARouteAreTaggedUnknown() throws Exception {
+        filter.doFilter(request(null), new MockHttpServletResponse(), handler(1, 0));
+
+        assertEquals(1.0, meters.get("http.request.jdbc.statements").tag("uri", "UNKNOWN").summary().totalAmount());
+    }
+
+    @Test
+    void failingRequestsAreStillRecorded() {
+        MockHttpServletRequest request = request(PATTERN);
+
+        assertThrows(ServletException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> {
+                handler(2, 1_000).doFilter(req, res);
+                throw new ServletException("handler failed");
+            }));
+
+        assertEquals(2.0, meters.get("http.request.jdbc.statements").tag("uri", PATTERN).summary().totalAmount());
+        assertEquals(Long.valueOf(2), request.getAttribute(RequestJdbcUsageFilter.STATEMENTS_ATTRIBUTE));
+    }
+
+    @Test
+    void withoutARegistryTheCountIsStillExposedToOtherFilters() throws Exception {
+        RequestJdbcUsageFilter unmetered = new RequestJdbcUsageFilter(
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        MockHttpServletRequest request = request(PATTERN);
+
+        unmetered.doFilter(request, new MockHttpServletResponse(), handler(4, 0));
+
+        assertEquals(Long.valueOf(4), request.getAttribute(RequestJdbcUsageFilter.STATEMENTS_ATTRIBUTE));
+        assertTrue(meters.getMeters().isEmpty());
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players/42");
+        if (pattern != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        }
+        return request;
+    }
+
+    private static FilterChain handler(int statements, long holdNanos) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                JdbcActivity.statementExecuted();
+            }
+            if (holdNanos > 0) {
+                JdbcActivity.connectionReleased(holdNanos);
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.wesports.backend.infrastructure.observability.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Ends spans with explicit timestamps on a real SDK tracer and records what reaches the downstream processor
+ */
+class TailSamplingSpanProcessorTests {
+
+    private static final long SLOW_THRESHOLD = Duration.ofMillis(500).toNanos();
+    private static final long START = TimeUnit.SECONDS.toNanos(1_000_000);
+
+    private final List<String> exported = new ArrayList<>();
+    private TailSamplingSpanProcessor processor;
+
+    @Test
+    void slowTracesAreKeptWithTheirChildren() {
+        Tracer tracer = tracer(0.0, 10);
+        Span root = root(tracer, "GET /api/players");
+        end(child(tracer, root, "PlayerRepository.findAll"), 100);
+
+        end(root, 800);
+
+        assertEquals(List.of("PlayerRepository.findAll", "GET /api/players"), exported);
+    }
+
+    @Test
+    void aFailedChildKeepsAFastTrace() {
+        Tracer tracer = tracer(0.0, 10);
+        Span root = root(tracer, "POST /api/players");
+        Span failing = child(tracer, root, "PlayerRepository.save");
+        failing.setStatus(StatusCode.ERROR);
+        end(failing, 5);
+        end(child(tracer, root, "SportRepository.findByCode"), 5);
+
+        end(root, 20);
+
+        assertEquals(List.of("PlayerRepository.save", "SportRepository.findByCode", "POST /api/players"), exported);
+    }
+
+    @Test
+    void aFailedRootIsKept() {
+        Tracer tracer = tracer(0.0, 10);
+        Span root = root(tracer, "GET /api/health");
+        root.setStatus(StatusCode.ERROR);
+
+        end(root, 1);
+
+        assertEquals(List.of("GET /api/health"), exported);
+    }
+
+    @Test
+    void fastHealthyTracesAreDroppedOutsideTheBaseline() {
+        Tracer tracer = tracer(0.0, 10);
+        Span root = root(tracer, "GET /api/health");
+        end(child(tracer, root, "UserRepository.findById"), 1);
+
+        end(root, 499);
+
+        assertEquals(List.of(), exported);
+        assertEquals(0, processor.pendingTraces());
+    }
+
+    @Test
+    void theBaselineRatioKeepsFastHealthyTraces() {
+        Tracer tracer = tracer(1.0, 10);
+        Span root = root(tracer, "GET /api/health");
+        end(child(tracer, root, "UserRepository.findById"), 1);
+
+        end(root, 2);
+
+        assertEquals(List.of("UserRepository.findById", "GET /api/health"), exported);
+    }
+
+    @Test
+    void theOldestPendingTraceIsEvictedFirst() {
+        Tracer tracer = tracer(1.0, 2);
+        Span first = root(tracer, "first");
+        Span second = root(tracer, "second");
+        Span third = root(tracer, "third");
+        end(child(tracer, first, "first.child"), 1);
+        end(child(tracer, second, "second.child"), 1);
+        end(child(tracer, first, "first.child2"), 1); // A later span does not make a trace younger
+        end(child(tracer, third, "third.child"), 1);
+
+        assertEquals(2, processor.pendingTraces());
+
+        end(first, 2);
+        end(second, 2);
+        end(third, 2);
+
+        assertEquals(List.of("first", "second.child", "second", "third.child", "third"), exported);
+    }
+
+    private Tracer tracer(double baselineRatio, int maxPendingTraces) {
+        processor = new TailSamplingSpanProcessor(new Recorder(), SLOW_THRESHOLD, baselineRatio, maxPendingTraces);
+        return SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+    }
+
+    private static Span root(Tracer tracer, String name) {
+        return tracer.spanBuilder(name).setNoParent().setStartTimestamp(START, TimeUnit.NANOSECONDS).startSpan();
+    }
+
+    private static Span child(Tracer tracer, Span parent, String name) {
+        return tracer.spanBuilder(name).setParent(Context.root().with(parent))
+            .setStartTimestamp(START, TimeUnit.NANOSECONDS).startSpan();
+    }
+
+    private static void end(Span span, long millis) {
+        span.end(START + TimeUnit.MILLISECONDS.toNanos(millis), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Downstream processor that only remembers the names of the spans handed to it
+     */
+    private final class Recorder implements SpanProcessor {
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            exported.add(span.getName());
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.wesports.backend.infrastructure.persistence.mapper;
+
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.persistence.entity.PlayerEntity;
+import com.wesports.backend.infrastructure.persistence.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The optimistic-lock versions survive a trip through the mappers in both directions;
+ * a null version is kept as null, which is how Spring Data tells a new entity from a loaded one
+ */
+class EntityVersionMappingTests {
+
+    private final UserMapper userMapper = new UserMapper();
+    private final PlayerMapper playerMapper = new PlayerMapper();
+
+    @Test
+    void userVersionRoundTrips() {
+        User user = new User("Jane", "Doe", Email.of("jane@club.com"), null, null);
+        user.setVersion(7L);
+
+        UserEntity entity = userMapper.toEntity(user);
+        assertEquals(Long.valueOf(7), entity.getVersion());
+
+        entity.setVersion(8L);
+        assertEquals(Long.valueOf(8), userMapper.toDomain(entity).getVersion());
+    }
+
+    @Test
+    void playerVersionRoundTrips() {
+        Player player = new Player(UserId.of(UUID.randomUUID()));
+        player.setVersion(4L);
+
+        PlayerEntity entity = playerMapper.toEntity(player);
+        assertEquals(Long.valueOf(4), entity.getVersion());
+
+        entity.setVersion(5L);
+        assertEquals(Long.valueOf(5), playerMapper.toDomain(entity).getVersion());
+    }
+
+    @Test
+    void newAggregatesStayUnversioned() {
+        User user = new User("Jane", "Doe", Email.of("jane@club.com"), null, null);
+        Player player = new Player(UserId.of(UUID.randomUUID()));
+
+        assertNull(userMapper.toDomain(userMapper.toEntity(user)).getVersion());
+        assertNull(playerMapper.toDomain(playerMapper.toEntity(player)).getVersion());
+    }
+}
@@ -0,0 +1,397 @@
+package com.wesports.backend.infrastructure.persistence.migration;
+
+import com.wesports.backend.domain.model.PlayerSport;
+import com.wesports.backend.domain.valueobject.AuthMethodType;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.Email;
+import com.wesports.backend.domain.valueobject.PlayerId;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.PlayerSearchCursor;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import com.wesports.backend.domain.valueobject.SportId;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.persistence.jpa.SpringOTPRepository;
+import com.wesports.backend.infrastructure.persistence.jpa.SpringPlayerSportRepository;
+import com.wesports.backend.infrastructure.persistence.jpa.SpringSportRepository;
+import com.wesports.backend.infrastructure.persistence.jpa.SpringUserAuthMethodRepository;
+import com.wesports.backend.infrastructure.persistence.jpa.SpringUserRepository;
+import com.wesports.backend.infrastructure.persistence.mapper.JdbcEntityRowMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.OTPMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.PlayerMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.PlayerSportMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.SportMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.UserAuthMethodMapper;
+import com.wesports.backend.infrastructure.persistence.mapper.UserMapper;
+import com.wesports.backend.infrastructure.persistence.repository.OTPRepositoryAdapter;
+import com.wesports.backend.infrastructure.persistence.repository.PlayerProfileRepositoryAdapter;
+import com.wesports.backend.infrastructure.persistence.repository.PlayerSearchRepositoryAdapter;
+import com.wesports.backend.infrastructure.persistence.repository.PlayerSportRepositoryAdapter;
+import com.wesports.backend.infrastructure.persistence.repository.SportRepositoryAdapter;
+import com.wesports.backend.infrastructure.persistence.repository.UserAuthMethodRepositoryAdapter;
+import com.wesports.backend.infrastructure.persistence.repository.UserRepositoryAdapter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies the migrations to a throw-away schema, fills it with generated rows, calls the repository
+ * adapters and checks that none of the statements they send is planned as a sequential scan
+ * The adapters run on the real JPA repositories and JDBC templates over a data source that records
+ * each prepared statement with its bound parameters; every recorded statement is then EXPLAINed with
+ * the same parameters. Calls run in a transaction that is rolled back.
+ * Listings of whole tables (findAll, findAllActive) are left out: a sequential scan is the right plan there.
+ * Needs PostgreSQL: runs only when SPRING_DATASOURCE_URL points at one (credentials from
+ * SPRING_DATASOURCE_USERNAME / SPRING_DATASOURCE_PASSWORD). The schema is dropped afterwards.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = "jdbc:postgresql:.*")
+class MigrationIndexUsageTests {
+
+    private static final int ROWS = 50_000;
+    private static final int SPORTS = 2_000;
+
+    private final String schema = "migration_check_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    private final List<RecordedStatement> recorded = new ArrayList<>();
+    private Connection connection;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private TransactionTemplate transactions;
+
+    private OTPRepositoryAdapter otps;
+    private UserAuthMethodRepositoryAdapter authMethods;
+    private UserRepositoryAdapter users;
+    private SportRepositoryAdapter sports;
+    private PlayerSportRepositoryAdapter playerSports;
+    private PlayerProfileRepositoryAdapter profiles;
+    private PlayerSearchRepositoryAdapter search;
+
+    @BeforeAll
+    void migrateAndGenerateData() throws SQLException {
+        String url = System.getenv("SPRING_DATASOURCE_URL");
+        String username = System.getenv("SPRING_DATASOURCE_USERNAME");
+        String password = System.getenv("SPRING_DATASOURCE_PASSWORD");
+
+        Flyway.configure()
+            .dataSource(url, username, password)
+            .schemas(schema)
+            .createSchemas(true)
+            .load()
+            .migrate();
+
+        connection = DriverManager.getConnection(url, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + schema);
+            statement.execute(
+                "INSERT INTO users (id, first_name, last_name, email, created_at, email_verified, " +
+                "registration_step, user_role, nationality, languages) " +
+                "SELECT md5(g::text)::uuid, 'First' || g, 'Last' || g, 'user' || g || '@example.com', " +
+                "now() - g * interval '1 minute', TRUE, 'COMPLETED', 'PLAYER', 'N' || (g % 200), " +
+                "CASE WHEN g % 500 = 0 THEN ARRAY['sw', 'en'] ELSE ARRAY['en', 'fr'] END " +
+                "FROM generate_series(1, " + ROWS + ") g");
+            // Heights in meters (1.50 - 1.99), weights in kilograms (50 - 89)
+            statement.execute(
+                "INSERT INTO players (id, height, weight, position, category, preferred_foot, created_at, active) " +
+                "SELECT md5(g::text)::uuid, (1.50 + (g % 50) / 100.0)::real, 50 + g % 40, " +
+                "(ARRAY['GK','CB','LB','RB','LWB','RWB','CDM','CM','CAM','LM','RM','LW','RW','ST','CF','LF','RF'])[1 + g % 17], " +
+                "(ARRAY['U13','U14','U15','U16','U17','U18','U19','SENIOR'])[1 + g % 8], " +
+                "(ARRAY['LEFT','RIGHT','BOTH'])[1 + g % 3], now() - g * interval '1 minute', g % 10 <> 0 " +
+                "FROM generate_series(1, " + ROWS + ") g");
+            // Far more sports than a real catalogue holds: with a page or two of rows every plan is a scan
+            statement.execute(
+                "INSERT INTO sports (id, name, code, active, created_at) " +
+                "SELECT md5('sport' || g)::uuid, 'Sport ' || g, 'SPORT_' || g, g % 10 <> 0, now() " +
+                "FROM generate_series(0, " + (SPORTS - 1) + ") g");
+            statement.execute(
+                "INSERT INTO playersport (id, user_id, player_id, sport_id, created_at, active) " +
+                "SELECT md5('ps' || g)::uuid, md5(g::text)::uuid, md5(g::text)::uuid, md5('sport' || (g % 1000))::uuid, " +
+                "now(), g % 10 <> 0 FROM generate_series(1, " + ROWS + ") g");
+            statement.execute(
+                "INSERT INTO user_auth_methods (id, user_id, auth_method_type, auth_method_name, email, external_id, " +
+                "is_primary, is_active, created_at) " +
+                "SELECT md5('am' || g)::uuid, md5(g::text)::uuid, " +
+                "CASE WHEN g % 3 = 0 THEN 'GOOGLE' ELSE 'WESPORT' END, 'method', 'user' || g || '@example.com', " +
+                "CASE WHEN g % 3 = 0 THEN 'google-' || g END, TRUE, g % 20 <> 0, now() " +
+                "FROM generate_series(1, " + ROWS + ") g");
+            statement.execute(
+                "INSERT INTO otp (id, user_id, otp_code, created_at, attempts, type) " +
+                "SELECT md5('otp' || g)::uuid, md5(g::text)::uuid, '123456', now() - (g % 1440) * interval '1 minute', " +
+                "g % 4, 'REGISTRATION' FROM generate_series(1, " + ROWS + ") g");
+            statement.execute("ANALYZE");
+        }
+
+        DriverManagerDataSource target = new DriverManagerDataSource(url, username, password);
+        Properties schemaProperty = new Properties();
+        schemaProperty.setProperty("currentSchema", schema);
+        target.setConnectionProperties(schemaProperty);
+        RecordingDataSource dataSource = new RecordingDataSource(target, recorded);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.wesports.backend.infrastructure.persistence.entity");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        transactions = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        otps = new OTPRepositoryAdapter(repositories.getRepository(SpringOTPRepository.class), new OTPMapper());
+        authMethods = new UserAuthMethodRepositoryAdapter(
+            repositories.getRepository(SpringUserAuthMethodRepository.class), new UserAuthMethodMapper());
+        users = new UserRepositoryAdapter(repositories.getRepository(SpringUserRepository.class), new UserMapper());
+        sports = new SportRepositoryAdapter(repositories.getRepository(SpringSportRepository.class), new SportMapper());
+        playerSports = new PlayerSportRepositoryAdapter(repositories.getRepository(SpringPlayerSportRepository.class),
+            new PlayerSportMapper(), jdbcTemplate, namedParameterJdbcTemplate);
+        profiles = new PlayerProfileRepositoryAdapter(jdbcTemplate, new JdbcEntityRowMapper(), new UserMapper(),
+            new PlayerMapper());
+        search = new PlayerSearchRepositoryAdapter(namedParameterJdbcTemplate);
+    }
+
+    @AfterAll
+    void dropSchema() throws SQLException {
+        if (entityManagerFactoryBean != null) {
+            entityManagerFactoryBean.destroy();
+        }
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * One adapter call per lookup, with arguments taken from the generated data
+     */
+    Stream<Arguments> adapterCalls() {
+        UserId user = UserId.of(uuid(4242));
+        PlayerId player = PlayerId.of(uuid(4242));
+        SportId sport = SportId.of(uuid("sport7"));
+        Email email = Email.of("user4242@example.com");
+        LocalDateTime expired = LocalDateTime.now().minusDays(2);
+        return Stream.of(
+            call("OTP findByUserIdAndType", () -> otps.findByUserIdAndType(user, "REGISTRATION")),
+            call("OTP findValidOTPByUserIdAndType", () -> otps.findValidOTPByUserIdAndType(user, "REGISTRATION")),
+            call("OTP findByUserId", () -> otps.findByUserId(user)),
+            call("OTP findExpiredOTPs", () -> otps.findExpiredOTPs()),
+            call("OTP deleteByUserId", () -> otps.deleteByUserId(user)),
+            call("OTP deleteExpiredOTPs", () -> otps.deleteExpiredOTPs()),
+            call("OTP deleteByCreatedAtBefore", () -> otps.deleteByCreatedAtBefore(expired)),
+            call("UserAuthMethod findByUserId", () -> authMethods.findByUserId(user)),
+            call("UserAuthMethod findActiveByUserId", () -> authMethods.findActiveByUserId(user)),
+            call("UserAuthMethod findPrimaryByUserId", () -> authMethods.findPrimaryByUserId(user)),
+            call("UserAuthMethod findByUserIdAndAuthType",
+                () -> authMethods.findByUserIdAndAuthType(user, AuthMethodType.WESPORT)),
+            call("UserAuthMethod findByEmailAndAuthType",
+                () -> authMethods.findByEmailAndAuthType(email, AuthMethodType.WESPORT)),
+            call("UserAuthMethod findByExternalIdAndAuthType",
+                () -> authMethods.findByExternalIdAndAuthType("google-4242", AuthMethodType.GOOGLE)),
+            call("UserAuthMethod existsByUserIdAndAuthType",
+                () -> authMethods.existsByUserIdAndAuthType(user, AuthMethodType.GOOGLE)),
+            call("UserAuthMethod existsByEmailAndAuthType",
+                () -> authMethods.existsByEmailAndAuthType(email, AuthMethodType.GOOGLE)),
+            call("UserAuthMethod deleteByUserId", () -> authMethods.deleteByUserId(user)),
+            call("User findByEmail", () -> users.findByEmail(email)),
+            call("User existsByEmail", () -> users.existsByEmail(email)),
+            call("User findRegistrationStep", () -> users.findRegistrationStep(user)),
+            call("Sport findByCode", () -> sports.findByCode("SPORT_7")),
+            call("Sport findByName", () -> sports.findByName("sport 7")),
+            call("Sport existsByCode", () -> sports.existsByCode("SPORT_7")),
+            call("Sport existsByName", () -> sports.existsByName("SPORT 7")),
+            call("PlayerSport findActiveByUserId", () -> playerSports.findActiveByUserId(user)),
+            call("PlayerSport findActiveByPlayerId", () -> playerSports.findActiveByPlayerId(player)),
+            call("PlayerSport findActiveBySportId", () -> playerSports.findActiveBySportId(sport)),
+            call("PlayerSport findActiveAssociation",
+                () -> playerSports.findActiveAssociation(user, player, SportId.of(uuid("sport242")))),
+            call("PlayerSport existsActiveAssociation",
+                () -> playerSports.existsActiveAssociation(user, player, sport)),
+            call("PlayerSport insertMissing",
+                () -> playerSports.insertMissing(List.of(new PlayerSport(user, player, sport)))),
+            call("PlayerProfile findByUserId", () -> profiles.findByUserId(user)),
+            call("PlayerProfile findVersionByUserId", () -> profiles.findVersionByUserId(user)),
+            call("PlayerSearch position and category", () -> search.search(new PlayerSearchCriteria(
+                Set.of(Position.ST), Set.of(Category.U17), null, null, null, null, null, null, null), null, 21)),
+            call("PlayerSearch category", () -> search.search(new PlayerSearchCriteria(
+                null, Set.of(Category.SENIOR), null, null, null, null, null, null, null), null, 21)),
+            call("PlayerSearch preferred foot", () -> search.search(new PlayerSearchCriteria(
+                null, null, PreferredFoot.LEFT, null, null, null, null, null, null), null, 21)),
+            call("PlayerSearch height range", () -> search.search(new PlayerSearchCriteria(
+                null, null, null, 1.985f, 1.995f, null, null, null, null), null, 21)),
+            call("PlayerSearch weight range", () -> search.search(new PlayerSearchCriteria(
+                null, null, null, null, null, 88.5f, 89.5f, null, null), null, 21)),
+            call("PlayerSearch nationality", () -> search.search(new PlayerSearchCriteria(
+                null, null, null, null, null, null, null, "N42", null), null, 21)),
+            call("PlayerSearch language", () -> search.search(new PlayerSearchCriteria(
+                null, null, null, null, null, null, null, null, List.of("sw")), null, 21)),
+            call("PlayerSearch next page", () -> search.search(PlayerSearchCriteria.any(),
+                new PlayerSearchCursor(LocalDateTime.now().minusDays(20), uuid(28_800)), 21))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("adapterCalls")
+    void adapterStatementsUseAnIndex(String name, Runnable call) throws SQLException {
+        recorded.clear();
+        transactions.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            call.run();
+        });
+        assertFalse(recorded.isEmpty(), name + " sent no statement");
+
+        for (RecordedStatement statement : List.copyOf(recorded)) {
+            List<String> plan = explain(statement);
+            assertTrue(plan.stream().noneMatch(line -> line.toLowerCase(Locale.ROOT).contains("seq scan")),
+                () -> name + " is planned as a sequential scan:\n" + statement.sql() + "\n" + String.join("\n", plan));
+        }
+    }
+
+    private List<String> explain(RecordedStatement recordedStatement) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + recordedStatement.sql())) {
+            for (Binding binding : recordedStatement.bindings().values()) {
+                try {
+                    binding.setter().invoke(statement, binding.arguments());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new SQLException("Cannot re-bind " + binding.setter().getName(), e);
+                }
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.add(rs.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+
+    private static Arguments call(String name, Runnable call) {
+        return Arguments.of(name, call);
+    }
+
+    /**
+     * Same value as md5(seed)::uuid in the generating SQL
+     */
+    private static UUID uuid(Object seed) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5")
+                .digest(String.valueOf(seed).getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Binding(Method setter, Object[] arguments) {
+    }
+
+    private record RecordedStatement(String sql, Map<Integer, Binding> bindings) {
+    }
+
+    /**
+     * Hands out connections whose prepared statements remember their SQL and the last value bound to
+     * each parameter (setString, setObject, ...), so a batch is recorded with its last row
+     */
+    private static final class RecordingDataSource extends DelegatingDataSource {
+
+        private final List<RecordedStatement> recorded;
+
+        RecordingDataSource(DriverManagerDataSource target, List<RecordedStatement> recorded) {
+            super(target);
+            this.recorded = recorded;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement prepared) {
+                        RecordedStatement statement = new RecordedStatement((String) args[0], new TreeMap<>());
+                        recorded.add(statement);
+                        return recording(prepared, statement);
+                    }
+                    return result;
+                });
+        }
+
+        private PreparedStatement recording(PreparedStatement prepared, RecordedStatement statement) {
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set") && args != null && args.length >= 2
+                            && args[0] instanceof Integer index) {
+                        statement.bindings().put(index, new Binding(method, args.clone()));
+                    }
+                    return invoke(prepared, method, args);
+                });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.wesports.backend.infrastructure.persistence.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs R__reference_data.sql through Flyway on the H2 schema of the loadtest profile, with the seed location
+ * added by the same customizer the application uses; the seed must leave the same rows however often it runs
+ */
+class ReferenceDataSeedTests {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:reference-data;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("SHUTDOWN");
+    }
+
+    @Test
+    void theSeedIsAppliedOnceAndSkippedWhileUnchanged() {
+        MigrateResult first = flyway("flyway_schema_history").migrate();
+        MigrateResult second = flyway("flyway_schema_history").migrate();
+
+        assertEquals(2, first.migrationsExecuted);
+        assertEquals(0, second.migrationsExecuted);
+        assertSeeded();
+    }
+
+    @Test
+    void reapplyingTheSeedKeepsTheRowCounts() {
+        flyway("flyway_schema_history").migrate();
+
+        // A second history table makes Flyway run the repeatable migration again over the seeded rows
+        MigrateResult rerun = Flyway.configure()
+            .dataSource(dataSource)
+            .locations(FlywayMigrationConfig.SEED_LOCATION)
+            .table("seed_rerun_history")
+            .baselineOnMigrate(true)
+            .load()
+            .migrate();
+
+        assertEquals(1, rerun.migrationsExecuted);
+        assertSeeded();
+    }
+
+    @Test
+    void existingRowsWithTheSameCodeAreLeftAsTheyAre() {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/loadtest").load().migrate();
+        jdbc.update("INSERT INTO languages (id, name, code, is_active) VALUES "
+            + "('5d3c1c52-7b1e-4f8e-9a55-0f6f2f0e1a11', 'English (UK)', 'en', FALSE)");
+        jdbc.update("INSERT INTO sports (id, name, code, description, active, created_at) VALUES "
+            + "('8a7f7c3e-2f4b-4a7d-8d0e-6c5b4a3f2e1d', 'Soccer', 'FOOTBALL', NULL, TRUE, CURRENT_TIMESTAMP)");
+
+        flyway("flyway_schema_history").migrate();
+
+        assertSeeded();
+        assertEquals("English (UK)", jdbc.queryForObject("SELECT name FROM languages WHERE code = 'en'", String.class));
+        assertEquals("Soccer", jdbc.queryForObject("SELECT name FROM sports WHERE code = 'FOOTBALL'", String.class));
+    }
+
+    private Flyway flyway(String historyTable) {
+        FluentConfiguration configuration = Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/loadtest")
+            .table(historyTable);
+        new FlywayMigrationConfig().referenceDataSeed().customize(configuration);
+        return configuration.load();
+    }
+
+    private void assertSeeded() {
+        assertEquals(List.of("ar", "en", "fr"),
+            jdbc.queryForList("SELECT code FROM languages ORDER BY code", String.class));
+        assertEquals(List.of("FOOTBALL"), jdbc.queryForList("SELECT code FROM sports", String.class));
+    }
+}
@@ -0,0 +1,109 @@
+package com.wesports.backend.infrastructure.persistence.repository;
+
+import com.wesports.backend.domain.model.PlayerSummary;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.PlayerSearchCursor;
+import com.wesports.backend.domain.valueobject.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the generated SQL against an in-memory H2 database holding the searched columns of users and players
+ */
+class PlayerSearchRepositoryAdapterTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 9, 17, 45);
+
+    private JdbcTemplate jdbc;
+    private PlayerSearchRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:player-search;DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE users (id UUID PRIMARY KEY, first_name VARCHAR(255), last_name VARCHAR(255), " +
+            "nationality VARCHAR(255), languages VARCHAR(255) ARRAY)");
+        jdbc.execute("CREATE TABLE players (id UUID PRIMARY KEY, position VARCHAR(255), category VARCHAR(255), " +
+            "preferred_foot VARCHAR(255), height REAL, weight REAL, profile_photo_url VARCHAR(255), " +
+            "created_at TIMESTAMP(6) NOT NULL, active BOOLEAN NOT NULL)");
+        adapter = new PlayerSearchRepositoryAdapter(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("SHUTDOWN");
+    }
+
+    @Test
+    void playersCreatedAtTheSameInstantAreSplitByIdAcrossPages() {
+        Set<UUID> expected = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(insert(CREATED_AT, "ST", true));
+        }
+        expected.add(insert(CREATED_AT.plusSeconds(1), "ST", true));
+
+        List<UUID> visited = new ArrayList<>();
+        PlayerSearchCursor after = null;
+        List<PlayerSummary> page;
+        do {
+            page = adapter.search(PlayerSearchCriteria.any(), after, 2);
+            page.forEach(row -> visited.add(row.id().getValue()));
+            if (!page.isEmpty()) {
+                PlayerSummary last = page.get(page.size() - 1);
+                after = new PlayerSearchCursor(last.createdAt(), last.id().getValue());
+            }
+        } while (page.size() == 2);
+
+        assertEquals(6, visited.size());
+        assertEquals(expected, Set.copyOf(visited));
+    }
+
+    @Test
+    void resultsAreOrderedByCreationAndLimited() {
+        UUID second = insert(CREATED_AT.plusMinutes(1), "ST", true);
+        UUID first = insert(CREATED_AT, "ST", true);
+        insert(CREATED_AT.plusMinutes(2), "ST", true);
+
+        List<PlayerSummary> rows = adapter.search(PlayerSearchCriteria.any(), null, 2);
+
+        assertEquals(List.of(first, second), rows.stream().map(row -> row.id().getValue()).toList());
+        assertEquals(CREATED_AT, rows.get(0).createdAt());
+        assertEquals(List.of("fr", "en"), rows.get(0).languages());
+    }
+
+    @Test
+    void inactivePlayersAndOtherPositionsAreFilteredOut() {
+        UUID striker = insert(CREATED_AT, "ST", true);
+        insert(CREATED_AT, "ST", false);
+        insert(CREATED_AT, "GK", true);
+
+        List<PlayerSummary> rows = adapter.search(new PlayerSearchCriteria(Set.of(Position.ST), null, null,
+            null, null, null, null, null, null), null, 10);
+
+        assertEquals(List.of(striker), rows.stream().map(row -> row.id().getValue()).toList());
+        assertTrue(rows.get(0).height() > 1.0f);
+    }
+
+    private UUID insert(LocalDateTime createdAt, String position, boolean active) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("INSERT INTO users (id, first_name, last_name, languages) VALUES (?, 'Jane', 'Doe', ARRAY['fr', 'en'])",
+            id);
+        jdbc.update("INSERT INTO players (id, position, height, weight, created_at, active) VALUES (?, ?, 1.68, 58, ?, ?)",
+            id, position, createdAt, active);
+        return id;
+    }
+}
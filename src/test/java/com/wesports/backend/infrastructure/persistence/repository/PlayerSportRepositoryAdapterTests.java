@@ -0,0 +1,164 @@
+package com.wesports.backend.infrastructure.persistence.repository;
+
+import com.wesports.backend.application.service.PlayerSportServiceImpl;
+import com.wesports.backend.domain.model.PlayerSport;
+import com.wesports.backend.domain.valueobject.PlayerId;
+import com.wesports.backend.domain.valueobject.SportId;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.persistence.mapper.PlayerSportMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Batched inserts of sport links against the H2 schema of the loadtest profile, whose unique index
+ * stands in for PostgreSQL's partial ux_playersport_active_link
+ */
+class PlayerSportRepositoryAdapterTests {
+
+    private static final UserId USER = UserId.of(UUID.fromString("6f1c2b9e-3a4d-4e5f-8a7b-1c2d3e4f5a6b"));
+    private static final PlayerId PLAYER = PlayerId.of(USER.getValue());
+    private static final SportId FOOTBALL = SportId.of(UUID.fromString("0b6a3f9c-1d2e-4f3a-9b8c-7d6e5f4a3b2c"));
+    private static final SportId BASKETBALL = SportId.of(UUID.fromString("1c7b4a0d-2e3f-4a5b-8c9d-0e1f2a3b4c5d"));
+
+    private JdbcTemplate jdbc;
+    private PlayerSportRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:player-sport;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/loadtest/V1__schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        adapter = adapter(jdbc, dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("SHUTDOWN");
+    }
+
+    @Test
+    void newLinksAreInsertedAndReturned() {
+        List<PlayerSport> links = List.of(link(FOOTBALL), link(BASKETBALL));
+
+        List<PlayerSport> inserted = adapter.insertMissing(links);
+
+        assertEquals(links, inserted);
+        assertEquals(2, activeLinks());
+    }
+
+    @Test
+    void linksThatAlreadyExistAreSkipped() {
+        adapter.insertMissing(List.of(link(FOOTBALL)));
+        PlayerSport basketball = link(BASKETBALL);
+
+        List<PlayerSport> inserted = adapter.insertMissing(List.of(link(FOOTBALL), basketball));
+
+        assertEquals(List.of(basketball), inserted);
+        assertEquals(2, activeLinks());
+    }
+
+    @Test
+    void anInactiveLinkDoesNotBlockANewOne() {
+        jdbc.update("INSERT INTO playersport (id, user_id, player_id, sport_id, created_at, active) " +
+                "VALUES (?, ?, ?, ?, ?, FALSE)",
+            UUID.randomUUID(), USER.getValue(), PLAYER.getValue(), FOOTBALL.getValue(), LocalDateTime.now());
+        PlayerSport football = link(FOOTBALL);
+
+        assertEquals(List.of(football), adapter.insertMissing(List.of(football)));
+    }
+
+    @Test
+    void withoutPerRowCountsTheInsertedLinksAreLookedUpById() {
+        adapter.insertMissing(List.of(link(FOOTBALL)));
+        DataSource dataSource = jdbc.getDataSource();
+        PlayerSportRepositoryAdapter rewritingDriver = adapter(new NoRowCountsJdbcTemplate(dataSource), dataSource);
+        PlayerSport basketball = link(BASKETBALL);
+
+        List<PlayerSport> inserted = rewritingDriver.insertMissing(List.of(link(FOOTBALL), basketball));
+
+        assertEquals(List.of(basketball), inserted);
+    }
+
+    @Test
+    void nothingToInsertRunsNoStatement() {
+        PlayerSportRepositoryAdapter noDatabase = new PlayerSportRepositoryAdapter(null, new PlayerSportMapper(),
+            null, null);
+
+        assertTrue(noDatabase.insertMissing(List.of()).isEmpty());
+    }
+
+    @Test
+    void createAssociationsReturnsOnlyTheNewLinks() {
+        PlayerSportServiceImpl service = new PlayerSportServiceImpl(adapter);
+        service.createAssociation(USER, PLAYER, FOOTBALL);
+
+        List<PlayerSport> created = service.createAssociations(USER, PLAYER, Set.of(FOOTBALL, BASKETBALL));
+
+        assertEquals(1, created.size());
+        assertEquals(BASKETBALL, created.get(0).getSportId());
+    }
+
+    @Test
+    void createAssociationFailsWhenTheLinkAlreadyExists() {
+        PlayerSportServiceImpl service = new PlayerSportServiceImpl(adapter);
+        PlayerSport created = service.createAssociation(USER, PLAYER, FOOTBALL);
+        assertEquals(FOOTBALL, created.getSportId());
+
+        assertThrows(IllegalStateException.class, () -> service.createAssociation(USER, PLAYER, FOOTBALL));
+        assertEquals(1, activeLinks());
+    }
+
+    private int activeLinks() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM playersport WHERE active", Integer.class);
+    }
+
+    private static PlayerSport link(SportId sport) {
+        return new PlayerSport(USER, PLAYER, sport);
+    }
+
+    private static PlayerSportRepositoryAdapter adapter(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        return new PlayerSportRepositoryAdapter(null, new PlayerSportMapper(), jdbcTemplate,
+            new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    /**
+     * Reports SUCCESS_NO_INFO for every row, as PostgreSQL's driver does once reWriteBatchedInserts merges a batch
+     */
+    private static final class NoRowCountsJdbcTemplate extends JdbcTemplate {
+
+        NoRowCountsJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            int[][] counts = super.batchUpdate(sql, batchArgs, batchSize, pss);
+            for (int[] batch : counts) {
+                Arrays.fill(batch, Statement.SUCCESS_NO_INFO);
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes between two embedded H2 databases, each of which knows its own name
+ */
+class ReadWriteRoutingDataSourceTests {
+
+    private ReadYourWritesTracker tracker;
+    private ReplicaDataSourcePool replicaPool;
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaStatus;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaStatus = new JdbcTemplate(replica);
+        replicaStatus.execute("CREATE TABLE replica_status (lag_millis BIGINT)");
+        replicaStatus.update("INSERT INTO replica_status VALUES (0)");
+
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        replicaPool = new ReplicaDataSourcePool(primary, Map.of("replica-1", replica), tracker,
+            Duration.ofSeconds(2), "SELECT lag_millis FROM replica_status");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicaPool, tracker);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.clear();
+        primaryJdbc.execute("SHUTDOWN");
+        replicaStatus.execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readWriteTransactionsGoToThePrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    @Test
+    void userInsideTheReadYourWritesWindowReadsFromThePrimary() {
+        tracker.recordWrite("user-1");
+
+        tracker.bind("user-1");
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        tracker.bind("user-2");
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readsAfterAWriteInTheSameRequestStayOnThePrimary() {
+        tracker.bind(null);
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void writeTimeCarriedByTheClientKeepsItsReadsOnThePrimary() {
+        tracker.bind("user-1", System.currentTimeMillis() - 1000);
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        tracker.bind("user-1", System.currentTimeMillis() - 60_000);
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void explicitCredentialsGoToThePrimary() throws SQLException {
+        try (Connection connection = replicaPool.getConnection("sa", "")) {
+            assertEquals("primary", new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                .queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimaryUntilItCatchesUp() {
+        replicaStatus.update("UPDATE replica_status SET lag_millis = 30000");
+        replicaPool.checkLag();
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        replicaStatus.update("UPDATE replica_status SET lag_millis = 100");
+        replicaPool.checkLag();
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,168 @@
+package com.wesports.backend.infrastructure.persistence.routing;
+
+import com.wesports.backend.infrastructure.security.JwtAuthenticationFilter.JwtUserPrincipal;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Requests as another node would see them: only a token signed with the shared secret, carried back
+ * by the user it was issued to, can pin them
+ */
+class ReadYourWritesInterceptorTests {
+
+    private static final String USER = "2b7c6f0e-5f7a-4f43-a0c5-3b1d2b9a8e01";
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+    private final ReadYourWritesToken tokens = new ReadYourWritesToken("shared-secret");
+    private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(tracker, tokens);
+
+    @AfterEach
+    void tearDown() {
+        tracker.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void mutatingRequestsHandTheUserASignedWriteTime() {
+        authenticate(USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(new MockHttpServletRequest("PUT", "/api/player/profile"), response, null);
+
+        String token = response.getHeader(ReadYourWritesInterceptor.HEADER);
+        long writtenAt = tokens.verify(token, USER);
+        assertTrue(Math.abs(System.currentTimeMillis() - writtenAt) < 1000);
+        String cookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertTrue(cookie.startsWith("read_your_writes=" + token + ";"));
+        assertTrue(cookie.contains("HttpOnly"));
+        assertTrue(cookie.contains("Max-Age=6"));
+    }
+
+    @Test
+    void safeAndAnonymousRequestsGetNoToken() {
+        MockHttpServletResponse anonymousWrite = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/auth/register/start"), anonymousWrite, null);
+        authenticate(USER);
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/player/me"), read, null);
+
+        for (MockHttpServletResponse response : List.of(anonymousWrite, read)) {
+            assertNull(response.getHeader(ReadYourWritesInterceptor.HEADER));
+            assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+        }
+    }
+
+    @Test
+    void aTokenFromTheHeaderPinsTheUsersReadsToThePrimary() {
+        authenticate(USER);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/me");
+        request.addHeader(ReadYourWritesInterceptor.HEADER, tokens.issue(USER, System.currentTimeMillis() - 1000));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        assertTrue(tracker.requiresPrimary());
+    }
+
+    @Test
+    void aTokenFromTheCookiePinsTheUsersReadsToThePrimary() {
+        authenticate(USER);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/me");
+        request.setCookies(new Cookie("read_your_writes", tokens.issue(USER, System.currentTimeMillis())));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        assertTrue(tracker.requiresPrimary());
+    }
+
+    @Test
+    void madeUpOrTamperedWriteTimesAreIgnored() {
+        authenticate(USER);
+        long now = System.currentTimeMillis();
+        String signed = tokens.issue(USER, now - 60_000);
+        String[] values = {
+            Long.toString(now),
+            now + "." + signed.substring(signed.indexOf('.') + 1),
+            new ReadYourWritesToken("another-secret").issue(USER, now),
+            "soon"
+        };
+        for (String value : values) {
+            assertFalse(pins(value), value);
+        }
+    }
+
+    @Test
+    void tokensIssuedToAnotherUserOrToNobodyAreIgnored() {
+        String othersToken = tokens.issue("someone-else", System.currentTimeMillis());
+
+        assertFalse(pins(othersToken));
+        authenticate(USER);
+        assertFalse(pins(othersToken));
+    }
+
+    @Test
+    void expiredOrFarFutureTokensAreIgnored() {
+        authenticate(USER);
+        long now = System.currentTimeMillis();
+
+        assertFalse(pins(tokens.issue(USER, now - 60_000)));
+        assertFalse(pins(tokens.issue(USER, now + 60_000)));
+    }
+
+    @Test
+    void withoutASecretNothingIsIssuedOrHonoured() {
+        ReadYourWritesInterceptor unsigned = new ReadYourWritesInterceptor(tracker, new ReadYourWritesToken(""));
+        authenticate(USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        unsigned.preHandle(new MockHttpServletRequest("PUT", "/api/player/profile"), response, null);
+        assertNull(response.getHeader(ReadYourWritesInterceptor.HEADER));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/me");
+        request.addHeader(ReadYourWritesInterceptor.HEADER, tokens.issue(USER, System.currentTimeMillis()));
+        unsigned.preHandle(request, new MockHttpServletResponse(), null);
+
+        assertFalse(tracker.requiresPrimary());
+    }
+
+    @Test
+    void theBindingEndsWithTheRequest() {
+        authenticate(USER);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/me");
+        request.addHeader(ReadYourWritesInterceptor.HEADER, tokens.issue(USER, System.currentTimeMillis()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertFalse(tracker.requiresPrimary());
+        assertEquals(Duration.ofSeconds(5), tracker.window());
+    }
+
+    private boolean pins(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/me");
+        request.addHeader(ReadYourWritesInterceptor.HEADER, token);
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        boolean pinned = tracker.requiresPrimary();
+        tracker.clear();
+        return pinned;
+    }
+
+    private static void authenticate(String userId) {
+        JwtUserPrincipal principal = new JwtUserPrincipal(userId, "jane@club.com", "Jane", "Doe", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
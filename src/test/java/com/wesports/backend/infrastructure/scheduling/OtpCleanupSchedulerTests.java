@@ -0,0 +1,86 @@
+package com.wesports.backend.infrastructure.scheduling;
+
+import com.wesports.backend.domain.model.OTP;
+import com.wesports.backend.domain.repository.OTPRepository;
+import com.wesports.backend.domain.valueobject.UserId;
+import com.wesports.backend.infrastructure.persistence.mapper.OTPMapper;
+import com.wesports.backend.infrastructure.persistence.repository.OTPRepositoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the cleanup jobs against the H2 copy of the schema: only OTPs past their validity window go
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:otp-cleanup;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.flyway.locations=classpath:db/loadtest",
+    "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OTPRepositoryAdapter.class, OTPMapper.class, OtpCleanupScheduler.class})
+class OtpCleanupSchedulerTests {
+
+    @Autowired
+    private OTPRepository otpRepository;
+
+    @Autowired
+    private OtpCleanupScheduler scheduler;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void hourlyCleanupKeepsOtpsThatAreStillValid() {
+        OTP fresh = otpRepository.save(new OTP(UserId.of(UUID.randomUUID()), "REGISTRATION"));
+        OTP emailVerified = otpRepository.save(OTP.withCode(UserId.of(UUID.randomUUID()), "EMAIL_VERIFIED", "jti"));
+        OTP almostExpired = otpRepository.save(createdMinutesAgo(9));
+        OTP expired = otpRepository.save(createdMinutesAgo(11));
+
+        run(scheduler::cleanupExpiredOtps);
+
+        assertTrue(otpRepository.findById(fresh.getId()).isPresent());
+        assertTrue(otpRepository.findById(emailVerified.getId()).isPresent());
+        assertTrue(otpRepository.findById(almostExpired.getId()).isPresent());
+        assertFalse(otpRepository.findById(expired.getId()).isPresent());
+    }
+
+    @Test
+    void dailyAndWeeklyCleanupsOnlyRemoveOldRecords() {
+        OTP fresh = otpRepository.save(new OTP(UserId.of(UUID.randomUUID()), "REGISTRATION"));
+        OTP twoDaysOld = otpRepository.save(createdMinutesAgo(2 * 24 * 60));
+        OTP twoWeeksOld = otpRepository.save(createdMinutesAgo(14 * 24 * 60));
+
+        run(scheduler::weeklyDeepCleanup);
+        assertTrue(otpRepository.findById(twoDaysOld.getId()).isPresent());
+        assertFalse(otpRepository.findById(twoWeeksOld.getId()).isPresent());
+
+        run(scheduler::cleanupStaleOtps);
+        assertFalse(otpRepository.findById(twoDaysOld.getId()).isPresent());
+        assertEquals(fresh.getOtpCode(), otpRepository.findById(fresh.getId()).orElseThrow().getOtpCode());
+    }
+
+    /**
+     * The jobs are bulk deletes: flush the saved rows first and forget them afterwards
+     */
+    private void run(Runnable job) {
+        entityManager.flush();
+        job.run();
+        entityManager.clear();
+    }
+
+    private static OTP createdMinutesAgo(long minutes) {
+        return new OTP(UUID.randomUUID(), UserId.of(UUID.randomUUID()), "123456",
+            LocalDateTime.now().minusMinutes(minutes), 0, "REGISTRATION");
+    }
+}
@@ -0,0 +1,188 @@
+package com.wesports.backend.infrastructure.search;
+
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.domain.valueobject.PreferredFoot;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exercises the index's column store directly, without a database; slots are assigned in insertion order
+ */
+class InMemoryPlayerScoutingIndexColumnsTests {
+
+    @Test
+    void upsertOfAnExistingIdReplacesAllItsValues() {
+        InMemoryPlayerScoutingIndex.Columns columns = new InMemoryPlayerScoutingIndex.Columns();
+        UUID id = UUID.randomUUID();
+        columns.upsert(id, Position.ST, Category.U17, PreferredFoot.LEFT, 1.80f, 70f);
+
+        columns.upsert(id, Position.CB, null, null, 1.70f, null);
+
+        assertEquals(1, columns.size());
+        assertEquals(List.of(id), columns.query(byPositionAndMinHeight(Position.CB, 1.70f), 10).playerIds());
+        assertEquals(0, columns.query(byPositionAndMinHeight(Position.ST, null), 10).count());
+        assertEquals(0, columns.query(new PlayerSearchCriteria(null, Set.of(Category.U17), null,
+            null, null, null, null, null, null), 10).count());
+        assertEquals(0, columns.query(new PlayerSearchCriteria(null, null, PreferredFoot.LEFT,
+            null, null, null, null, null, null), 10).count());
+        assertEquals(0, columns.query(byPositionAndMinHeight(Position.CB, 1.75f), 10).count());
+        assertEquals(0, columns.query(new PlayerSearchCriteria(null, null, null,
+            null, null, 0f, 100f, null, null), 10).count());
+    }
+
+    @Test
+    void aRemovedSlotIsReusedWithoutCarryingAnythingOver() {
+        InMemoryPlayerScoutingIndex.Columns columns = new InMemoryPlayerScoutingIndex.Columns();
+        UUID removed = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        columns.upsert(removed, Position.ST, Category.U17, PreferredFoot.LEFT, 1.80f, 70f);
+        columns.upsert(kept, Position.CB, null, null, 1.90f, null);
+
+        columns.remove(removed);
+        columns.remove(removed);
+        UUID added = UUID.randomUUID();
+        columns.upsert(added, null, null, null, null, null);
+
+        assertEquals(2, columns.size());
+        assertEquals(Set.of(kept, added), Set.copyOf(columns.query(PlayerSearchCriteria.any(), 10).playerIds()));
+        assertEquals(0, columns.query(byPositionAndMinHeight(Position.ST, null), 10).count());
+        assertEquals(List.of(kept), columns.query(new PlayerSearchCriteria(null, null, null,
+            0f, 3f, null, null, null, null), 10).playerIds());
+    }
+
+    @Test
+    void queriesCountEveryMatchButReturnAtMostLimitIds() {
+        InMemoryPlayerScoutingIndex.Columns columns = new InMemoryPlayerScoutingIndex.Columns();
+        for (int i = 0; i < 5; i++) {
+            columns.upsert(UUID.randomUUID(), Position.ST, null, null, null, null);
+        }
+
+        assertEquals(5, columns.query(PlayerSearchCriteria.any(), 2).count());
+        assertEquals(2, columns.query(PlayerSearchCriteria.any(), 2).playerIds().size());
+    }
+
+    @Test
+    void sortedColumnRemovesTheRightSlotAmongEqualValues() {
+        InMemoryPlayerScoutingIndex.SortedColumn column = new InMemoryPlayerScoutingIndex.SortedColumn();
+        column.insert(1.80f, 0);
+        column.insert(1.70f, 1);
+        column.insert(1.80f, 2);
+        column.insert(1.80f, 3);
+
+        column.remove(2);
+        column.remove(2);
+        column.remove(7);
+
+        assertEquals(bits(0, 3), column.range(1.80f, 1.80f));
+        assertEquals(bits(0, 1, 3), column.range(null, null));
+    }
+
+    @Test
+    void sortedColumnRangeBoundsAreInclusive() {
+        InMemoryPlayerScoutingIndex.SortedColumn column = new InMemoryPlayerScoutingIndex.SortedColumn();
+        column.insert(1.90f, 2);
+        column.insert(1.70f, 0);
+        column.insert(1.80f, 1);
+        column.insert(Float.NaN, 3);
+
+        assertEquals(bits(0, 1), column.range(1.70f, 1.80f));
+        assertEquals(bits(0), column.range(null, 1.70f));
+        assertEquals(bits(2), column.range(1.90f, null));
+        assertEquals(bits(), column.range(1.75f, 1.79f));
+        assertEquals(bits(), column.range(2.0f, null));
+    }
+
+    @Test
+    void sortedColumnGrowsPastItsInitialCapacity() {
+        InMemoryPlayerScoutingIndex.SortedColumn column = new InMemoryPlayerScoutingIndex.SortedColumn();
+        for (int slot = 0; slot < 3000; slot++) {
+            column.insert(slot % 100, slot);
+        }
+
+        assertEquals(3000, column.range(null, null).cardinality());
+        assertEquals(30, column.range(42f, 42f).cardinality());
+    }
+
+    @Test
+    void bulkLoadedColumnsAnswerLikeUpsertedOnes() {
+        InMemoryPlayerScoutingIndex.Columns upserted = new InMemoryPlayerScoutingIndex.Columns();
+        InMemoryPlayerScoutingIndex.Columns appended = new InMemoryPlayerScoutingIndex.Columns();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            UUID id = UUID.randomUUID();
+            Position position = Position.values()[random.nextInt(Position.values().length)];
+            // Centimetre precision, so many players share a height or a weight
+            Float height = random.nextInt(10) == 0 ? null : 1.50f + random.nextInt(50) / 100f;
+            Float weight = random.nextInt(10) == 0 ? null : (float) (45 + random.nextInt(50));
+            upserted.upsert(id, position, null, null, height, weight);
+            appended.append(id, position, null, null, height, weight);
+        }
+        appended.sortColumns();
+
+        for (float[] bounds : new float[][] {{1.50f, 1.99f}, {1.70f, 1.70f}, {1.62f, 1.81f}, {0f, 1.49f}}) {
+            PlayerSearchCriteria criteria = new PlayerSearchCriteria(null, null, null, bounds[0], bounds[1],
+                60f, 80f, null, null);
+            assertEquals(Set.copyOf(upserted.query(criteria, 5000).playerIds()),
+                Set.copyOf(appended.query(criteria, 5000).playerIds()));
+        }
+    }
+
+    @Test
+    void bulkLoadedColumnsTakeLiveUpsertsAndRemovesAfterSorting() {
+        InMemoryPlayerScoutingIndex.Columns columns = new InMemoryPlayerScoutingIndex.Columns();
+        UUID tall = UUID.randomUUID();
+        UUID small = UUID.randomUUID();
+        columns.append(tall, Position.ST, null, null, 1.90f, null);
+        columns.append(small, Position.ST, null, null, 1.60f, null);
+        columns.sortColumns();
+
+        columns.remove(tall);
+        UUID medium = UUID.randomUUID();
+        columns.upsert(medium, Position.CB, null, null, 1.75f, null);
+
+        assertEquals(List.of(small), columns.query(byPositionAndMinHeight(Position.ST, 1.0f), 10).playerIds());
+        assertEquals(List.of(medium), columns.query(new PlayerSearchCriteria(null, null, null,
+            1.70f, 1.80f, null, null, null, null), 10).playerIds());
+    }
+
+    @Test
+    void sortedColumnSortsAppendedValuesOnce() {
+        InMemoryPlayerScoutingIndex.SortedColumn column = new InMemoryPlayerScoutingIndex.SortedColumn();
+        column.append(1.90f, 0);
+        column.append(-0.0f, 1);
+        column.append(1.70f, 2);
+        column.append(Float.NaN, 3);
+        column.append(1.70f, 4);
+        column.append(-1.5f, 5);
+        column.sort();
+
+        assertEquals(bits(2, 4), column.range(1.70f, 1.70f));
+        assertEquals(bits(1, 5), column.range(null, 0f));
+        assertEquals(bits(1), column.range(0f, 0f));
+        assertEquals(bits(0, 1, 2, 4, 5), column.range(null, null));
+
+        column.remove(4);
+        assertEquals(bits(2), column.range(1.70f, 1.70f));
+    }
+
+    private static PlayerSearchCriteria byPositionAndMinHeight(Position position, Float minHeight) {
+        return new PlayerSearchCriteria(Set.of(position), null, null, minHeight, null, null, null, null, null);
+    }
+
+    private static BitSet bits(int... slots) {
+        BitSet bits = new BitSet();
+        for (int slot : slots) {
+            bits.set(slot);
+        }
+        return bits;
+    }
+}
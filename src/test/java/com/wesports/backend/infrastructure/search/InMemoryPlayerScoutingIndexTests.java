@@ -0,0 +1,229 @@
+package com.wesports.backend.infrastructure.search;
+
+import com.wesports.backend.application.port.outbound.CacheInvalidationBus;
+import com.wesports.backend.domain.model.Player;
+import com.wesports.backend.domain.valueobject.Category;
+import com.wesports.backend.domain.valueobject.PlayerSearchCriteria;
+import com.wesports.backend.domain.valueobject.Position;
+import com.wesports.backend.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.wesports.backend.infrastructure.persistence.routing.ReadYourWritesTracker;
+import com.wesports.backend.infrastructure.persistence.routing.ReplicaDataSourcePool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the index over a routing DataSource whose replica never receives the writes made to the primary,
+ * with an in-memory bus standing in for the events of another node
+ */
+class InMemoryPlayerScoutingIndexTests {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private GatedDataSource replicaGate;
+    private FakeInvalidationBus bus;
+    private InMemoryPlayerScoutingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = database("scouting-primary");
+        DataSource replicaDataSource = database("scouting-replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        replicaGate = new GatedDataSource(replicaDataSource);
+        ReplicaDataSourcePool replicaPool = new ReplicaDataSourcePool(primaryDataSource,
+            Map.of("replica-1", replicaGate), tracker, Duration.ofSeconds(2), "SELECT 0");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaPool, tracker);
+
+        bus = new FakeInvalidationBus();
+        index = new InMemoryPlayerScoutingIndex(new JdbcTemplate(routing),
+            new TransactionTemplate(new DataSourceTransactionManager(routing)), bus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+        primary.execute("SHUTDOWN");
+        replica.execute("SHUTDOWN");
+    }
+
+    @Test
+    void startupRebuildReadsTheReplica() {
+        UUID onReplica = UUID.randomUUID();
+        insert(replica, onReplica, "ST", 1.80f);
+        insert(primary, UUID.randomUUID(), "ST", 1.80f);
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(onReplica), matching(PlayerSearchCriteria.any()));
+    }
+
+    @Test
+    void anotherNodesWriteIsReloadedFromThePrimaryNotTheLaggingReplica() {
+        UUID id = UUID.randomUUID();
+        insert(primary, id, "ST", 1.80f);
+        insert(replica, id, "ST", 1.80f);
+        index.rebuild();
+
+        primary.update("UPDATE players SET position = 'CB', height = 1.90 WHERE id = ?", id);
+        bus.remoteInvalidate(id.toString());
+
+        assertEquals(List.of(id), matching(byPositionAndMinHeight(Position.CB, 1.85f)));
+        assertTrue(matching(byPositionAndMinHeight(Position.ST, null)).isEmpty());
+    }
+
+    @Test
+    void aPlayerDeactivatedOnAnotherNodeIsRemoved() {
+        UUID id = UUID.randomUUID();
+        insert(primary, id, "ST", 1.80f);
+        insert(replica, id, "ST", 1.80f);
+        index.rebuild();
+
+        primary.update("UPDATE players SET active = FALSE WHERE id = ?", id);
+        bus.remoteInvalidate(id.toString());
+
+        assertTrue(matching(PlayerSearchCriteria.any()).isEmpty());
+    }
+
+    @Test
+    void missedEventsRebuildFromThePrimary() throws InterruptedException {
+        index.rebuild();
+        UUID id = UUID.randomUUID();
+        insert(primary, id, "GK", 1.95f);
+
+        bus.listener.invalidateAll();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (matching(PlayerSearchCriteria.any()).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(id), matching(PlayerSearchCriteria.any()));
+    }
+
+    @Test
+    void writesMadeWhileTheRebuildScansAreReplayedOntoTheNewIndex() throws Exception {
+        UUID scanned = UUID.randomUUID();
+        insert(replica, scanned, "ST", 1.80f);
+        replicaGate.close();
+        Thread rebuild = new Thread(index::rebuild);
+        rebuild.start();
+        assertTrue(replicaGate.entered.await(5, TimeUnit.SECONDS));
+
+        Player written = new Player(Position.GK, Category.SENIOR);
+        index.indexAfterCommit(written);
+        replicaGate.release.countDown();
+        rebuild.join(5000);
+
+        assertEquals(Set.of(scanned, written.getId().getValue()), Set.copyOf(matching(PlayerSearchCriteria.any())));
+    }
+
+    @Test
+    void localWritesArePublishedForTheOtherNodes() {
+        Player player = new Player(Position.ST, Category.SENIOR);
+
+        index.indexAfterCommit(player);
+        index.removeAfterCommit(player.getId().getValue());
+
+        String event = "scouting-index " + player.getId().getValue();
+        assertEquals(List.of(event, event), bus.published);
+    }
+
+    private List<UUID> matching(PlayerSearchCriteria criteria) {
+        return index.query(criteria, 100).playerIds();
+    }
+
+    private static PlayerSearchCriteria byPositionAndMinHeight(Position position, Float minHeight) {
+        return new PlayerSearchCriteria(Set.of(position), null, null, minHeight, null, null, null, null, null);
+    }
+
+    private static void insert(JdbcTemplate database, UUID id, String position, float height) {
+        database.update("INSERT INTO players (id, position, height, active) VALUES (?, ?, ?, TRUE)",
+            id, position, height);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS players (id UUID PRIMARY KEY, position VARCHAR(255), " +
+            "category VARCHAR(255), preferred_foot VARCHAR(255), height REAL, weight REAL, active BOOLEAN NOT NULL)");
+        jdbc.update("DELETE FROM players");
+        return dataSource;
+    }
+
+    /**
+     * Once closed, holds every connection request until released
+     */
+    private static class GatedDataSource extends DelegatingDataSource {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean closed;
+
+        GatedDataSource(DataSource target) {
+            super(target);
+        }
+
+        void close() {
+            closed = true;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (closed) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.getConnection();
+        }
+    }
+
+    private static class FakeInvalidationBus implements CacheInvalidationBus {
+        private final List<String> published = new ArrayList<>();
+        private Listener listener;
+
+        @Override
+        public void publishAfterCommit(String cache, String key) {
+            published.add(cache + " " + key);
+        }
+
+        @Override
+        public void subscribe(String cache, Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        void remoteInvalidate(String key) {
+            listener.invalidate(key);
+        }
+    }
+}
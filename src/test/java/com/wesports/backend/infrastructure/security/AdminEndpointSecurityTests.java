@@ -0,0 +1,120 @@
+package com.wesports.backend.infrastructure.security;
+
+import com.wesports.backend.application.port.outbound.AccessTokenService;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.UserRepository;
+import com.wesports.backend.domain.valueobject.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk import and export endpoints through the real filter chain, authenticated with access tokens the way clients are:
+ * only accounts listed in app.security.admin-emails get ROLE_ADMIN
+ */
+@SpringBootTest(properties = "app.security.admin-emails=Admin@Example.com")
+@ActiveProfiles("loadtest")
+@AutoConfigureMockMvc
+class AdminEndpointSecurityTests {
+
+    private static final String ADMIN_EMAIL = "admin@example.com";
+    private static final String USER_EMAIL = "player@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        adminToken = accessToken(ADMIN_EMAIL);
+        userToken = accessToken(USER_EMAIL);
+    }
+
+    @Test
+    void importIsForbiddenForRegularAccounts() throws Exception {
+        mockMvc.perform(importRequest(userToken).with(csrf()))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void importIsAllowedForAdmins() throws Exception {
+        mockMvc.perform(importRequest(adminToken).with(csrf()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void importNeedsACsrfToken() throws Exception {
+        mockMvc.perform(importRequest(adminToken))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void importNeedsAuthentication() throws Exception {
+        mockMvc.perform(post("/api/player/import").with(csrf()).contentType("text/csv").content(csvBody()))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void exportsAreForbiddenForRegularAccounts() throws Exception {
+        mockMvc.perform(get("/api/export/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/export/players").header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void exportsAreAllowedForAdmins() throws Exception {
+        mockMvc.perform(get("/api/export/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/export/players").param("format", "ndjson")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void exportsNeedAuthentication() throws Exception {
+        mockMvc.perform(get("/api/export/users"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private MockHttpServletRequestBuilder importRequest(String token) {
+        return post("/api/player/import")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .contentType("text/csv")
+            .content(csvBody());
+    }
+
+    private static String csvBody() {
+        return "email,firstName,lastName\nimported-" + UUID.randomUUID() + "@example.com,Jane,Doe\n";
+    }
+
+    private String accessToken(String email) {
+        User user = userRepository.findByEmail(Email.of(email)).orElseGet(() -> {
+            User created = new User("Test", "Account", Email.of(email), null, null);
+            created.setEmailVerified(true);
+            return userRepository.save(created);
+        });
+        return accessTokenService.generateAccessToken(user.getId().getValue().toString(), email);
+    }
+}
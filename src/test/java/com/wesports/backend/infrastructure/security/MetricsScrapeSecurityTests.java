@@ -0,0 +1,79 @@
+package com.wesports.backend.infrastructure.security;
+
+import com.wesports.backend.application.port.outbound.AccessTokenService;
+import com.wesports.backend.domain.model.User;
+import com.wesports.backend.domain.repository.UserRepository;
+import com.wesports.backend.domain.valueobject.Email;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The Prometheus scrape endpoint through the real filter chains: only the configured scrape account gets in,
+ * access tokens of regular or admin users do not
+ */
+@SpringBootTest(properties = {
+    "management.endpoints.web.exposure.include=health,prometheus",
+    "app.metrics.scrape-username=scraper",
+    "app.metrics.scrape-password=scrape-secret",
+    "app.security.admin-emails=admin@example.com"
+})
+@ActiveProfiles("loadtest")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsScrapeSecurityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    @Test
+    void theScrapeAccountReadsTheMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "scrape-secret")))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void anonymousScrapesAreChallenged() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isUnauthorized())
+            .andExpect(header().exists(HttpHeaders.WWW_AUTHENTICATE));
+    }
+
+    @Test
+    void aWrongPasswordIsRejected() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "guess")))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void accessTokensDoNotOpenTheScrapeEndpoint() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken("admin@example.com")))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private String accessToken(String email) {
+        User user = userRepository.findByEmail(Email.of(email)).orElseGet(() -> {
+            User created = new User("Test", "Account", Email.of(email), null, null);
+            created.setEmailVerified(true);
+            return userRepository.save(created);
+        });
+        return accessTokenService.generateAccessToken(user.getId().getValue().toString(), email);
+    }
+}
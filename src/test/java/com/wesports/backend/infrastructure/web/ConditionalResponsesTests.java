@@ -0,0 +1,184 @@
+package com.wesports.backend.infrastructure.web;
+
+import com.wesports.backend.application.dto.LanguageResponse;
+import com.wesports.backend.application.dto.PlayerProfileResponse;
+import com.wesports.backend.application.dto.PlayerProfileUpdateRequest;
+import com.wesports.backend.application.dto.PlayerProfileUpdateResponse;
+import com.wesports.backend.application.port.inbound.PlayerProfileService;
+import com.wesports.backend.application.service.AuthenticationContextService;
+import com.wesports.backend.application.service.LanguageService;
+import com.wesports.backend.domain.valueobject.ProfileVersion;
+import com.wesports.backend.domain.valueobject.UserId;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conditional GETs of /api/player/me and /api/languages, calling the controllers directly with the caller
+ * already authenticated; the profile service is a fake whose versions the tests move forward
+ */
+class ConditionalResponsesTests {
+
+    private static final ProfileVersion VERSION = new ProfileVersion(3, 2L, 1);
+
+    private final FakeProfileService profiles = new FakeProfileService();
+    private final PlayerProfileController profileController =
+        new PlayerProfileController(profiles, new AuthenticatedContext());
+
+    @Test
+    void theProfileIsServedWithItsVersionAsAStrongETag() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<PlayerProfileResponse> entity = getProfile(null, response);
+
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        assertEquals("\"" + VERSION.tag() + "\"", response.getHeader(HttpHeaders.ETAG));
+        assertTrue(response.getHeader(HttpHeaders.CACHE_CONTROL).contains("private"));
+        assertTrue(response.getHeader(HttpHeaders.VARY).contains(HttpHeaders.AUTHORIZATION));
+        assertEquals(1, profiles.built);
+    }
+
+    @Test
+    void aMatchingIfNoneMatchIsAnsweredWith304WithoutBuildingTheProfile() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<PlayerProfileResponse> entity = getProfile("\"" + VERSION.tag() + "\"", response);
+
+        assertNull(entity);
+        assertEquals(304, response.getStatus());
+        assertEquals(0, profiles.built);
+    }
+
+    @Test
+    void aProfileAuthMethodOrLanguagesChangeInvalidatesTheTag() {
+        String cached = "\"" + VERSION.tag() + "\"";
+        // Languages are a column of users, so changing them bumps the user version like any profile field
+        List<ProfileVersion> changes = List.of(
+            new ProfileVersion(4, 2L, 1),
+            new ProfileVersion(3, 3L, 1),
+            new ProfileVersion(3, 2L, 2),
+            new ProfileVersion(3, null, 1));
+
+        for (ProfileVersion changed : changes) {
+            profiles.version = changed;
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            ResponseEntity<PlayerProfileResponse> entity = getProfile(cached, response);
+
+            assertEquals(HttpStatus.OK, entity.getStatusCode(), changed.tag());
+            assertEquals("\"" + changed.tag() + "\"", response.getHeader(HttpHeaders.ETAG));
+        }
+        assertEquals(changes.size(), profiles.built);
+    }
+
+    @Test
+    void profileTagsAreDistinctPerVersionTriple() {
+        List<String> tags = List.of(
+            VERSION.tag(),
+            new ProfileVersion(32, null, 1).tag(),
+            new ProfileVersion(3, 21L, 1).tag(),
+            new ProfileVersion(3, 2L, 11).tag(),
+            new ProfileVersion(3, null, 1).tag());
+
+        assertEquals(tags.size(), tags.stream().distinct().count());
+        assertEquals(VERSION.tag(), new ProfileVersion(3, 2L, 1).tag());
+    }
+
+    @Test
+    void theLanguageListGets304UntilALanguageChanges() {
+        FakeLanguageService languages = new FakeLanguageService();
+        LanguageController controller = new LanguageController(languages, new AuthenticatedContext());
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertEquals(HttpStatus.OK, getLanguages(controller, null, first).getStatusCode());
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse unchanged = new MockHttpServletResponse();
+        assertNull(getLanguages(controller, etag, unchanged));
+        assertEquals(304, unchanged.getStatus());
+
+        languages.active.set(1, new LanguageResponse(languages.active.get(1).id(), "Kiswahili", "sw", true));
+        MockHttpServletResponse renamed = new MockHttpServletResponse();
+        assertEquals(HttpStatus.OK, getLanguages(controller, etag, renamed).getStatusCode());
+        assertNotEquals(etag, renamed.getHeader(HttpHeaders.ETAG));
+    }
+
+    private ResponseEntity<PlayerProfileResponse> getProfile(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/me");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return profileController.getCurrentPlayer(request, new ServletWebRequest(request, response));
+    }
+
+    private static ResponseEntity<List<LanguageResponse>> getLanguages(LanguageController controller,
+                                                                       String ifNoneMatch,
+                                                                       MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/languages");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return controller.getActiveLanguages(new ServletWebRequest(request, response));
+    }
+
+    private static class FakeProfileService implements PlayerProfileService {
+        ProfileVersion version = VERSION;
+        int built;
+
+        @Override
+        public PlayerProfileResponse getCurrentPlayerProfile(UserId userId) {
+            built++;
+            return null;
+        }
+
+        @Override
+        public Optional<String> getProfileVersionTag(UserId userId) {
+            return Optional.of(version.tag());
+        }
+
+        @Override
+        public PlayerProfileUpdateResponse updatePlayerProfile(UserId userId, PlayerProfileUpdateRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class FakeLanguageService extends LanguageService {
+        final List<LanguageResponse> active = new ArrayList<>(List.of(
+            new LanguageResponse(UUID.randomUUID(), "English", "en", true),
+            new LanguageResponse(UUID.randomUUID(), "Swahili", "sw", true)));
+
+        FakeLanguageService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public List<LanguageResponse> getActiveLanguages() {
+            return List.copyOf(active);
+        }
+    }
+
+    private static class AuthenticatedContext extends AuthenticationContextService {
+        AuthenticatedContext() {
+            super(null, null);
+        }
+
+        @Override
+        public UserId getAuthenticatedUserId(HttpServletRequest request) {
+            return UserId.of(UUID.fromString("3f2a1b0c-9d8e-4f7a-b6c5-d4e3f2a1b0c9"));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.wesports.backend.infrastructure.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Accept headers against a regular controller (/api/health, negotiated by the registered message converters)
+ * and a precomputed one (/api/onboarding/positions): both must agree on when CBOR is served
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@AutoConfigureMockMvc
+class ContentNegotiationTests {
+
+    private static final String REGULAR = "/api/health";
+    private static final String PRECOMPUTED = "/api/onboarding/positions";
+    private static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory());
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void anyMediaTypeGetsJsonBecauseTheJsonConverterComesFirst() throws Exception {
+        for (String path : List.of(REGULAR, PRECOMPUTED)) {
+            assertJson(request(path, "*/*"), path);
+        }
+    }
+
+    @Test
+    void askingForCborGetsCbor() throws Exception {
+        MockHttpServletResponse health = request(REGULAR, "application/cbor");
+        assertCbor(health, REGULAR);
+        assertEquals("UP", CBOR.readTree(health.getContentAsByteArray()).get("status").asText());
+
+        MockHttpServletResponse positions = request(PRECOMPUTED, "application/cbor");
+        assertCbor(positions, PRECOMPUTED);
+        JsonNode asJson = JSON.readTree(request(PRECOMPUTED, "application/json").getContentAsByteArray());
+        assertEquals(asJson, CBOR.readTree(positions.getContentAsByteArray()));
+    }
+
+    @Test
+    void jsonWinsWhenCborIsOnlyAcceptedWithALowerQuality() throws Exception {
+        for (String path : List.of(REGULAR, PRECOMPUTED)) {
+            assertJson(request(path, "application/cbor;q=0.5, application/json"), path);
+            assertCbor(request(path, "application/json;q=0.5, application/cbor"), path);
+        }
+    }
+
+    @Test
+    void aMalformedAcceptHeaderNeverGetsCbor() throws Exception {
+        MockHttpServletResponse regular = request(REGULAR, "application/");
+        assertEquals(406, regular.getStatus());
+
+        assertJson(request(PRECOMPUTED, "application/"), PRECOMPUTED);
+    }
+
+    private MockHttpServletResponse request(String path, String accept) throws Exception {
+        return mockMvc.perform(get(path).header(HttpHeaders.ACCEPT, accept)).andReturn().getResponse();
+    }
+
+    private static void assertJson(MockHttpServletResponse response, String path) {
+        assertEquals(200, response.getStatus(), path);
+        assertTrue(response.getContentType().startsWith("application/json"), path + ": " + response.getContentType());
+    }
+
+    private static void assertCbor(MockHttpServletResponse response, String path) {
+        assertEquals(200, response.getStatus(), path);
+        assertTrue(response.getContentType().startsWith("application/cbor"), path + ": " + response.getContentType());
+    }
+}
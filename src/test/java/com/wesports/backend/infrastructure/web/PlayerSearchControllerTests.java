@@ -0,0 +1,63 @@
+package com.wesports.backend.infrastructure.web;
+
+import com.wesports.backend.application.dto.PlayerSearchResponse;
+import com.wesports.backend.application.service.AuthenticationContextService;
+import com.wesports.backend.application.service.PlayerSearchServiceImpl;
+import com.wesports.backend.domain.valueobject.PlayerSearchCursor;
+import com.wesports.backend.domain.valueobject.UserId;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Calls the controller directly over the real service and an empty repository, with the caller already authenticated
+ */
+class PlayerSearchControllerTests {
+
+    private final PlayerSearchController controller =
+        new PlayerSearchController(new PlayerSearchServiceImpl((criteria, after, limit) -> List.of(), null),
+            new AuthenticatedContext());
+
+    @Test
+    void aMalformedCursorIsABadRequest() {
+        ResponseEntity<PlayerSearchResponse> response = search("not-a-cursor");
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("error", response.getBody().status());
+        assertEquals("Invalid search cursor", response.getBody().message());
+    }
+
+    @Test
+    void aValidCursorIsServed() {
+        String cursor = new PlayerSearchCursor(LocalDateTime.of(2024, 3, 9, 17, 45), UUID.randomUUID()).encode();
+
+        ResponseEntity<PlayerSearchResponse> response = search(cursor);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("success", response.getBody().status());
+    }
+
+    private ResponseEntity<PlayerSearchResponse> search(String cursor) {
+        return controller.searchPlayers(null, null, null, null, null, null, null, null, null, cursor, 20,
+            new MockHttpServletRequest("GET", "/api/player/search"));
+    }
+
+    private static class AuthenticatedContext extends AuthenticationContextService {
+        AuthenticatedContext() {
+            super(null, null);
+        }
+
+        @Override
+        public UserId getAuthenticatedUserId(HttpServletRequest request) {
+            return UserId.of(UUID.randomUUID());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.wesports.backend.infrastructure.web.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Which rendering an Accept header gets: CBOR only when it is asked for with a higher quality than JSON
+ */
+class NegotiatedPrecomputedResponseTests {
+
+    private static final byte[] JSON = "{\"code\":\"ST\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CBOR = {(byte) 0xA1, 0x64, 'c', 'o', 'd', 'e', 0x62, 'S', 'T'};
+
+    private final NegotiatedPrecomputedResponse negotiated = new NegotiatedPrecomputedResponse(
+        PrecomputedResponse.of(JSON, "application/json", Duration.ofHours(1)),
+        PrecomputedResponse.of(CBOR, "application/cbor", Duration.ofHours(1)));
+
+    @Test
+    void cborIsPreferredOnlyWhenItOutranksJson() {
+        for (String accept : List.of("application/cbor", "application/json;q=0.5, application/cbor",
+                "application/cbor, */*;q=0.1", "APPLICATION/CBOR")) {
+            assertTrue(NegotiatedPrecomputedResponse.prefersCbor(accept), accept);
+        }
+        for (String accept : List.of("*/*", "application/json", "application/cbor;q=0.5, application/json",
+                "application/cbor, application/json", "application/*", "text/html")) {
+            assertFalse(NegotiatedPrecomputedResponse.prefersCbor(accept), accept);
+        }
+    }
+
+    @Test
+    void missingOrMalformedHeadersGetJson() {
+        for (String accept : Arrays.asList(null, "", "  ", "application/", "application/cbor;q=abc", "/cbor")) {
+            assertFalse(NegotiatedPrecomputedResponse.prefersCbor(accept), String.valueOf(accept));
+        }
+    }
+
+    @Test
+    void theChosenRenderingIsWrittenWithItsContentType() throws IOException {
+        MockHttpServletResponse cbor = serve("application/cbor");
+        MockHttpServletResponse json = serve("application/cbor;q=0.5, application/json");
+
+        assertEquals("application/cbor", cbor.getContentType());
+        assertArrayEquals(CBOR, cbor.getContentAsByteArray());
+        assertEquals("application/json", json.getContentType());
+        assertArrayEquals(JSON, json.getContentAsByteArray());
+    }
+
+    private MockHttpServletResponse serve(String accept) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/onboarding/positions");
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        negotiated.writeTo(request, response);
+        return response;
+    }
+}
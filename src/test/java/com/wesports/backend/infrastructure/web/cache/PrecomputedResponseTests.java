@@ -0,0 +1,150 @@
+package com.wesports.backend.infrastructure.web.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Serves a compressible and a tiny body to mock requests with different Accept-Encoding and If-None-Match headers
+ */
+class PrecomputedResponseTests {
+
+    private static final byte[] LARGE = "{\"positions\":[%s]}".formatted(
+        "{\"code\":\"ST\",\"label\":\"Striker\"},".repeat(50) + "{}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TINY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final PrecomputedResponse large = PrecomputedResponse.of(LARGE, "application/json", Duration.ofHours(1));
+
+    @Test
+    void gzipIsServedToClientsThatAcceptIt() throws IOException {
+        MockHttpServletResponse response = serve(large, "GET", "deflate, gzip", null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(gzipETag(), response.getHeader(HttpHeaders.ETAG));
+        assertEquals(String.valueOf(large.getGzipLength()), response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertArrayEquals(LARGE, gunzip(response.getContentAsByteArray()));
+        assertEquals("public, max-age=3600", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals("Accept, Accept-Encoding", response.getHeader(HttpHeaders.VARY));
+    }
+
+    @Test
+    void gzipWithQZeroMeansNotAcceptable() throws IOException {
+        for (String refused : List.of("gzip;q=0", "gzip; q=0", "gzip;q=0.0", "gzip;q=0.000", "br, gzip ; q = 0")) {
+            MockHttpServletResponse response = serve(large, "GET", refused, null);
+
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING), refused);
+            assertEquals(large.getIdentityETag(), response.getHeader(HttpHeaders.ETAG), refused);
+            assertArrayEquals(LARGE, response.getContentAsByteArray(), refused);
+        }
+    }
+
+    @Test
+    void anyOtherWeightStillAcceptsGzip() throws IOException {
+        for (String accepted : List.of("gzip", "GZIP", "gzip;q=1", "gzip;q=0.5", "gzip;q=0.001", "br;q=0, gzip;q=0.1")) {
+            MockHttpServletResponse response = serve(large, "GET", accepted, null);
+
+            assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING), accepted);
+        }
+    }
+
+    @Test
+    void withoutAcceptEncodingTheIdentityBodyIsServed() throws IOException {
+        MockHttpServletResponse response = serve(large, "GET", null, null);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(large.getIdentityETag(), response.getHeader(HttpHeaders.ETAG));
+        assertEquals("application/json", response.getContentType());
+        assertArrayEquals(LARGE, response.getContentAsByteArray());
+    }
+
+    @Test
+    void ifNoneMatchComparesWeaklyAcrossBothEncodings() throws IOException {
+        String identity = large.getIdentityETag();
+        String gzip = gzipETag();
+        String[][] requests = {
+            {"gzip", identity},
+            {null, gzip},
+            {"gzip", "W/" + identity},
+            {null, "W/" + gzip},
+            {"gzip", "\"stale\", " + identity},
+            {null, "*"}
+        };
+        for (String[] request : requests) {
+            MockHttpServletResponse response = serve(large, "GET", request[0], request[1]);
+
+            assertEquals(304, response.getStatus(), request[1]);
+            assertEquals(0, response.getContentAsByteArray().length, request[1]);
+            assertEquals(request[0] != null ? gzip : identity, response.getHeader(HttpHeaders.ETAG), request[1]);
+        }
+    }
+
+    @Test
+    void aStaleTagGetsTheFullBody() throws IOException {
+        MockHttpServletResponse response = serve(large, "GET", null, "\"stale\", W/\"older\"");
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(LARGE, response.getContentAsByteArray());
+    }
+
+    @Test
+    void headGetsTheHeadersWithoutABody() throws IOException {
+        MockHttpServletResponse response = serve(large, "HEAD", "gzip", null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(String.valueOf(large.getGzipLength()), response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void gzipIsOnlyKeptWhenItIsSmaller() throws IOException {
+        PrecomputedResponse tiny = PrecomputedResponse.of(TINY, "application/json", Duration.ofHours(1));
+
+        MockHttpServletResponse response = serve(tiny, "GET", "gzip", null);
+
+        assertEquals(TINY.length, tiny.getGzipLength());
+        assertTrue(large.getGzipLength() < large.getIdentityLength());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(tiny.getIdentityETag(), response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(TINY, response.getContentAsByteArray());
+    }
+
+    private String gzipETag() {
+        String identity = large.getIdentityETag();
+        return identity.substring(0, identity.length() - 1) + "-gz\"";
+    }
+
+    private static MockHttpServletResponse serve(PrecomputedResponse precomputed, String method,
+                                                 String acceptEncoding, String ifNoneMatch) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/onboarding/positions");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        precomputed.writeTo(request, response);
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.wesports.backend.infrastructure.web.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the filter with mock requests on the public registration path, scoped by the body's email;
+ * the chain stands in for the controller and counts how often it runs
+ */
+class IdempotencyKeyFilterTests {
+
+    private static final String PATH = "/api/auth/register/start";
+    private static final String BODY = "{\"email\":\"jane@club.com\",\"firstName\":\"Jane\"}";
+
+    private SimpleMeterRegistry meters;
+    private IdempotencyKeyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        filter = filter(Duration.ofSeconds(5));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void aRetryGetsTheFirstResponseReplayedWithoutRunningAgain() throws Exception {
+        FilterChain chain = respond(201, "{\"status\":\"success\"}");
+
+        MockHttpServletResponse first = send("key-1", BODY, chain);
+        MockHttpServletResponse retry = send("key-1", BODY, chain);
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals("{\"status\":\"success\"}", retry.getContentAsString());
+        assertEquals("application/json", retry.getContentType());
+        assertEquals("abc", retry.getHeader("X-Request-Trace"));
+        assertEquals("true", retry.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertEquals(1.0, outcome("replayed"));
+    }
+
+    @Test
+    void theControllerCanStillReadTheBody() throws Exception {
+        List<String> bodies = new ArrayList<>();
+
+        send("key-1", BODY, (request, response) -> {
+            bodies.add(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            bodies.add(request.getReader().readLine());
+        });
+
+        assertEquals(List.of(BODY, BODY), bodies);
+    }
+
+    @Test
+    void aDuplicateArrivingWhileTheFirstRunsWaitsForItsResponse() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            running.countDown();
+            await(release);
+            response.getWriter().write("done");
+        };
+        Thread first = new Thread(() -> sendQuietly("key-1", BODY, chain));
+        first.start();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse[] duplicate = new MockHttpServletResponse[1];
+        Thread second = new Thread(() -> duplicate[0] = sendQuietly("key-1", BODY, chain));
+        second.start();
+        awaitWaiting(second);
+        release.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        assertEquals(1, executions.get());
+        assertEquals(200, duplicate[0].getStatus());
+        assertEquals("done", duplicate[0].getContentAsString());
+        assertEquals("true", duplicate[0].getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void aDuplicateThatOutwaitsTheTimeoutGetsAConflict() throws Exception {
+        filter = filter(Duration.ofMillis(50));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = new Thread(() -> sendQuietly("key-1", BODY, (request, response) -> {
+            running.countDown();
+            await(release);
+        }));
+        first.start();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse duplicate = send("key-1", BODY, respond(200, "{}"));
+        release.countDown();
+        first.join(5000);
+
+        assertEquals(409, duplicate.getStatus());
+        assertTrue(duplicate.getContentAsString().contains("IDEMPOTENT_REQUEST_IN_PROGRESS"));
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void reusingAKeyForADifferentBodyIsUnprocessable() throws Exception {
+        FilterChain chain = respond(201, "{}");
+        send("key-1", BODY, chain);
+
+        MockHttpServletResponse reused = send("key-1", BODY.replace("Jane", "Janet"), chain);
+
+        assertEquals(1, executions.get());
+        assertEquals(422, reused.getStatus());
+        assertTrue(reused.getContentAsString().contains("IDEMPOTENCY_KEY_REUSED"));
+        assertEquals(1.0, outcome("mismatch"));
+    }
+
+    @Test
+    void serverErrorsAreNotKeptSoTheRetryRunsAgain() throws Exception {
+        send("key-1", BODY, respond(503, "{\"status\":\"error\"}"));
+
+        MockHttpServletResponse retry = send("key-1", BODY, respond(201, "{}"));
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertNull(retry.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertEquals(1.0, outcome("failed"));
+    }
+
+    @Test
+    void aRequestThatThrowsGivesTheKeyUp() throws Exception {
+        assertThrows(ServletException.class, () -> send("key-1", BODY, (request, response) -> {
+            throw new ServletException("boom");
+        }));
+
+        MockHttpServletResponse retry = send("key-1", BODY, respond(201, "{}"));
+
+        assertEquals(201, retry.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void theSameKeyFromAnotherEmailIsAnotherRequest() throws Exception {
+        FilterChain chain = respond(201, "{}");
+        send("key-1", BODY, chain);
+
+        send("key-1", BODY.replace("jane@club.com", "janet@club.com"), chain);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void requestsWithNothingToScopeOnArePassedThrough() throws Exception {
+        FilterChain chain = respond(201, "{}");
+
+        send("key-1", "{\"firstName\":\"Jane\"}", chain);
+        send("key-1", "{\"firstName\":\"Jane\"}", chain);
+
+        assertEquals(2, executions.get());
+        assertEquals(2.0, outcome("unscoped"));
+    }
+
+    @Test
+    void blankOrOversizedKeysAreBadRequests() throws Exception {
+        FilterChain chain = respond(201, "{}");
+
+        assertEquals(400, send(" ", BODY, chain).getStatus());
+        assertEquals(400, send("k".repeat(256), BODY, chain).getStatus());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void nonBlockingReadsAreRejectedOnKeyedRequests() throws Exception {
+        List<RuntimeException> failures = new ArrayList<>();
+
+        send("key-1", BODY, (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            failures.add(assertThrows(UnsupportedOperationException.class, () -> input.setReadListener(null)));
+        });
+
+        assertEquals(1, failures.size());
+    }
+
+    private IdempotencyKeyFilter filter(Duration waitTimeout) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meters);
+        return new IdempotencyKeyFilter(new IdempotencyStore(100, Duration.ofHours(1)), new ObjectMapper(),
+            new MappingJackson2CborHttpMessageConverter(), beans.getBeanProvider(MeterRegistry.class), waitTimeout);
+    }
+
+    private FilterChain respond(int status, String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.setHeader("X-Request-Trace", "abc");
+            http.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse sendQuietly(String key, String body, FilterChain chain) {
+        try {
+            return send(key, body, chain);
+        } catch (ServletException | IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double outcome(String outcome) {
+        return meters.get("http.idempotency.requests").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}